@@ -4,6 +4,7 @@ import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.ATTEND_RA
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.CREATE_RANDOM_DANCE;
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.DELETE_OPEN_RANDOM_DANCE;
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.DELETE_RESERVE_RANDOM_DANCE;
+import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.GENERATE_DANCE_MUSIC;
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.RESERVE_RANDOM_DANCE;
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.SELECT_ALL_ATTEND_RANDOM_DANCE;
 import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.SELECT_ALL_DANCE_MUSIC;
@@ -16,10 +17,11 @@ import static com.pi.stepup.domain.dance.constant.DanceResponseMessage.UPDATE_OP
 
 import com.pi.stepup.domain.dance.constant.ProgressType;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceCreateRequestDto;
+import com.pi.stepup.domain.dance.dto.DanceRequestDto.DancePlaylistGenerateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceSearchRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceUpdateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
-import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchResponseDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchPageResponseDto;
 import com.pi.stepup.domain.dance.service.DanceRedisService;
 import com.pi.stepup.domain.dance.service.DanceService;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
@@ -88,6 +90,22 @@ public class DanceApiController {
         ));
     }
 
+    @Operation(summary = "랜덤 플레이 댄스 노래 목록 생성",
+        description = "노래 개수(size), 전체 재생 시간 상한(maxPlaytime, 초), 가수별 최대 곡 수(maxPerArtist)에 맞춰 "
+            + "노래 신청 좋아요가 많은 노래를 우선해 무작위로 노래 목록을 만든다. 최근 개최한 랜덤 플레이 댄스에 사용한 노래는 후순위로 고른다.")
+    @ApiResponse(responseCode = "200", description = "랜덤 플레이 댄스 노래 목록 생성 완료")
+    @GetMapping("/playlist/generate")
+    public ResponseEntity<ResponseDto<?>> generateDanceMusic
+        (DancePlaylistGenerateRequestDto dancePlaylistGenerateRequestDto) {
+        List<MusicFindResponseDto> playlist
+            = danceService.generatePlaylist(dancePlaylistGenerateRequestDto);
+
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            GENERATE_DANCE_MUSIC.getMessage(),
+            playlist
+        ));
+    }
+
     @Operation(summary = "개최 랜덤 플레이 댄스 사용 노래 목록 조회",
         description = "내가 개최한 랜덤 플레이 댄스에 사용한 노래 목록을 조회한다.")
     @ApiResponse(responseCode = "200", description = "랜덤 플레이 댄스 노래 목록 조회 완료")
@@ -116,14 +134,21 @@ public class DanceApiController {
     }
 
     @Operation(summary = "참여 가능한 랜덤 플레이 댄스 목록 조회",
-        description = "현재 시간과 비교해 참여 가능한 랜덤 플레이 댄스 목록을 조회한다. 인기순(예약자 및 참여자 많은 순), 시작 시간이 현재 시간과 가까운 순으로 정렬한다.")
+        description = "현재 시간과 비교해 참여 가능한 랜덤 플레이 댄스 목록을 조회한다. 인기순(예약자 및 참여자 많은 순), 시작 시간이 현재 시간과 가까운 순으로 정렬한다. "
+            + "size를 지정하면 size개씩 조회하고, 응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회한다.")
     @ApiResponse(responseCode = "200", description = "참여 가능한 랜덤 플레이 댄스 목록 조회 완료")
     @GetMapping("")
     public ResponseEntity<ResponseDto<?>> readAllRandomDance
         (DanceSearchRequestDto danceSearchRequestDto) {
-        List<DanceSearchResponseDto> allDance
+        DanceSearchPageResponseDto page
             = danceRedisService.readAllRandomDance(danceSearchRequestDto);
 
+        //페이지 크기, 커서 없이 요청한 기존 클라이언트에는 목록만 반환
+        Object allDance = page;
+        if (danceSearchRequestDto.getSize() == null && danceSearchRequestDto.getCursor() == null) {
+            allDance = page.getContent();
+        }
+
         if (danceSearchRequestDto.getProgressType().equals(ProgressType.SCHEDULED.toString())) {
             return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
                 SELECT_SCHEDULED_RANDOM_DANCE.getMessage(),
@@ -0,0 +1,38 @@
+package com.pi.stepup.domain.dance.component;
+
+import com.pi.stepup.domain.dance.dao.DanceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * ATTEND_HISTORY (RANDOM_DANCE_ID, USER_ID) 유니크 제약 적용
+ * 제약이 생기기 전에 쌓인 중복 참여 기록이 있으면 스키마 갱신 시 제약을 추가하지 못하므로,
+ * 제약이 없을 때만 중복을 정리한 뒤 제약을 추가 (이미 있으면 아무것도 하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendHistoryMigration {
+
+    private final DanceJdbcRepository danceJdbcRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (danceJdbcRepository.existsAttendUniqueKey()) {
+                return;
+            }
+
+            int deleted = danceJdbcRepository.deleteAllDuplicatedAttend();
+            log.info("[INFO] 중복 참여 기록 삭제 : {}건", deleted);
+            danceJdbcRepository.addAttendUniqueKey();
+            log.info("[INFO] 참여 기록 유니크 제약 추가");
+        } catch (DataAccessException e) {
+            log.error("[ERROR] 참여 기록 유니크 제약 적용 실패 : {}", e.getMessage());
+        }
+    }
+}
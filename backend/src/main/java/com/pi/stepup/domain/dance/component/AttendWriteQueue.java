@@ -0,0 +1,97 @@
+package com.pi.stepup.domain.dance.component;
+
+import com.pi.stepup.domain.dance.dao.DanceJdbcRepository;
+import com.pi.stepup.domain.dance.domain.AttendHistory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 랜덤 플레이 댄스 참여 기록 쓰기 큐
+ * 요청은 큐에 넣은 즉시 응답하고, 모인 참여 기록은 주기적으로 JDBC 배치 insert
+ * 큐가 가득 차면 요청 스레드에서 직접 저장해 유입 속도를 늦춤
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttendWriteQueue {
+
+    private static final int CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    private final DanceJdbcRepository danceJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long FLUSH_TIME = 1000;
+
+    private final BlockingQueue<AttendHistory> queue = new ArrayBlockingQueue<>(CAPACITY);
+
+    public void add(AttendHistory attendHistory) {
+        if (!queue.offer(attendHistory)) {
+            insertEach(List.of(attendHistory));
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_TIME)
+    public synchronized void flush() {
+        List<AttendHistory> attendHistoryList = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(attendHistoryList, BATCH_SIZE) > 0) {
+            if (!write(attendHistoryList)) {
+                break;
+            }
+            attendHistoryList.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * @return 저장에 실패해 큐에 다시 넣었으면 false
+     */
+    private boolean write(List<AttendHistory> attendHistoryList) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> danceJdbcRepository.batchInsertAttend(attendHistoryList));
+        } catch (DataIntegrityViolationException e) {
+            //중복 참여가 섞인 배치는 한 건씩 저장
+            insertEach(attendHistoryList);
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 참여 기록 저장 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+            int dropped = 0;
+            for (AttendHistory attendHistory : attendHistoryList) {
+                if (!queue.offer(attendHistory)) {
+                    dropped++;
+                }
+            }
+            if (dropped > 0) {
+                log.error("[ERROR] 참여 기록 큐 초과로 {}건 유실", dropped);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void insertEach(List<AttendHistory> attendHistoryList) {
+        for (AttendHistory attendHistory : attendHistoryList) {
+            try {
+                danceJdbcRepository.batchInsertAttend(List.of(attendHistory));
+            } catch (DataIntegrityViolationException e) {
+                log.info("[INFO] 저장할 수 없는 참여 기록 무시 (중복 또는 삭제된 랜덤 플레이 댄스)"
+                        + " - randomDanceId : {}, userId : {}",
+                    attendHistory.getRandomDance().getRandomDanceId(),
+                    attendHistory.getUser().getUserId());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pi.stepup.domain.dance.component;
+
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랜덤 플레이 댄스별 노래 목록 캐시
+ * 노래 목록은 개최 시점에 고정되므로 수정/삭제 시에만 제거
+ * 동시에 들어온 첫 요청들은 하나의 조회 결과를 함께 기다림
+ */
+@Component
+public class DancePlaylistCache {
+
+    private static final long EXPIRATION = 600_000;
+    private static final long CLEAN_UP_TIME = 600_000;
+
+    private final Map<Long, Playlist> playlistMap = new ConcurrentHashMap<>();
+
+    public List<MusicFindResponseDto> get(Long randomDanceId,
+        Supplier<List<MusicFindResponseDto>> loader) {
+        Playlist created = new Playlist();
+        Playlist playlist = playlistMap.compute(randomDanceId,
+            (key, cached) -> cached == null || cached.isExpired() ? created : cached);
+
+        if (playlist == created) {
+            try {
+                created.future.complete(List.copyOf(loader.get()));
+            } catch (RuntimeException e) {
+                playlistMap.remove(randomDanceId, created);
+                created.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return playlist.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long randomDanceId) {
+        playlistMap.remove(randomDanceId);
+    }
+
+    @Scheduled(fixedDelay = CLEAN_UP_TIME)
+    public void cleanUp() {
+        playlistMap.values().removeIf(Playlist::isExpired);
+    }
+
+    private static class Playlist {
+
+        private final CompletableFuture<List<MusicFindResponseDto>> future
+            = new CompletableFuture<>();
+        private final long createdAt = System.currentTimeMillis();
+
+        private boolean isExpired() {
+            return future.isDone() && System.currentTimeMillis() - createdAt > EXPIRATION;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.pi.stepup.domain.dance.component;
+
+import com.pi.stepup.domain.dance.dao.DanceRepository;
+import com.pi.stepup.domain.dance.dao.redis.DancePopularityRedisRepository;
+import com.pi.stepup.domain.dance.domain.RandomDance;
+import com.pi.stepup.domain.dance.dto.DanceCursor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 종료되지 않은 랜덤 플레이 댄스의 시작 시간 순 인덱스
+ * 예정/진행 중 구분은 조회 시점(now) 기준으로 나뉘므로 상태 전이를 따로 관리하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DanceScheduleIndex {
+
+    private final DanceRepository danceRepository;
+    private final DancePopularityRedisRepository dancePopularityRedisRepository;
+
+    private final long REFRESH_TIME = 60_000;
+
+    private static final Comparator<Schedule> START_AT_ORDER = Comparator
+        .comparing(Schedule::getStartAt).thenComparing(Schedule::getRandomDanceId);
+
+    private final Map<Long, Schedule> scheduleMap = new ConcurrentHashMap<>();
+    private final NavigableSet<Schedule> startAtIndex
+        = new ConcurrentSkipListSet<>(START_AT_ORDER);
+    // 이 서버에서 삭제한 랜덤 플레이 댄스 id -> 삭제 시각, 삭제 전에 읽은 조회 결과로 다시 추가되지 않도록 함
+    private final Map<Long, Long> removedMap = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * 다른 서버에서 생성/수정/삭제된 랜덤 플레이 댄스 반영 및 종료된 랜덤 플레이 댄스 제거
+     */
+    @Scheduled(fixedDelay = REFRESH_TIME, initialDelay = REFRESH_TIME)
+    public void refresh() {
+        long refreshedAt = System.currentTimeMillis();
+        List<RandomDance> randomDanceList = danceRepository.findAllNotEndedDance();
+
+        Map<Long, Schedule> loaded = new HashMap<>();
+        for (RandomDance randomDance : randomDanceList) {
+            loaded.put(randomDance.getRandomDanceId(), new Schedule(randomDance));
+        }
+
+        //조회 이후 이 서버에서 반영된 변경은 유지
+        List<Long> evictedIdList = new ArrayList<>();
+        for (Schedule schedule : new ArrayList<>(scheduleMap.values())) {
+            if (!loaded.containsKey(schedule.getRandomDanceId())
+                && schedule.getIndexedAt() < refreshedAt) {
+                removeSchedule(schedule.getRandomDanceId());
+                evictedIdList.add(schedule.getRandomDanceId());
+            }
+        }
+        //종료된 랜덤 플레이 댄스는 인기순 목록에서도 제외
+        dancePopularityRedisRepository.removeAll(evictedIdList);
+        for (Schedule schedule : loaded.values()) {
+            if (removedMap.containsKey(schedule.getRandomDanceId())) {
+                continue;
+            }
+            Schedule current = scheduleMap.get(schedule.getRandomDanceId());
+            if (current == null || current.getIndexedAt() < refreshedAt) {
+                put(schedule);
+            }
+        }
+        //삭제 트랜잭션 커밋 전에 읽은 조회 결과도 무시하도록 한 주기 더 유지
+        removedMap.values().removeIf(removedAt -> removedAt < refreshedAt - REFRESH_TIME);
+    }
+
+    public void put(RandomDance randomDance) {
+        removedMap.remove(randomDance.getRandomDanceId());
+        put(new Schedule(randomDance));
+    }
+
+    public synchronized void remove(Long randomDanceId) {
+        removedMap.put(randomDanceId, System.currentTimeMillis());
+        removeSchedule(randomDanceId);
+    }
+
+    public boolean contains(Long randomDanceId) {
+        return scheduleMap.containsKey(randomDanceId);
+    }
+
+    private synchronized void removeSchedule(Long randomDanceId) {
+        Schedule removed = scheduleMap.remove(randomDanceId);
+        if (removed != null) {
+            startAtIndex.remove(removed);
+        }
+    }
+
+    /**
+     * 시작 예정, 시작 시간이 가까운 순
+     */
+    public List<DanceCursor> findScheduledDance(String keyword, LocalDateTime now,
+        DanceCursor cursor, int limit) {
+        Schedule from = Schedule.probe(now, Long.MAX_VALUE);
+        if (cursor != null) {
+            Schedule after = Schedule.probe(cursor.getStartAt(), cursor.getRandomDanceId());
+            if (START_AT_ORDER.compare(after, from) > 0) {
+                from = after;
+            }
+        }
+
+        List<DanceCursor> randomDanceList = new ArrayList<>();
+        for (Schedule schedule : startAtIndex.tailSet(from, false)) {
+            if (randomDanceList.size() >= limit) {
+                break;
+            }
+            if (schedule.matches(keyword)) {
+                randomDanceList.add(schedule.toCursor(0));
+            }
+        }
+        return randomDanceList;
+    }
+
+    /**
+     * 진행 중, 시작 시간이 가까운(최근에 시작한) 순
+     */
+    public List<DanceCursor> findInProgressDance(String keyword, LocalDateTime now,
+        DanceCursor cursor, int limit) {
+        Schedule to = Schedule.probe(now, Long.MAX_VALUE);
+        if (cursor != null) {
+            Schedule before = Schedule.probe(cursor.getStartAt(), cursor.getRandomDanceId());
+            if (START_AT_ORDER.compare(before, to) < 0) {
+                to = before;
+            }
+        }
+
+        List<DanceCursor> randomDanceList = new ArrayList<>();
+        for (Schedule schedule : startAtIndex.headSet(to, false).descendingSet()) {
+            if (randomDanceList.size() >= limit) {
+                break;
+            }
+            if (!schedule.getEndAt().isBefore(now) && schedule.matches(keyword)) {
+                randomDanceList.add(schedule.toCursor(0));
+            }
+        }
+        return randomDanceList;
+    }
+
+    /**
+     * 인기 점수가 같은 랜덤 플레이 댄스 묶음, 시작 시간 빠른 순
+     * cursor 와 점수가 같으면 cursor 이후만 포함 (종료되었거나 인덱스에 없으면 제외)
+     */
+    public List<DanceCursor> findAllDance(String keyword, LocalDateTime now, double score,
+        List<Long> randomDanceIdList, DanceCursor cursor) {
+        Schedule after = cursor == null || cursor.getScore() != score ? null
+            : Schedule.probe(cursor.getStartAt(), cursor.getRandomDanceId());
+
+        List<Schedule> schedules = new ArrayList<>();
+        for (Long randomDanceId : randomDanceIdList) {
+            Schedule schedule = scheduleMap.get(randomDanceId);
+            if (schedule != null && !schedule.getEndAt().isBefore(now)
+                && schedule.matches(keyword)
+                && (after == null || START_AT_ORDER.compare(schedule, after) > 0)) {
+                schedules.add(schedule);
+            }
+        }
+        schedules.sort(START_AT_ORDER);
+
+        List<DanceCursor> randomDanceList = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            randomDanceList.add(schedule.toCursor(score));
+        }
+        return randomDanceList;
+    }
+
+    private synchronized void put(Schedule schedule) {
+        Schedule previous = scheduleMap.put(schedule.getRandomDanceId(), schedule);
+        if (previous != null) {
+            startAtIndex.remove(previous);
+        }
+        startAtIndex.add(schedule);
+    }
+
+    @Getter
+    private static class Schedule {
+
+        private final Long randomDanceId;
+        private final String title;
+        private final String content;
+        private final LocalDateTime startAt;
+        private final LocalDateTime endAt;
+        private final long indexedAt = System.currentTimeMillis();
+
+        private Schedule(RandomDance randomDance) {
+            this(randomDance.getRandomDanceId(), randomDance.getTitle(),
+                randomDance.getContent(), randomDance.getStartAt(), randomDance.getEndAt());
+        }
+
+        private Schedule(Long randomDanceId, String title, String content,
+            LocalDateTime startAt, LocalDateTime endAt) {
+            this.randomDanceId = randomDanceId;
+            this.title = title;
+            this.content = content;
+            this.startAt = startAt;
+            this.endAt = endAt;
+        }
+
+        private static Schedule probe(LocalDateTime startAt, Long randomDanceId) {
+            return new Schedule(randomDanceId, null, null, startAt, null);
+        }
+
+        private DanceCursor toCursor(double score) {
+            return new DanceCursor(score, startAt, randomDanceId);
+        }
+
+        private boolean matches(String keyword) {
+            if (!StringUtils.hasText(keyword)) {
+                return true;
+            }
+            return (title != null && title.contains(keyword))
+                || (content != null && content.contains(keyword));
+        }
+    }
+}
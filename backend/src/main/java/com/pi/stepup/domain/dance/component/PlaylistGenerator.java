@@ -0,0 +1,201 @@
+package com.pi.stepup.domain.dance.component;
+
+import com.pi.stepup.domain.music.component.MusicCatalog;
+import com.pi.stepup.domain.music.dao.MusicApplyRepository;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyPopularityDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랜덤 플레이 댄스 노래 목록 자동 생성
+ * 노래 목록 스냅샷과 노래 신청 좋아요 수로 후보 배열을 미리 만들어 두고,
+ * 요청마다 좋아요 수 가중치 무작위 순서로 재생 시간/가수별 곡 수 조건을 만족하는 노래를 고름
+ * 전체를 정렬하지 않고 앞의 size * CANDIDATE_FACTOR 개만 힙으로 골라 그 안에서 고름
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaylistGenerator {
+
+    private final MusicCatalog musicCatalog;
+    private final MusicApplyRepository musicApplyRepository;
+
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private final long POPULARITY_REFRESH_TIME = 600_000;
+
+    private volatile Map<String, Long> popularityMap = new HashMap<>();
+    private volatile Candidates candidates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refreshPopularity();
+    }
+
+    @Scheduled(fixedDelay = POPULARITY_REFRESH_TIME, initialDelay = POPULARITY_REFRESH_TIME)
+    public void refreshPopularity() {
+        Map<String, Long> loaded = new HashMap<>();
+        for (MusicApplyPopularityDto popularity : musicApplyRepository.findAllPopularity()) {
+            loaded.merge(toMusicKey(popularity.getTitle(), popularity.getArtist()),
+                popularity.getHeartCnt() == null ? 0L : popularity.getHeartCnt(), Long::sum);
+        }
+        popularityMap = loaded;
+        candidates = null;
+    }
+
+    /**
+     * @param size           노래 개수
+     * @param maxPlaytime    전체 재생 시간 상한(초), null이면 제한 없음
+     * @param maxPerArtist   가수별 최대 곡 수
+     * @param recentMusicIds 최근 사용한 노래 (다른 노래로 채우지 못할 때만 사용)
+     */
+    public List<MusicFindResponseDto> generate(int size, Integer maxPlaytime, int maxPerArtist,
+        Collection<Long> recentMusicIds) {
+        Candidate[] candidateArray = getCandidates().array;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        //가중치 무작위 비복원 추출(Efraimidis-Spirakis) : 최근 사용하지 않은 노래 먼저, log(u) / w 가 큰 순서
+        Set<Long> recentMusicIdSet = new HashSet<>(recentMusicIds);
+        boolean[] recent = new boolean[candidateArray.length];
+        double[] keys = new double[candidateArray.length];
+        for (int i = 0; i < candidateArray.length; i++) {
+            recent[i] = recentMusicIdSet.contains(candidateArray[i].music.getMusicId());
+            keys[i] = Math.log(1.0 - random.nextDouble()) / candidateArray[i].weight;
+        }
+        Comparator<Integer> order = (a, b) -> recent[a] != recent[b]
+            ? Boolean.compare(recent[a], recent[b]) : Double.compare(keys[b], keys[a]);
+
+        //앞의 size * CANDIDATE_FACTOR 개로 채우지 못한 경우에만 후보를 늘려 다시 고름
+        int candidateCnt = Math.min(candidateArray.length, Math.max(size, 1) * CANDIDATE_FACTOR);
+        while (true) {
+            List<MusicFindResponseDto> playlist = select(candidateArray,
+                top(candidateArray.length, candidateCnt, order), size, maxPlaytime, maxPerArtist);
+            if (playlist.size() >= size || candidateCnt >= candidateArray.length) {
+                return playlist;
+            }
+            candidateCnt = (int) Math.min(candidateArray.length, candidateCnt * 2L);
+        }
+    }
+
+    /**
+     * 크기가 count인 힙으로 order 기준 앞의 count개 index를 앞에서부터 반환, O(n log count)
+     */
+    private static int[] top(int n, int count, Comparator<Integer> order) {
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(count, 1), order.reversed());
+        for (int i = 0; i < n; i++) {
+            if (heap.size() < count) {
+                heap.add(i);
+            } else if (order.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        int[] indexes = new int[heap.size()];
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            indexes[i] = heap.poll();
+        }
+        return indexes;
+    }
+
+    private static List<MusicFindResponseDto> select(Candidate[] candidateArray, int[] indexes,
+        int size, Integer maxPlaytime, int maxPerArtist) {
+        List<MusicFindResponseDto> playlist = new ArrayList<>();
+        Map<String, Integer> artistCntMap = new HashMap<>();
+        long totalPlaytime = 0;
+        for (int index : indexes) {
+            if (playlist.size() >= size) {
+                break;
+            }
+
+            Candidate candidate = candidateArray[index];
+            if (artistCntMap.getOrDefault(candidate.artistKey, 0) >= maxPerArtist) {
+                continue;
+            }
+            if (maxPlaytime != null && (candidate.playtime <= 0
+                || totalPlaytime + candidate.playtime > maxPlaytime)) {
+                continue;
+            }
+
+            playlist.add(candidate.music);
+            artistCntMap.merge(candidate.artistKey, 1, Integer::sum);
+            totalPlaytime += candidate.playtime;
+        }
+        return playlist;
+    }
+
+    /**
+     * 노래 목록 스냅샷이 바뀌었거나 좋아요 수를 다시 읽은 경우에만 후보 배열을 새로 만듦
+     */
+    private Candidates getCandidates() {
+        List<MusicFindResponseDto> musicList = musicCatalog.findAll(null);
+        Candidates current = candidates;
+        if (current != null && current.musicList == musicList) {
+            return current;
+        }
+
+        Map<String, Long> popularity = popularityMap;
+        Candidate[] array = new Candidate[musicList.size()];
+        for (int i = 0; i < musicList.size(); i++) {
+            MusicFindResponseDto music = musicList.get(i);
+            long heartCnt = popularity.getOrDefault(
+                toMusicKey(music.getTitle(), music.getArtist()), 0L);
+            array[i] = new Candidate(music, toKey(music.getArtist()),
+                music.getPlaytime() == null ? 0 : music.getPlaytime(),
+                1.0 + Math.log1p(heartCnt));
+        }
+
+        current = new Candidates(musicList, array);
+        candidates = current;
+        return current;
+    }
+
+    private static String toMusicKey(String title, String artist) {
+        return toKey(title) + "\n" + toKey(artist);
+    }
+
+    private static String toKey(String text) {
+        return text == null ? "" : text.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Candidates {
+
+        private final List<MusicFindResponseDto> musicList;
+        private final Candidate[] array;
+
+        private Candidates(List<MusicFindResponseDto> musicList, Candidate[] array) {
+            this.musicList = musicList;
+            this.array = array;
+        }
+    }
+
+    private static class Candidate {
+
+        private final MusicFindResponseDto music;
+        private final String artistKey;
+        private final int playtime;
+        private final double weight;
+
+        private Candidate(MusicFindResponseDto music, String artistKey, int playtime,
+            double weight) {
+            this.music = music;
+            this.artistKey = artistKey;
+            this.playtime = playtime;
+            this.weight = weight;
+        }
+    }
+}
@@ -7,8 +7,11 @@ public enum DanceExceptionMessage {
     DANCE_DELETE_FORBIDDEN("랜덤 플레이 댄스 삭제 권한 없음"),
     DANCE_INVALID_TIME("유효하지 않은 시간"),
     DANCE_INVALID_MUSIC("유효하지 않은 노래 개수(10곡 이상 50곡 이하만 가능)"),
+    DANCE_INVALID_CURSOR("유효하지 않은 페이지 커서"),
+    DANCE_INVALID_PAGE_SIZE("유효하지 않은 페이지 크기(1 이상 100 이하만 가능)"),
     RESERVATION_DUPLICATED("랜덤 플레이 댄스 예약 중복"),
     RESERVATION_IMPOSSIBLE("랜덤 플레이 댄스 예약 불가(본인이 개최한 랜덤 플래이 댄스)"),
+    RESERVATION_FULL("랜덤 플레이 댄스 예약 불가(최대 인원 초과)"),
     RESERVATION_DELETE_FORBIDDEN("랜덤 플레이 댄스 예약 취소 권한 없음"),
     ATTEND_DUPLICATED("랜덤 플레이 댄스 참여 중복(이미 DB에 삽입된 데이터)");
 
@@ -7,6 +7,7 @@ public enum DanceResponseMessage {
     DELETE_OPEN_RANDOM_DANCE("랜덤 플레이 댄스 삭제 완료"),
     SELECT_ALL_OPEN_RANDOM_DANCE("내가 개최한 랜덤 플레이 댄스 목록 조회 완료"),
     SELECT_ALL_DANCE_MUSIC("랜덤 플레이 댄스 노래 목록 조회 완료"),
+    GENERATE_DANCE_MUSIC("랜덤 플레이 댄스 노래 목록 생성 완료"),
     SELECT_ALL_RANDOM_DANCE("참여 가능한 랜덤 플레이 댄스 목록 조회 완료"),
     SELECT_IN_PROGRESS_RANDOM_DANCE("진행 중인 랜덤 플레이 댄스 목록 조회 완료"),
     SELECT_SCHEDULED_RANDOM_DANCE("진행 예정된 랜덤 플레이 댄스 목록 조회 완료"),
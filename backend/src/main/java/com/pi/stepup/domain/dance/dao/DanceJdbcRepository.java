@@ -0,0 +1,99 @@
+package com.pi.stepup.domain.dance.dao;
+
+import com.pi.stepup.domain.dance.domain.AttendHistory;
+import com.pi.stepup.domain.dance.domain.Reservation;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * IDENTITY 전략으로 인해 JPA 배치 insert가 동작하지 않는 대량 쓰기를 JDBC 배치로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class DanceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] batchInsertReservation(List<Reservation> reservationList) {
+        if (reservationList.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Reservation reservation : reservationList) {
+            batchArgs.add(new Object[]{reservation.getUser().getUserId(),
+                reservation.getRandomDance().getRandomDanceId(), now, now});
+        }
+
+        return jdbcTemplate.batchUpdate("INSERT INTO reservation "
+            + "(user_id, random_dance_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?)", batchArgs);
+    }
+
+    public int[] batchInsertAttend(List<AttendHistory> attendHistoryList) {
+        if (attendHistoryList.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (AttendHistory attendHistory : attendHistoryList) {
+            batchArgs.add(new Object[]{attendHistory.getUser().getUserId(),
+                attendHistory.getRandomDance().getRandomDanceId(), now, now});
+        }
+
+        return jdbcTemplate.batchUpdate("INSERT INTO attend_history "
+            + "(user_id, random_dance_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?)", batchArgs);
+    }
+
+    public boolean existsAttendUniqueKey() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) "
+                + "FROM information_schema.table_constraints "
+                + "WHERE table_schema = SCHEMA() "
+                + "AND UPPER(table_name) = 'ATTEND_HISTORY' "
+                + "AND UPPER(constraint_name) = UPPER(?)",
+            Integer.class, AttendHistory.UNIQUE_KEY);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 같은 랜덤 플레이 댄스에 중복된 참여 기록은 가장 먼저 저장된 것만 남기고 삭제
+     */
+    public int deleteAllDuplicatedAttend() {
+        return jdbcTemplate.update("DELETE FROM attend_history "
+            + "WHERE attend_history_id NOT IN (SELECT k.attend_history_id FROM "
+            + "(SELECT MIN(attend_history_id) AS attend_history_id FROM attend_history "
+            + "GROUP BY random_dance_id, user_id) k)");
+    }
+
+    public void addAttendUniqueKey() {
+        jdbcTemplate.execute("ALTER TABLE attend_history ADD CONSTRAINT "
+            + AttendHistory.UNIQUE_KEY + " UNIQUE (random_dance_id, user_id)");
+    }
+
+    /**
+     * 노래 목록 순서(danceMusicId 오름차순)가 요청 순서와 같도록 순서대로 insert
+     */
+    public int[] batchInsertDanceMusic(Long randomDanceId, List<Long> musicIdList) {
+        if (musicIdList.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long musicId : musicIdList) {
+            batchArgs.add(new Object[]{musicId, randomDanceId, now, now});
+        }
+
+        return jdbcTemplate.batchUpdate("INSERT INTO dance_music "
+            + "(music_id, random_dance_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?)", batchArgs);
+    }
+}
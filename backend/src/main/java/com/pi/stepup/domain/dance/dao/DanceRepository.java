@@ -4,6 +4,9 @@ import com.pi.stepup.domain.dance.domain.AttendHistory;
 import com.pi.stepup.domain.dance.domain.DanceMusic;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.domain.Reservation;
+import com.pi.stepup.domain.dance.dto.statistics.DancePopularityDto;
+import com.pi.stepup.domain.dance.dto.statistics.DanceReservationCountDto;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +22,18 @@ public interface DanceRepository {
 
     List<DanceMusic> findAllDanceMusic(Long randomDanceId);
 
+    List<Long> findAllRecentDanceMusicId(String hostId, LocalDateTime startAt);
+
     List<RandomDance> findAllMyOpenDance(String id);
 
     List<RandomDance> findAllDance(String keyword);
 
+    List<RandomDance> findAllNotEndedDance();
+
+    List<RandomDance> findAllByRandomDanceIdList(List<Long> randomDanceIdList);
+
+    List<DancePopularityDto> findAllDancePopularity();
+
     List<RandomDance> findScheduledDance(String keyword);
 
     List<RandomDance> findInProgressDance(String keyword);
@@ -32,15 +43,24 @@ public interface DanceRepository {
 
     Optional<Reservation> findReservationByRandomDanceIdAndUserId(Long randomDanceId, Long userId);
 
+    List<String> findAllReserverIdByRandomDanceId(Long randomDanceId);
+
+    List<DanceReservationCountDto> countAllReservationByRandomDanceIdList(
+        List<Long> randomDanceIdList);
+
+    List<Long> findAllReservedRandomDanceId(Long userId);
+
     Optional<Reservation> findReservationByReservationIdAndRandomDanceId
         (Long reservationId, Long randomDanceId);
 
-    void deleteReservation(Long randomDanceId, Long userId);
+    int deleteReservation(Long randomDanceId, Long userId);
 
     void deleteAllReservationByUserId(Long userId);
 
     List<Reservation> findAllMyReservation(Long userId);
 
+    List<Reservation> findAllReservationByUserIdList(List<Long> userIdList);
+
     AttendHistory insertAttend(AttendHistory attendHistory);
 
     void deleteAllAttendByUserId(Long userId);
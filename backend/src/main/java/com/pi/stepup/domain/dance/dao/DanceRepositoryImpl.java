@@ -4,6 +4,10 @@ import com.pi.stepup.domain.dance.domain.AttendHistory;
 import com.pi.stepup.domain.dance.domain.DanceMusic;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.domain.Reservation;
+import com.pi.stepup.domain.dance.dto.statistics.DancePopularityDto;
+import com.pi.stepup.domain.dance.dto.statistics.DanceReservationCountDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
@@ -52,11 +56,23 @@ public class DanceRepositoryImpl implements DanceRepository {
     @Override
     public List<DanceMusic> findAllDanceMusic(Long randomDanceId) {
         return em.createQuery("SELECT d FROM DanceMusic d "
-                + "WHERE d.randomDance.randomDanceId = :randomDanceId", DanceMusic.class)
+                + "JOIN FETCH d.music "
+                + "WHERE d.randomDance.randomDanceId = :randomDanceId "
+                + "ORDER BY d.danceMusicId", DanceMusic.class)
             .setParameter("randomDanceId", randomDanceId)
             .getResultList();
     }
 
+    @Override
+    public List<Long> findAllRecentDanceMusicId(String hostId, LocalDateTime startAt) {
+        return em.createQuery("SELECT DISTINCT d.music.musicId FROM DanceMusic d "
+                + "WHERE d.randomDance.host.id = :hostId "
+                + "AND d.randomDance.startAt >= :startAt", Long.class)
+            .setParameter("hostId", hostId)
+            .setParameter("startAt", startAt)
+            .getResultList();
+    }
+
     @Override
     public List<RandomDance> findAllMyOpenDance(String id) {
         return em.createQuery("SELECT r FROM RandomDance r "
@@ -85,6 +101,37 @@ public class DanceRepositoryImpl implements DanceRepository {
         return em.createQuery(sql, RandomDance.class).getResultList();
     }
 
+    @Override
+    public List<RandomDance> findAllNotEndedDance() {
+        return em.createQuery("SELECT r FROM RandomDance r "
+                + "WHERE r.endAt >= now()", RandomDance.class)
+            .getResultList();
+    }
+
+    @Override
+    public List<RandomDance> findAllByRandomDanceIdList(List<Long> randomDanceIdList) {
+        return em.createQuery("SELECT r FROM RandomDance r "
+                + "JOIN FETCH r.host "
+                + "WHERE r.randomDanceId IN :randomDanceIdList", RandomDance.class)
+            .setParameter("randomDanceIdList", randomDanceIdList)
+            .getResultList();
+    }
+
+    @Override
+    public List<DancePopularityDto> findAllDancePopularity() {
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.dance.dto.statistics.DancePopularityDto"
+                    + "(r.randomDanceId, COUNT(DISTINCT a), COUNT(DISTINCT s)) "
+                    + "FROM RandomDance r "
+                    + "LEFT JOIN AttendHistory a "
+                    + "ON r.randomDanceId = a.randomDance.randomDanceId "
+                    + "LEFT JOIN Reservation s "
+                    + "ON r.randomDanceId = s.randomDance.randomDanceId "
+                    + "WHERE r.endAt >= now() "
+                    + "GROUP BY r.randomDanceId", DancePopularityDto.class)
+            .getResultList();
+    }
+
     @Override
     public List<RandomDance> findScheduledDance(String keyword) {
         String sql = "SELECT r FROM RandomDance r "
@@ -149,6 +196,39 @@ public class DanceRepositoryImpl implements DanceRepository {
         }
     }
 
+    @Override
+    public List<String> findAllReserverIdByRandomDanceId(Long randomDanceId) {
+        return em.createQuery("SELECT r.user.id FROM Reservation r "
+                + "WHERE r.randomDance.randomDanceId = :randomDanceId", String.class)
+            .setParameter("randomDanceId", randomDanceId)
+            .getResultList();
+    }
+
+    @Override
+    public List<DanceReservationCountDto> countAllReservationByRandomDanceIdList(
+        List<Long> randomDanceIdList) {
+        if (randomDanceIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery("SELECT new com.pi.stepup.domain.dance.dto.statistics"
+                + ".DanceReservationCountDto(r.randomDance.randomDanceId, COUNT(r)) "
+                + "FROM Reservation r "
+                + "WHERE r.randomDance.randomDanceId IN :randomDanceIdList "
+                + "GROUP BY r.randomDance.randomDanceId", DanceReservationCountDto.class)
+            .setParameter("randomDanceIdList", randomDanceIdList)
+            .getResultList();
+    }
+
+    @Override
+    public List<Long> findAllReservedRandomDanceId(Long userId) {
+        return em.createQuery("SELECT r.randomDance.randomDanceId FROM Reservation r "
+                + "WHERE r.user.userId = :userId "
+                + "AND r.randomDance.startAt > now() ", Long.class)
+            .setParameter("userId", userId)
+            .getResultList();
+    }
+
     @Override
     public Optional<Reservation> findReservationByReservationIdAndRandomDanceId(Long reservationId,
         Long randomDanceId) {
@@ -169,8 +249,8 @@ public class DanceRepositoryImpl implements DanceRepository {
     }
 
     @Override
-    public void deleteReservation(Long randomDanceId, Long userId) {
-        em.createQuery("DELETE FROM Reservation r "
+    public int deleteReservation(Long randomDanceId, Long userId) {
+        return em.createQuery("DELETE FROM Reservation r "
                 + "WHERE r.randomDance.randomDanceId = :randomDanceId "
                 + "AND r.user.userId = :userId")
             .setParameter("randomDanceId", randomDanceId)
@@ -196,6 +276,18 @@ public class DanceRepositoryImpl implements DanceRepository {
             .getResultList();
     }
 
+    @Override
+    public List<Reservation> findAllReservationByUserIdList(List<Long> userIdList) {
+        if (userIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery("SELECT r FROM Reservation r "
+                + "WHERE r.user.userId IN :userIdList", Reservation.class)
+            .setParameter("userIdList", userIdList)
+            .getResultList();
+    }
+
 
     @Override
     public AttendHistory insertAttend(AttendHistory attendHistory) {
@@ -0,0 +1,37 @@
+package com.pi.stepup.domain.dance.dao.redis;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 랜덤 플레이 댄스 참여 중복 확인
+ * attend:{randomDanceId}:{userId} - 참여 요청이 접수된 사용자
+ * 키가 만료된 뒤의 중복은 ATTEND_HISTORY 유니크 제약으로 걸러짐
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendRedisRepository {
+
+    private static final Duration EXPIRATION = Duration.ofDays(1);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getAttendKey(Long randomDanceId, Long userId) {
+        return "attend:" + randomDanceId + ":" + userId;
+    }
+
+    /**
+     * @return 처음 접수된 참여이면 true
+     */
+    public boolean attend(Long randomDanceId, Long userId) {
+        Boolean result = redisTemplate.opsForValue()
+            .setIfAbsent(getAttendKey(randomDanceId, userId), 1, EXPIRATION);
+        return result != null && result;
+    }
+
+    public void cancel(Long randomDanceId, Long userId) {
+        redisTemplate.delete(getAttendKey(randomDanceId, userId));
+    }
+}
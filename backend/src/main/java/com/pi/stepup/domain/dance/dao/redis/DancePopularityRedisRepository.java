@@ -0,0 +1,132 @@
+package com.pi.stepup.domain.dance.dao.redis;
+
+import com.pi.stepup.domain.dance.constant.ProgressType;
+import com.pi.stepup.domain.dance.dto.statistics.DancePopularityDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 랜덤 플레이 댄스 인기순 정렬용 sorted set
+ * score = 참여자 수 * ATTEND_WEIGHT + 예약자 수 (참여자 수 우선, 같으면 예약자 수)
+ * DB로 다시 만든 sorted set에는 BUILT_MARKER(-inf)를 함께 넣고, 증감은 BUILT_MARKER가 있을 때만 반영
+ * (만료/삭제 후 증감이 일부만 들어간 set을 만들어 다시 만들기를 막지 않도록 같은 키에 둠)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DancePopularityRedisRepository {
+
+    private static final String POPULARITY_KEY = "dance:popularity:" + ProgressType.ALL;
+    private static final double ATTEND_WEIGHT = 1_000_000;
+    private static final double RESERVATION_WEIGHT = 1;
+    private static final String BUILT_MARKER = "built";
+
+    // KEYS[1] 인기순 sorted set, ARGV[1] BUILT_MARKER, ARGV[2] randomDanceId, ARGV[3] 증감
+    // 반환 : 반영했으면 1, 다시 만들기 전이면 0
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('ZSCORE', KEYS[1], ARGV[1]) == false then return 0 end "
+            + "redis.call('ZINCRBY', KEYS[1], ARGV[3], ARGV[2]) "
+            + "return 1", Long.class);
+
+    // KEYS[1] 인기순 sorted set, ARGV[1] BUILT_MARKER, ARGV[2] randomDanceId
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('ZSCORE', KEYS[1], ARGV[1]) == false then return 0 end "
+            + "redis.call('ZADD', KEYS[1], 'NX', 0, ARGV[2]) "
+            + "return 1", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * DB로 다시 만든 뒤 만료/삭제되지 않았으면 true (랜덤 플레이 댄스가 없어도 BUILT_MARKER는 있음)
+     */
+    public boolean isBuilt() {
+        return redisTemplate.opsForZSet().score(POPULARITY_KEY, BUILT_MARKER) != null;
+    }
+
+    public void add(Long randomDanceId) {
+        redisTemplate.execute(ADD_SCRIPT, List.of(POPULARITY_KEY), BUILT_MARKER, randomDanceId);
+    }
+
+    public void remove(Long randomDanceId) {
+        redisTemplate.opsForZSet().remove(POPULARITY_KEY, randomDanceId);
+    }
+
+    public void removeAll(Collection<Long> randomDanceIds) {
+        if (randomDanceIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(POPULARITY_KEY, randomDanceIds.toArray());
+    }
+
+    public void increaseAttend(Long randomDanceId) {
+        increase(randomDanceId, ATTEND_WEIGHT);
+    }
+
+    public void increaseReservation(Long randomDanceId) {
+        increase(randomDanceId, RESERVATION_WEIGHT);
+    }
+
+    public void decreaseReservation(Long randomDanceId) {
+        increase(randomDanceId, -RESERVATION_WEIGHT);
+    }
+
+    /**
+     * score 가 maxScore 이하인 랜덤 플레이 댄스 id와 score, score 높은 순으로 offset 부터 count 개
+     * BUILT_MARKER(-inf)는 항상 마지막이므로 제외하면 마지막 묶음만 count 보다 적어짐
+     */
+    public List<TypedTuple<Object>> findAllByMaxScore(double maxScore, long offset, long count) {
+        List<TypedTuple<Object>> popularityList = new ArrayList<>();
+        Set<TypedTuple<Object>> tuples = redisTemplate.opsForZSet().reverseRangeByScoreWithScores(
+            POPULARITY_KEY, Double.NEGATIVE_INFINITY, maxScore, offset, count);
+        if (tuples != null) {
+            for (TypedTuple<Object> tuple : tuples) {
+                if (!BUILT_MARKER.equals(tuple.getValue())) {
+                    popularityList.add(tuple);
+                }
+            }
+        }
+        return popularityList;
+    }
+
+    /**
+     * 기존 set을 지우고 DB 집계로 다시 만든 뒤 BUILT_MARKER 추가
+     */
+    public void rebuild(List<DancePopularityDto> dancePopularityList) {
+        Set<TypedTuple<Object>> tuples = new HashSet<>();
+        for (DancePopularityDto dancePopularity : dancePopularityList) {
+            double score = dancePopularity.getAttendCnt() * ATTEND_WEIGHT
+                + dancePopularity.getReservationCnt() * RESERVATION_WEIGHT;
+            tuples.add(new DefaultTypedTuple<>(dancePopularity.getRandomDanceId(), score));
+        }
+        tuples.add(new DefaultTypedTuple<>(BUILT_MARKER, Double.NEGATIVE_INFINITY));
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.multi();
+                redisOperations.delete(POPULARITY_KEY);
+                redisOperations.opsForZSet().add(POPULARITY_KEY, tuples);
+                return redisOperations.exec();
+            }
+        });
+    }
+
+    private void increase(Long randomDanceId, double delta) {
+        redisTemplate.execute(INCREASE_SCRIPT, List.of(POPULARITY_KEY), BUILT_MARKER,
+            randomDanceId, delta);
+    }
+}
@@ -0,0 +1,253 @@
+package com.pi.stepup.domain.dance.dao.redis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 랜덤 플레이 댄스 예약 캐시
+ * reservation:{userId} - 사용자가 예약한 랜덤 플레이 댄스 id
+ * dance:{randomDanceId}:reservers - 랜덤 플레이 댄스를 예약한 사용자 id
+ * dirty:reservation - DB에 반영되지 않은 예약 변경이 있는 사용자 id
+ * dirty:reservation:processing - dirty:reservation에서 꺼내 DB에 반영 중인 사용자 id (커밋 후 제거)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationRedisRepository {
+
+    public static final long RESERVATION_SUCCESS = 0;
+    public static final long RESERVATION_DUPLICATED = 1;
+    public static final long RESERVATION_FULL = 2;
+
+    private static final String DIRTY_KEY = "dirty:reservation";
+    private static final String PROCESSING_KEY = "dirty:reservation:processing";
+
+    // KEYS[1] 사용자 예약 set, KEYS[2] 랜덤 플레이 댄스 예약자 set
+    // ARGV[1] randomDanceId, ARGV[2] userId, ARGV[3] maxUser, ARGV[4] ttl(ms)
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 "
+            + "or redis.call('SISMEMBER', KEYS[2], ARGV[2]) == 1 then return 1 end "
+            + "local maxUser = tonumber(ARGV[3]) "
+            + "if maxUser > 0 and redis.call('SCARD', KEYS[2]) >= maxUser then return 2 end "
+            + "local isNew = redis.call('EXISTS', KEYS[1]) == 0 "
+            + "redis.call('SADD', KEYS[1], ARGV[1]) "
+            + "redis.call('SADD', KEYS[2], ARGV[2]) "
+            + "if isNew then redis.call('PEXPIRE', KEYS[1], ARGV[4]) end "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+            + "return 0", Long.class);
+
+    // KEYS[1] dirty:reservation, KEYS[2] dirty:reservation:processing, ARGV[1] 꺼낼 개수
+    // 꺼낸 사용자는 커밋 전에 서버가 종료되어도 남도록 processing set으로 옮김
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DIRTY_SCRIPT = new DefaultRedisScript<>(
+        "local ids = redis.call('SPOP', KEYS[1], ARGV[1]) "
+            + "if #ids > 0 then redis.call('SADD', KEYS[2], unpack(ids)) end "
+            + "return ids", List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getReservationKey(String loginUserId) {
+        return "reservation:" + loginUserId;
+    }
+
+    public static String getReserversKey(Long randomDanceId) {
+        return "dance:" + randomDanceId + ":reservers";
+    }
+
+    /**
+     * 인원 확인, 사용자/랜덤 플레이 댄스 양쪽 set 추가, TTL 설정을 한 번에 처리
+     *
+     * @return RESERVATION_SUCCESS, RESERVATION_DUPLICATED, RESERVATION_FULL 중 하나
+     */
+    public long reserve(String loginUserId, Long randomDanceId, int maxUser, Long expiration) {
+        Long result = redisTemplate.execute(RESERVE_SCRIPT,
+            Arrays.asList(getReservationKey(loginUserId), getReserversKey(randomDanceId)),
+            randomDanceId, loginUserId, maxUser, expiration);
+        return result == null ? RESERVATION_DUPLICATED : result;
+    }
+
+    public boolean existsReservers(Long randomDanceId) {
+        Boolean hasKey = redisTemplate.hasKey(getReserversKey(randomDanceId));
+        return hasKey != null && hasKey;
+    }
+
+    public void addAllReservers(Long randomDanceId, List<String> loginUserIds, Long expiration) {
+        if (loginUserIds.isEmpty()) {
+            return;
+        }
+        String key = getReserversKey(randomDanceId);
+        redisTemplate.opsForSet().add(key, loginUserIds.toArray());
+        redisTemplate.expire(key, expiration, TimeUnit.MILLISECONDS);
+    }
+
+    public void removeReserver(Long randomDanceId, String loginUserId) {
+        redisTemplate.opsForSet().remove(getReserversKey(randomDanceId), loginUserId);
+    }
+
+    public Set<String> findAllReservers(Long randomDanceId) {
+        Set<Object> members = redisTemplate.opsForSet().members(getReserversKey(randomDanceId));
+
+        Set<String> loginUserIds = new HashSet<>();
+        if (members != null) {
+            for (Object loginUserId : members) {
+                loginUserIds.add(String.valueOf(loginUserId));
+            }
+        }
+        return loginUserIds;
+    }
+
+    /**
+     * DB에 아직 반영되지 않은(dirty 또는 반영 중인) 사용자 중 랜덤 플레이 댄스를 예약한 사용자
+     * 예약자 set을 DB로 다시 채울 때 빠지는 예약이 없도록 함께 사용
+     */
+    public List<String> findAllUnsyncedReservers(Long randomDanceId) {
+        Set<Object> unsynced = redisTemplate.opsForSet().union(DIRTY_KEY, PROCESSING_KEY);
+        List<String> loginUserIds = new ArrayList<>();
+        if (unsynced == null || unsynced.isEmpty()) {
+            return loginUserIds;
+        }
+        for (Object loginUserId : unsynced) {
+            loginUserIds.add(String.valueOf(loginUserId));
+        }
+
+        List<Object> isMembers = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (String loginUserId : loginUserIds) {
+                    redisOperations.opsForSet()
+                        .isMember(getReservationKey(loginUserId), randomDanceId);
+                }
+                return null;
+            }
+        });
+
+        List<String> reservers = new ArrayList<>();
+        for (int i = 0; i < loginUserIds.size(); i++) {
+            if (Boolean.TRUE.equals(isMembers.get(i))) {
+                reservers.add(loginUserIds.get(i));
+            }
+        }
+        return reservers;
+    }
+
+    /**
+     * 랜덤 플레이 댄스 삭제 시 예약한 사용자들의 예약 set에서만 제거 (pipeline)
+     */
+    public void removeAllReservation(Long randomDanceId, Collection<String> loginUserIds) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (String loginUserId : loginUserIds) {
+                    redisOperations.opsForSet()
+                        .remove(getReservationKey(loginUserId), randomDanceId);
+                }
+                redisOperations.delete(getReserversKey(randomDanceId));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 랜덤 플레이 댄스별 예약자 수 (pipeline EXISTS + SCARD)
+     * 예약자 set이 없는(만료된) 랜덤 플레이 댄스는 결과에 포함하지 않음
+     */
+    public Map<Long, Long> countAllReservers(List<Long> randomDanceIdList) {
+        Map<Long, Long> countMap = new HashMap<>();
+        if (randomDanceIdList.isEmpty()) {
+            return countMap;
+        }
+
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (Long randomDanceId : randomDanceIdList) {
+                    redisOperations.hasKey(getReserversKey(randomDanceId));
+                    redisOperations.opsForSet().size(getReserversKey(randomDanceId));
+                }
+                return null;
+            }
+        });
+
+        for (int i = 0; i < randomDanceIdList.size(); i++) {
+            if (!Boolean.TRUE.equals(counts.get(i * 2))) {
+                continue;
+            }
+            Object count = counts.get(i * 2 + 1);
+            countMap.put(randomDanceIdList.get(i),
+                count == null ? 0L : Long.valueOf(String.valueOf(count)));
+        }
+        return countMap;
+    }
+
+    public void markDirty(String loginUserId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, loginUserId);
+    }
+
+    public void markAllDirty(Collection<String> loginUserIds) {
+        if (loginUserIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, loginUserIds.toArray());
+    }
+
+    /**
+     * dirty:reservation에서 꺼낸 사용자를 processing set으로 옮김
+     * DB에 반영한 뒤 completeDirty, 실패하면 markAllDirty 후 completeDirty 호출
+     */
+    public List<String> popDirty(long count) {
+        List<?> popped = redisTemplate.execute(POP_DIRTY_SCRIPT,
+            Arrays.asList(DIRTY_KEY, PROCESSING_KEY), count);
+
+        List<String> loginUserIds = new ArrayList<>();
+        if (popped != null) {
+            for (Object loginUserId : popped) {
+                loginUserIds.add(String.valueOf(loginUserId));
+            }
+        }
+        return loginUserIds;
+    }
+
+    public void completeDirty(Collection<String> loginUserIds) {
+        if (loginUserIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().remove(PROCESSING_KEY, loginUserIds.toArray());
+    }
+
+    /**
+     * 이전 실행에서 반영하지 못하고 processing set에 남은 사용자를 dirty:reservation으로 되돌림
+     *
+     * @return 되돌린 사용자 수
+     */
+    public long recoverDirty() {
+        Set<Object> processing = redisTemplate.opsForSet().members(PROCESSING_KEY);
+        if (processing == null || processing.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.opsForSet().add(DIRTY_KEY, processing.toArray());
+        redisTemplate.opsForSet().remove(PROCESSING_KEY, processing.toArray());
+        return processing.size();
+    }
+}
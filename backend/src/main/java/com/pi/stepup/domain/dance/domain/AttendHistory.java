@@ -10,17 +10,22 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "ATTEND_HISTORY")
+@Table(name = "ATTEND_HISTORY", uniqueConstraints = {
+    @UniqueConstraint(name = AttendHistory.UNIQUE_KEY,
+        columnNames = {"RANDOM_DANCE_ID", "USER_ID"})})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AttendHistory extends BaseEntity {
 
+    public static final String UNIQUE_KEY = "UK_ATTEND_HISTORY_DANCE_USER";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long attendHistoryId;
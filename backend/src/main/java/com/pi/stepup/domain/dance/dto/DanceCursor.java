@@ -0,0 +1,52 @@
+package com.pi.stepup.domain.dance.dto;
+
+import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.DANCE_INVALID_CURSOR;
+
+import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 랜덤 플레이 댄스 목록 페이지 경계 (정렬 키 + id)
+ * 클라이언트에는 Base64 문자열로만 노출
+ */
+@Getter
+public class DanceCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final double score;
+    private final LocalDateTime startAt;
+    private final Long randomDanceId;
+
+    public DanceCursor(double score, LocalDateTime startAt, Long randomDanceId) {
+        this.score = score;
+        this.startAt = startAt;
+        this.randomDanceId = randomDanceId;
+    }
+
+    public String encode() {
+        String raw = score + DELIMITER + startAt + DELIMITER + randomDanceId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DanceCursor decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            String[] keys = raw.split(DELIMITER);
+            return new DanceCursor(Double.parseDouble(keys[0]), LocalDateTime.parse(keys[1]),
+                Long.valueOf(keys[2]));
+        } catch (RuntimeException e) {
+            throw new DanceBadRequestException(DANCE_INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -92,5 +92,18 @@ public class DanceRequestDto {
 
         private String progressType;
         private String keyword;
+        private String cursor;
+        private Integer size;
     }
-}
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DancePlaylistGenerateRequestDto {
+
+        private Integer size;
+        private Integer maxPlaytime;
+        private Integer maxPerArtist;
+    }
+}
@@ -2,6 +2,7 @@ package com.pi.stepup.domain.dance.dto;
 
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -48,11 +49,12 @@ public class DanceResponseDto {
         private final String hostNickname;
         private final String progressType;
         private final Integer reserveStatus;
+        private final Long reservationCnt;
         private final int isEnd;
 
         @Builder
         private DanceSearchResponseDto(RandomDance randomDance, String progressType,
-            Integer reserveStatus) {
+            Integer reserveStatus, Long reservationCnt) {
             this.randomDanceId = randomDance.getRandomDanceId();
             this.title = randomDance.getTitle();
             this.content = randomDance.getContent();
@@ -64,7 +66,24 @@ public class DanceResponseDto {
             this.hostNickname = randomDance.getHost().getNickname();
             this.progressType = progressType;
             this.reserveStatus = reserveStatus;
+            this.reservationCnt = reservationCnt;
             this.isEnd = LocalDateTime.now().isBefore(this.endAt) ? 0 : 1;
         }
     }
+
+    @Getter
+    public static class DanceSearchPageResponseDto {
+
+        private final List<DanceSearchResponseDto> content;
+        private final String nextCursor;
+        private final boolean hasNext;
+
+        @Builder
+        private DanceSearchPageResponseDto(List<DanceSearchResponseDto> content,
+            String nextCursor, boolean hasNext) {
+            this.content = content;
+            this.nextCursor = nextCursor;
+            this.hasNext = hasNext;
+        }
+    }
 }
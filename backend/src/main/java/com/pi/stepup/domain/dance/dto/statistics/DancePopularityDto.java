@@ -0,0 +1,17 @@
+package com.pi.stepup.domain.dance.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class DancePopularityDto {
+
+    private final Long randomDanceId;
+    private final Long attendCnt;
+    private final Long reservationCnt;
+
+    public DancePopularityDto(Long randomDanceId, Long attendCnt, Long reservationCnt) {
+        this.randomDanceId = randomDanceId;
+        this.attendCnt = attendCnt;
+        this.reservationCnt = reservationCnt;
+    }
+}
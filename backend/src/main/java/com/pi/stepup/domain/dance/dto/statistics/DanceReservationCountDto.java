@@ -0,0 +1,15 @@
+package com.pi.stepup.domain.dance.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class DanceReservationCountDto {
+
+    private final Long randomDanceId;
+    private final Long reservationCnt;
+
+    public DanceReservationCountDto(Long randomDanceId, Long reservationCnt) {
+        this.randomDanceId = randomDanceId;
+        this.reservationCnt = reservationCnt;
+    }
+}
@@ -2,7 +2,7 @@ package com.pi.stepup.domain.dance.service;
 
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceSearchRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
-import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchResponseDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchPageResponseDto;
 import java.util.List;
 
 public interface DanceRedisService {
@@ -11,7 +11,7 @@ public interface DanceRedisService {
 
     void deleteReservation(Long randomDanceId);
 
-    List<DanceSearchResponseDto> readAllRandomDance(DanceSearchRequestDto danceSearchRequestDto);
+    DanceSearchPageResponseDto readAllRandomDance(DanceSearchRequestDto danceSearchRequestDto);
 
     List<DanceFindResponseDto> readAllMyReserveDance();
 
@@ -1,16 +1,25 @@
 package com.pi.stepup.domain.dance.service;
 
+import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.DANCE_INVALID_PAGE_SIZE;
 import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.DANCE_NOT_FOUND;
+import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.RESERVATION_DUPLICATED;
+import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.RESERVATION_FULL;
 import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.RESERVATION_IMPOSSIBLE;
 import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 
+import com.pi.stepup.domain.dance.component.DanceScheduleIndex;
 import com.pi.stepup.domain.dance.constant.ProgressType;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
+import com.pi.stepup.domain.dance.dao.redis.DancePopularityRedisRepository;
+import com.pi.stepup.domain.dance.dao.redis.ReservationRedisRepository;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.domain.Reservation;
+import com.pi.stepup.domain.dance.dto.DanceCursor;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceSearchRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchPageResponseDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchResponseDto;
+import com.pi.stepup.domain.dance.dto.statistics.DanceReservationCountDto;
 import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
 import com.pi.stepup.domain.dance.exception.ReservationDuplicatedException;
 import com.pi.stepup.domain.user.dao.UserRepository;
@@ -20,16 +29,20 @@ import com.pi.stepup.global.config.security.SecurityUtils;
 import com.pi.stepup.global.error.exception.ForbiddenException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,9 +53,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class DanceRedisServiceImpl implements DanceRedisService {
 
     private final DanceRepository danceRepository;
+    private final DancePopularityRedisRepository dancePopularityRedisRepository;
+    private final ReservationRedisRepository reservationRedisRepository;
+    private final DanceScheduleIndex danceScheduleIndex;
     private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int POPULARITY_BATCH_SIZE = 500;
+
     @Value("${spring.redis.ttls.reservation}")
     private Long expiration;
 
@@ -59,14 +78,26 @@ public class DanceRedisServiceImpl implements DanceRedisService {
             throw new ReservationDuplicatedException(RESERVATION_IMPOSSIBLE.getMessage());
         }
 
-        String id = "reservation:" + loginUserId;
-        boolean hasReservation = redisTemplate.hasKey(id);
+        //예약자 set이 없으면 DB 예약과 아직 DB에 반영되지 않은 Redis 예약을 합쳐서 채움
+        if (!reservationRedisRepository.existsReservers(randomDanceId)) {
+            Set<String> reservers = new HashSet<>(
+                danceRepository.findAllReserverIdByRandomDanceId(randomDanceId));
+            reservers.addAll(reservationRedisRepository.findAllUnsyncedReservers(randomDanceId));
+            reservationRedisRepository.addAllReservers(randomDanceId,
+                new ArrayList<>(reservers), expiration);
+        }
 
-        redisTemplate.opsForSet().add(id, randomDanceId);
+        long result = reservationRedisRepository.reserve(loginUserId, randomDanceId,
+            randomDance.getMaxUser(), expiration);
 
-        if (!hasReservation) {
-            redisTemplate.expire(id, expiration, TimeUnit.MILLISECONDS);
+        if (result == ReservationRedisRepository.RESERVATION_DUPLICATED) {
+            throw new ReservationDuplicatedException(RESERVATION_DUPLICATED.getMessage());
+        } else if (result == ReservationRedisRepository.RESERVATION_FULL) {
+            throw new ReservationDuplicatedException(RESERVATION_FULL.getMessage());
         }
+
+        dancePopularityRedisRepository.increaseReservation(randomDanceId);
+        reservationRedisRepository.markDirty(loginUserId);
     }
 
     @Override
@@ -80,20 +111,34 @@ public class DanceRedisServiceImpl implements DanceRedisService {
 
         String id = "reservation:" + loginUserId;
         boolean hasReservation = redisTemplate.hasKey(id);
+        Long removed = 0L;
         if (hasReservation) {
-            redisTemplate.opsForSet().remove(id, randomDanceId);
-            danceRepository.deleteReservation(randomDanceId, userId);
+            removed = redisTemplate.opsForSet().remove(id, randomDanceId);
+        }
+        reservationRedisRepository.removeReserver(randomDanceId, loginUserId);
+        int deleted = danceRepository.deleteReservation(randomDanceId, userId);
 
-        } else {
-            danceRepository.deleteReservation(randomDanceId, userId);
+        if ((removed != null && removed > 0) || deleted > 0) {
+            dancePopularityRedisRepository.decreaseReservation(randomDanceId);
         }
     }
 
-    public List<DanceSearchResponseDto> readAllRandomDance(
+    @Override
+    public DanceSearchPageResponseDto readAllRandomDance(
         DanceSearchRequestDto danceSearchRequestDto) {
-        List<RandomDance> randomDanceList = new ArrayList<>();
         LocalDateTime now = LocalDateTime.now();
 
+        //페이지 크기를 지정하지 않으면 기존처럼 전체 목록 조회
+        int size = Integer.MAX_VALUE;
+        if (danceSearchRequestDto.getSize() != null) {
+            size = danceSearchRequestDto.getSize();
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new DanceBadRequestException(DANCE_INVALID_PAGE_SIZE.getMessage());
+            }
+        }
+        int limit = size == Integer.MAX_VALUE ? size : size + 1;
+        DanceCursor cursor = DanceCursor.decode(danceSearchRequestDto.getCursor());
+
         boolean isLogin = false;
         String loginUserId = "";
         User user = null;
@@ -107,66 +152,36 @@ public class DanceRedisServiceImpl implements DanceRedisService {
             loginUserId = "";
         }
 
+        List<DanceCursor> randomDanceKeyList = new ArrayList<>();
         if (danceSearchRequestDto.getProgressType().equals(ProgressType.SCHEDULED.toString())) {
-            randomDanceList
-                = danceRepository.findScheduledDance(danceSearchRequestDto.getKeyword());
+            randomDanceKeyList = danceScheduleIndex.findScheduledDance(
+                danceSearchRequestDto.getKeyword(), now, cursor, limit);
         } else if (danceSearchRequestDto.getProgressType()
             .equals(ProgressType.IN_PROGRESS.toString())) {
-            randomDanceList
-                = danceRepository.findInProgressDance(danceSearchRequestDto.getKeyword());
+            randomDanceKeyList = danceScheduleIndex.findInProgressDance(
+                danceSearchRequestDto.getKeyword(), now, cursor, limit);
         } else if (danceSearchRequestDto.getProgressType().equals(ProgressType.ALL.toString())) {
-            randomDanceList
-                = danceRepository.findAllDance(danceSearchRequestDto.getKeyword());
+            randomDanceKeyList = readAllDanceByPopularity(
+                danceSearchRequestDto.getKeyword(), now, cursor, limit);
         }
 
-        List<DanceSearchResponseDto> allDance = new ArrayList<>();
-
-        if (isLogin) {
-            String id = "reservation:" + loginUserId;
-            boolean hasReservation = redisTemplate.hasKey(id);
-            Set<Long> randomDanceIdSet = new HashSet<>();
-
-            if (hasReservation) {
-                Set<Object> set = redisTemplate.opsForSet().members(id);
-
-                if (set != null) {
-                    Iterator<Object> iter = set.iterator();
-                    while (iter.hasNext()) {
-                        randomDanceIdSet.add(Long.valueOf(String.valueOf(iter.next())));
-                    }
-
-                    Iterator<Long> iter2 = randomDanceIdSet.iterator();
-                    while (iter2.hasNext()) {
-                        Long num = iter2.next();
-
-                        RandomDance randomDance = danceRepository.findOne(num).orElseThrow(()
-                            -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
-
-                        if (randomDance.getStartAt().isBefore(now)) {
-                            iter2.remove();
-
-                            redisTemplate.opsForSet().remove(id, num);
-                        }
-                    }
-                }
-
-            } else {
-                for (int j = 0; j < randomDanceList.size(); j++) {
-                    RandomDance randomDance = randomDanceList.get(j);
+        boolean hasNext = randomDanceKeyList.size() > size;
+        if (hasNext) {
+            randomDanceKeyList = randomDanceKeyList.subList(0, size);
+        }
 
-                    Optional<Reservation> reservation
-                        = danceRepository.findReservationByRandomDanceIdAndUserId
-                        (randomDance.getRandomDanceId(), user.getUserId());
+        List<Long> randomDanceIdList = new ArrayList<>();
+        for (DanceCursor randomDanceKey : randomDanceKeyList) {
+            randomDanceIdList.add(randomDanceKey.getRandomDanceId());
+        }
+        List<RandomDance> randomDanceList = findAllByRandomDanceIdListInOrder(randomDanceIdList);
 
-                    if (reservation.isPresent()) {
-                        randomDanceIdSet.add(
-                            reservation.get().getRandomDance().getRandomDanceId());
-                        redisTemplate.opsForSet().add(id, randomDance.getRandomDanceId());
-                    }
-                }
+        List<DanceSearchResponseDto> allDance = new ArrayList<>();
+        Map<Long, Long> reservationCntMap = countAllReservation(randomDanceList);
 
-                redisTemplate.expire(id, expiration, TimeUnit.MILLISECONDS);
-            }
+        if (isLogin) {
+            Set<Long> randomDanceIdSet
+                = findReservedRandomDanceIdSet(loginUserId, user.getUserId(), randomDanceList, now);
 
             for (int i = 0; i < randomDanceList.size(); i++) {
                 RandomDance randomDance = randomDanceList.get(i);
@@ -180,6 +195,7 @@ public class DanceRedisServiceImpl implements DanceRedisService {
                         .randomDance(randomDance)
                         .progressType(danceSearchRequestDto.getProgressType())
                         .reserveStatus(1)
+                        .reservationCnt(reservationCntMap.get(randomDance.getRandomDanceId()))
                         .build();
 
                 } else {
@@ -188,6 +204,7 @@ public class DanceRedisServiceImpl implements DanceRedisService {
                         .randomDance(randomDance)
                         .progressType(danceSearchRequestDto.getProgressType())
                         .reserveStatus(0)
+                        .reservationCnt(reservationCntMap.get(randomDance.getRandomDanceId()))
                         .build();
                 }
 
@@ -204,13 +221,164 @@ public class DanceRedisServiceImpl implements DanceRedisService {
                     .randomDance(randomDance)
                     .progressType(danceSearchRequestDto.getProgressType())
                     .reserveStatus(0)
+                    .reservationCnt(reservationCntMap.get(randomDance.getRandomDanceId()))
                     .build();
 
                 allDance.add(danceSearchResponseDto);
             }
         }
 
-        return allDance;
+        return DanceSearchPageResponseDto.builder()
+            .content(allDance)
+            .nextCursor(hasNext
+                ? randomDanceKeyList.get(randomDanceKeyList.size() - 1).encode() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    private List<RandomDance> findAllByRandomDanceIdListInOrder(List<Long> randomDanceIdList) {
+        if (randomDanceIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, RandomDance> randomDanceMap = new HashMap<>();
+        for (RandomDance randomDance
+            : danceRepository.findAllByRandomDanceIdList(randomDanceIdList)) {
+            randomDanceMap.put(randomDance.getRandomDanceId(), randomDance);
+        }
+
+        List<RandomDance> randomDanceList = new ArrayList<>();
+        for (Long randomDanceId : randomDanceIdList) {
+            RandomDance randomDance = randomDanceMap.get(randomDanceId);
+            if (randomDance != null) {
+                randomDanceList.add(randomDance);
+            }
+        }
+        return randomDanceList;
+    }
+
+    private Map<Long, Long> countAllReservation(List<RandomDance> randomDanceList) {
+        List<Long> randomDanceIdList = new ArrayList<>();
+        for (RandomDance randomDance : randomDanceList) {
+            randomDanceIdList.add(randomDance.getRandomDanceId());
+        }
+
+        Map<Long, Long> reservationCntMap
+            = reservationRedisRepository.countAllReservers(randomDanceIdList);
+
+        //예약자 set이 없는(만료된) 랜덤 플레이 댄스만 DB에서 한 번에 집계
+        List<Long> missIdList = new ArrayList<>();
+        for (Long randomDanceId : randomDanceIdList) {
+            if (!reservationCntMap.containsKey(randomDanceId)) {
+                missIdList.add(randomDanceId);
+            }
+        }
+
+        for (DanceReservationCountDto reservationCount
+            : danceRepository.countAllReservationByRandomDanceIdList(missIdList)) {
+            reservationCntMap.put(reservationCount.getRandomDanceId(),
+                reservationCount.getReservationCnt());
+        }
+
+        for (Long randomDanceId : missIdList) {
+            reservationCntMap.putIfAbsent(randomDanceId, 0L);
+        }
+        return reservationCntMap;
+    }
+
+    private Set<Long> findReservedRandomDanceIdSet(String loginUserId, Long userId,
+        List<RandomDance> randomDanceList, LocalDateTime now) {
+        String id = "reservation:" + loginUserId;
+        Set<Long> randomDanceIdSet = new HashSet<>();
+
+        if (redisTemplate.hasKey(id)) {
+            Set<Object> set = redisTemplate.opsForSet().members(id);
+            if (set != null) {
+                for (Object randomDanceId : set) {
+                    randomDanceIdSet.add(Long.valueOf(String.valueOf(randomDanceId)));
+                }
+            }
+
+            //이미 시작된 랜덤 플레이 댄스는 목록에 이미 조회된 시작 시간으로 판단해 한 번에 제거
+            List<Object> startedIdList = new ArrayList<>();
+            for (RandomDance randomDance : randomDanceList) {
+                if (randomDanceIdSet.contains(randomDance.getRandomDanceId())
+                    && randomDance.getStartAt().isBefore(now)) {
+                    randomDanceIdSet.remove(randomDance.getRandomDanceId());
+                    startedIdList.add(randomDance.getRandomDanceId());
+                }
+            }
+
+            if (!startedIdList.isEmpty()) {
+                redisTemplate.opsForSet().remove(id, startedIdList.toArray());
+            }
+
+            return randomDanceIdSet;
+        }
+
+        //키가 있으면 다른 페이지와 나의 예약 목록에서도 전체 예약으로 사용하므로, 현재 페이지가 아닌 시작 전 예약 전체로 채움
+        randomDanceIdSet.addAll(danceRepository.findAllReservedRandomDanceId(userId));
+
+        if (!randomDanceIdSet.isEmpty()) {
+            Object[] reservedIds = randomDanceIdSet.toArray();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations
+                        = (RedisOperations<String, Object>) operations;
+                    redisOperations.opsForSet().add(id, reservedIds);
+                    redisOperations.expire(id, expiration, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            });
+        }
+
+        return randomDanceIdSet;
+    }
+
+    private List<DanceCursor> readAllDanceByPopularity(String keyword, LocalDateTime now,
+        DanceCursor cursor, int limit) {
+        if (!dancePopularityRedisRepository.isBuilt()) {
+            dancePopularityRedisRepository.rebuild(danceRepository.findAllDancePopularity());
+        }
+
+        //cursor 점수부터 점수 높은 순으로 나눠 읽고, 점수가 같은 묶음 안에서만 시작 시간 순으로 정렬
+        double maxScore = cursor == null ? Double.POSITIVE_INFINITY : cursor.getScore();
+        List<DanceCursor> randomDanceList = new ArrayList<>();
+        List<Long> sameScoreIdList = new ArrayList<>();
+        double sameScore = maxScore;
+        long offset = 0;
+        while (randomDanceList.size() < limit) {
+            List<TypedTuple<Object>> popularityList = dancePopularityRedisRepository
+                .findAllByMaxScore(maxScore, offset, POPULARITY_BATCH_SIZE);
+            offset += POPULARITY_BATCH_SIZE;
+
+            for (TypedTuple<Object> popularity : popularityList) {
+                double score = popularity.getScore() == null ? 0 : popularity.getScore();
+                if (score != sameScore && !sameScoreIdList.isEmpty()) {
+                    randomDanceList.addAll(danceScheduleIndex.findAllDance(keyword, now,
+                        sameScore, sameScoreIdList, cursor));
+                    sameScoreIdList.clear();
+                    if (randomDanceList.size() >= limit) {
+                        break;
+                    }
+                }
+                sameScore = score;
+                sameScoreIdList.add(Long.valueOf(String.valueOf(popularity.getValue())));
+            }
+
+            if (popularityList.size() < POPULARITY_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (randomDanceList.size() < limit && !sameScoreIdList.isEmpty()) {
+            randomDanceList.addAll(danceScheduleIndex.findAllDance(keyword, now, sameScore,
+                sameScoreIdList, cursor));
+        }
+        return randomDanceList.size() > limit
+            ? randomDanceList.subList(0, limit) : randomDanceList;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.pi.stepup.domain.dance.service;
 
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceCreateRequestDto;
+import com.pi.stepup.domain.dance.dto.DanceRequestDto.DancePlaylistGenerateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceUpdateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
@@ -17,6 +18,9 @@ public interface DanceService {
 
     List<MusicFindResponseDto> readAllDanceMusic(Long randomDanceId);
 
+    List<MusicFindResponseDto> generatePlaylist(
+        DancePlaylistGenerateRequestDto dancePlaylistGenerateRequestDto);
+
     List<DanceFindResponseDto> readAllMyOpenDance();
 
     void createAttend(Long randomDanceId);
@@ -10,11 +10,20 @@ import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_AN
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_NOT_FOUND;
 import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 
+import com.pi.stepup.domain.dance.component.AttendWriteQueue;
+import com.pi.stepup.domain.dance.component.DancePlaylistCache;
+import com.pi.stepup.domain.dance.component.DanceScheduleIndex;
+import com.pi.stepup.domain.dance.component.PlaylistGenerator;
+import com.pi.stepup.domain.dance.dao.DanceJdbcRepository;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
+import com.pi.stepup.domain.dance.dao.redis.AttendRedisRepository;
+import com.pi.stepup.domain.dance.dao.redis.DancePopularityRedisRepository;
+import com.pi.stepup.domain.dance.dao.redis.ReservationRedisRepository;
 import com.pi.stepup.domain.dance.domain.AttendHistory;
 import com.pi.stepup.domain.dance.domain.DanceMusic;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceCreateRequestDto;
+import com.pi.stepup.domain.dance.dto.DanceRequestDto.DancePlaylistGenerateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceUpdateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
 import com.pi.stepup.domain.dance.exception.AttendDuplicatedException;
@@ -26,21 +35,22 @@ import com.pi.stepup.domain.music.domain.Music;
 import com.pi.stepup.domain.music.domain.MusicAnswer;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
 import com.pi.stepup.domain.music.exception.MusicNotFoundException;
+import com.pi.stepup.domain.user.component.UserNoCache;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.domain.user.exception.UserNotFoundException;
 import com.pi.stepup.global.config.security.SecurityUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -50,10 +60,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class DanceServiceImpl implements DanceService {
 
     private final DanceRepository danceRepository;
+    private final DanceJdbcRepository danceJdbcRepository;
+    private final DancePopularityRedisRepository dancePopularityRedisRepository;
+    private final ReservationRedisRepository reservationRedisRepository;
+    private final DanceScheduleIndex danceScheduleIndex;
+    private final DancePlaylistCache dancePlaylistCache;
+    private final AttendRedisRepository attendRedisRepository;
+    private final AttendWriteQueue attendWriteQueue;
     private final UserRepository userRepository;
+    private final UserNoCache userNoCache;
     private final MusicRepository musicRepository;
     private final MusicAnswerRepository musicAnswerRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final PlaylistGenerator playlistGenerator;
+
+    private static final int DEFAULT_PLAYLIST_SIZE = 10;
+    private static final int DEFAULT_MAX_PER_ARTIST = 2;
+    private static final long RECENT_MUSIC_DAYS = 14;
 
     @Override
     @Transactional
@@ -68,19 +90,24 @@ public class DanceServiceImpl implements DanceService {
         }
 
         List<Long> danceMusicIdList = danceCreateRequestDto.getDanceMusicIdList();
-        if (danceMusicIdList.size() >= 2 && danceMusicIdList.size() <= 50) {
-            for (int i = 0; i < danceMusicIdList.size(); i++) {
-                Music music = musicRepository.findOne(
-                    danceMusicIdList.get(i)).orElseThrow(()
-                    -> new MusicNotFoundException(MUSIC_NOT_FOUND.getMessage()));
-                DanceMusic danceMusic = DanceMusic.createDanceMusic(music);
-                randomDance.addDanceMusicAndSetThis(danceMusic);
-            }
-        } else {
+        if (danceMusicIdList.size() < 2 || danceMusicIdList.size() > 50) {
             throw new DanceBadRequestException(DANCE_INVALID_MUSIC.getMessage());
         }
 
+        //노래 존재 여부는 IN 조회 한 번으로 확인
+        Set<Long> musicIdSet = new HashSet<>(danceMusicIdList);
+        for (Music music : musicRepository.findAllByIdList(new ArrayList<>(musicIdSet))) {
+            musicIdSet.remove(music.getMusicId());
+        }
+        if (!musicIdSet.isEmpty()) {
+            log.info("[INFO] 존재하지 않는 노래 - musicId : {}", musicIdSet);
+            throw new MusicNotFoundException(MUSIC_NOT_FOUND.getMessage());
+        }
+
         danceRepository.insert(randomDance);
+        danceJdbcRepository.batchInsertDanceMusic(randomDance.getRandomDanceId(), danceMusicIdList);
+        dancePopularityRedisRepository.add(randomDance.getRandomDanceId());
+        danceScheduleIndex.put(randomDance);
     }
 
     private boolean validationDance(RandomDance randomDance) {
@@ -112,6 +139,8 @@ public class DanceServiceImpl implements DanceService {
                 -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
 
         randomDance.update(danceUpdateRequestDto);
+        danceScheduleIndex.put(randomDance);
+        dancePlaylistCache.evict(randomDance.getRandomDanceId());
     }
 
     @Override
@@ -130,47 +159,76 @@ public class DanceServiceImpl implements DanceService {
             throw new DanceForbiddenException(DANCE_DELETE_FORBIDDEN.getMessage());
         }
 
-        //redis에서 해당 번호 삭제
-        Set<String> reservationRedisKeys = redisTemplate.keys("reservation:*");
-        if (reservationRedisKeys != null) {
-            for (String reservationRedisKey : reservationRedisKeys) {
-                Set<Object> set = redisTemplate.opsForSet().members(reservationRedisKey);
-
-                if (set != null) {
-                    String id = getUserId(reservationRedisKey);
-                    userRepository.findById(id).orElseThrow(()
-                        -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-
-                    Iterator<Object> iter = set.iterator();
-                    while (iter.hasNext()) {
-                        if (Long.valueOf(String.valueOf(iter.next())) == randomDanceId) {
-                            redisTemplate.opsForSet().remove("reservation:" + id, randomDanceId);
-                        }
-                    }
-                }
-            }
-        }
+        //예약한 사용자의 예약 목록에서만 해당 번호 삭제
+        Set<String> reservers = reservationRedisRepository.findAllReservers(randomDanceId);
+        reservers.addAll(danceRepository.findAllReserverIdByRandomDanceId(randomDanceId));
+        reservationRedisRepository.removeAllReservation(randomDanceId, reservers);
 
         danceRepository.delete(randomDanceId);
+        dancePopularityRedisRepository.remove(randomDanceId);
+        danceScheduleIndex.remove(randomDanceId);
+        dancePlaylistCache.evict(randomDanceId);
     }
 
     @Override
     public List<MusicFindResponseDto> readAllDanceMusic(Long randomDanceId) {
-        danceRepository.findOne(randomDanceId).orElseThrow(()
-            -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
+        return dancePlaylistCache.get(randomDanceId, () -> makePlaylist(randomDanceId));
+    }
 
-        List<MusicFindResponseDto> allDanceMusic = new ArrayList<>();
+    @Override
+    public List<MusicFindResponseDto> generatePlaylist(
+        DancePlaylistGenerateRequestDto dancePlaylistGenerateRequestDto) {
+        String loginUserId = SecurityUtils.getLoggedInUserId();
+
+        Integer size = dancePlaylistGenerateRequestDto.getSize();
+        if (size == null) {
+            size = DEFAULT_PLAYLIST_SIZE;
+        }
+        if (size < 2 || size > 50) {
+            throw new DanceBadRequestException(DANCE_INVALID_MUSIC.getMessage());
+        }
+
+        Integer maxPerArtist = dancePlaylistGenerateRequestDto.getMaxPerArtist();
+        if (maxPerArtist == null || maxPerArtist < 1) {
+            maxPerArtist = DEFAULT_MAX_PER_ARTIST;
+        }
+
+        //최근 개최한 랜덤 플레이 댄스에 사용한 노래는 후순위
+        List<Long> recentMusicIdList = danceRepository.findAllRecentDanceMusicId(loginUserId,
+            LocalDateTime.now().minusDays(RECENT_MUSIC_DAYS));
+
+        return playlistGenerator.generate(size, dancePlaylistGenerateRequestDto.getMaxPlaytime(),
+            maxPerArtist, recentMusicIdList);
+    }
 
+    private List<MusicFindResponseDto> makePlaylist(Long randomDanceId) {
         List<DanceMusic> danceMusicList = danceRepository.findAllDanceMusic(randomDanceId);
-        for (int i = 0; i < danceMusicList.size(); i++) {
-            Long musicId = danceMusicList.get(i).getMusic().getMusicId();
-            Music music = musicRepository.findOne(musicId).orElseThrow(()
-                -> new MusicNotFoundException(MUSIC_NOT_FOUND.getMessage()));
-            MusicAnswer musicAnswer = musicAnswerRepository.findById(music.getAnswer())
-                .orElseThrow(() -> new MusicNotFoundException(MUSIC_ANSWER_NOT_FOUND.getMessage()));
-            MusicFindResponseDto musicFindResponseDto = MusicFindResponseDto.builder()
-                .music(music).musicAnswer(musicAnswer).build();
-            allDanceMusic.add(musicFindResponseDto);
+        if (danceMusicList.isEmpty()) {
+            danceRepository.findOne(randomDanceId).orElseThrow(()
+                -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
+            return new ArrayList<>();
+        }
+
+        Set<String> musicAnswerIdSet = new HashSet<>();
+        for (DanceMusic danceMusic : danceMusicList) {
+            musicAnswerIdSet.add(danceMusic.getMusic().getAnswer());
+        }
+
+        Map<String, MusicAnswer> musicAnswerMap = new HashMap<>();
+        for (MusicAnswer musicAnswer : musicAnswerRepository.findAllById(musicAnswerIdSet)) {
+            musicAnswerMap.put(musicAnswer.getId(), musicAnswer);
+        }
+
+        List<MusicFindResponseDto> allDanceMusic = new ArrayList<>();
+        for (DanceMusic danceMusic : danceMusicList) {
+            Music music = danceMusic.getMusic();
+            MusicAnswer musicAnswer = musicAnswerMap.get(music.getAnswer());
+            if (musicAnswer == null) {
+                throw new MusicNotFoundException(MUSIC_ANSWER_NOT_FOUND.getMessage());
+            }
+
+            allDanceMusic.add(MusicFindResponseDto.builder()
+                .music(music).musicAnswer(musicAnswer).build());
         }
 
         return allDanceMusic;
@@ -196,26 +254,39 @@ public class DanceServiceImpl implements DanceService {
         return allMyOpenDance;
     }
 
+    /**
+     * 중복 참여는 Redis에서 걸러 바로 응답하고, 키가 만료된 뒤의 중복은 ATTEND_HISTORY 유니크 제약으로 걸러짐
+     * 요청마다 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createAttend(Long randomDanceId) {
         String loginUserId = SecurityUtils.getLoggedInUserId();
-        User user = userRepository.findById(loginUserId).orElseThrow(()
-            -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
+        Long userId = userNoCache.getUserNo(loginUserId);
 
-        RandomDance randomDance
-            = danceRepository.findOne(randomDanceId).orElseThrow(()
-            -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
+        //종료되지 않은 랜덤 플레이 댄스는 인덱스로 확인하고, 없을 때만 DB 조회
+        if (!danceScheduleIndex.contains(randomDanceId)
+            && danceRepository.findOne(randomDanceId).isEmpty()) {
+            throw new DanceBadRequestException(DANCE_NOT_FOUND.getMessage());
+        }
 
-        if (danceRepository.findAttendByRandomDanceIdAndUserId
-            (randomDanceId, user.getUserId()).isPresent()) {
+        if (!attendRedisRepository.attend(randomDanceId, userId)) {
             throw new AttendDuplicatedException(ATTEND_DUPLICATED.getMessage());
         }
 
-        AttendHistory attendHistory
-            = AttendHistory.builder().randomDance(randomDance).user(user).build();
-
-        danceRepository.insertAttend(attendHistory);
+        AttendHistory attendHistory = AttendHistory.builder()
+            .randomDance(RandomDance.builder().randomDanceId(randomDanceId).build())
+            .user(User.builder().userId(userId).build())
+            .build();
+
+        try {
+            attendWriteQueue.add(attendHistory);
+        } catch (RuntimeException e) {
+            //접수하지 못한 참여는 다시 요청할 수 있도록 중복 확인 키 삭제
+            attendRedisRepository.cancel(randomDanceId, userId);
+            throw e;
+        }
+        dancePopularityRedisRepository.increaseAttend(randomDanceId);
     }
 
     @Override
@@ -239,17 +310,4 @@ public class DanceServiceImpl implements DanceService {
 
         return allMyRandomDance;
     }
-
-    public String getUserId(String key) {
-        String regexStr = "reservation:([^\\s]+)";
-        Pattern regex = Pattern.compile(regexStr);
-        Matcher matcher = regex.matcher(key);
-        String userId;
-        if (matcher.find()) {
-            userId = matcher.group(1);
-        } else {
-            userId = null;
-        }
-        return userId;
-    }
 }
\ No newline at end of file
@@ -1,28 +1,29 @@
 package com.pi.stepup.domain.dance.service;
 
-import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.DANCE_NOT_FOUND;
-import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
-
+import com.pi.stepup.domain.dance.dao.DanceJdbcRepository;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
+import com.pi.stepup.domain.dance.dao.redis.ReservationRedisRepository;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.domain.Reservation;
-import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.User;
-import com.pi.stepup.domain.user.exception.UserNotFoundException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 @RequiredArgsConstructor
@@ -31,71 +32,154 @@ public class DanceSyncScheduler {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final DanceRepository danceRepository;
+    private final DanceJdbcRepository danceJdbcRepository;
+    private final ReservationRedisRepository reservationRedisRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
     private final long SCHEDULED_TIME = 3600000;
+    private final long CHUNK_SIZE = 500;
+    private final int MAX_CHUNK_PER_RUN = 100;
+
+    /**
+     * 이전 실행에서 꺼낸 뒤 커밋하지 못한 사용자를 다시 동기화 대상으로 추가
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        long recovered = reservationRedisRepository.recoverDirty();
+        if (recovered > 0) {
+            log.info("[INFO] 반영하지 못한 예약 동기화 대상 복구 : {}명", recovered);
+        }
+    }
 
     @Scheduled(fixedDelay = SCHEDULED_TIME)
-    @Transactional
     public void syncExpiredDataToDB() {
-        Set<String> reservationRedisKeys = redisTemplate.keys("reservation:*");
+        for (int chunk = 0; chunk < MAX_CHUNK_PER_RUN; chunk++) {
+            List<String> loginUserIds = reservationRedisRepository.popDirty(CHUNK_SIZE);
+            if (loginUserIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> syncChunk(loginUserIds));
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 예약 동기화 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+                reservationRedisRepository.markAllDirty(loginUserIds);
+                reservationRedisRepository.completeDirty(loginUserIds);
+                return;
+            }
+            reservationRedisRepository.completeDirty(loginUserIds);
+        }
+    }
 
-        for (String reservationRedisKey : reservationRedisKeys) {
-            Set<Object> set = redisTemplate.opsForSet().members(reservationRedisKey);
+    private void syncChunk(List<String> loginUserIds) {
+        Map<String, Set<Long>> cachedMap = findAllCachedReservation(loginUserIds);
+        if (cachedMap.isEmpty()) {
+            return;
+        }
 
-            String userId = getUserId(reservationRedisKey);
-            User user = userRepository.findById(userId).orElseThrow(()
-                -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-            Long userPk = user.getUserId();
+        Map<Long, User> userMap = new HashMap<>();
+        Map<String, Long> userPkMap = new HashMap<>();
+        for (User user : userRepository.findAllByIdList(new ArrayList<>(cachedMap.keySet()))) {
+            userMap.put(user.getUserId(), user);
+            userPkMap.put(user.getId(), user.getUserId());
+        }
 
-            Set<Long> randomDanceIdSet = new HashSet<>();
-            for (Object value : set) {
-                Long randomDanceId = Long.valueOf(String.valueOf(value));
-                randomDanceIdSet.add(randomDanceId);
+        Map<Long, Set<Long>> savedMap = new HashMap<>();
+        for (Reservation reservation
+            : danceRepository.findAllReservationByUserIdList(new ArrayList<>(userMap.keySet()))) {
+            savedMap.computeIfAbsent(reservation.getUser().getUserId(), k -> new HashSet<>())
+                .add(reservation.getRandomDance().getRandomDanceId());
+        }
+
+        Set<Long> randomDanceIdSet = new HashSet<>();
+        for (Set<Long> cached : cachedMap.values()) {
+            randomDanceIdSet.addAll(cached);
+        }
+        Map<Long, RandomDance> randomDanceMap = new HashMap<>();
+        if (!randomDanceIdSet.isEmpty()) {
+            for (RandomDance randomDance
+                : danceRepository.findAllByRandomDanceIdList(new ArrayList<>(randomDanceIdSet))) {
+                randomDanceMap.put(randomDance.getRandomDanceId(), randomDance);
             }
+        }
 
-            List<Reservation> reservationList = danceRepository.findAllMyReservation(userPk);
-            for (int i = 0; i < reservationList.size(); i++) {
-                Long randomDanceId = reservationList.get(i).getRandomDance().getRandomDanceId();
+        LocalDateTime now = LocalDateTime.now();
+        List<Reservation> reservationInsertList = new ArrayList<>();
+        Map<String, List<Object>> expiredMap = new HashMap<>();
 
-                if (randomDanceIdSet.contains(randomDanceId)) {
-                    randomDanceIdSet.remove(randomDanceId);
-                }
+        for (Map.Entry<String, Set<Long>> entry : cachedMap.entrySet()) {
+            Long userPk = userPkMap.get(entry.getKey());
+            if (userPk == null) {
+                continue;
             }
+            Set<Long> saved = savedMap.getOrDefault(userPk, new HashSet<>());
 
-            List<Reservation> reservationInsertList = new ArrayList<>();
-            LocalDateTime now = LocalDateTime.now();
-            for (Long randomDanceId : randomDanceIdSet) {
-                RandomDance randomDance = danceRepository.findOne(randomDanceId).orElseThrow(()
-                    -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
+            for (Long randomDanceId : entry.getValue()) {
+                RandomDance randomDance = randomDanceMap.get(randomDanceId);
 
-                if (randomDance.getStartAt().isAfter(now)) {
-                    Reservation reservation = Reservation.builder()
-                        .user(user)
+                if (randomDance == null || !randomDance.getStartAt().isAfter(now)) {
+                    expiredMap.computeIfAbsent("reservation:" + entry.getKey(),
+                        k -> new ArrayList<>()).add(randomDanceId);
+                } else if (!saved.contains(randomDanceId)) {
+                    reservationInsertList.add(Reservation.builder()
+                        .user(userMap.get(userPk))
                         .randomDance(randomDance)
-                        .build();
+                        .build());
+                }
+            }
+        }
 
-                    reservationInsertList.add(reservation);
-                } else if (randomDance.getStartAt().isBefore(now)) {
-                    redisTemplate.opsForSet().remove(reservationRedisKey, randomDanceId);
+        danceJdbcRepository.batchInsertReservation(reservationInsertList);
+        removeAllExpiredReservation(expiredMap);
+    }
+
+    private Map<String, Set<Long>> findAllCachedReservation(List<String> loginUserIds) {
+        List<Object> members = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (String loginUserId : loginUserIds) {
+                    redisOperations.opsForSet().members("reservation:" + loginUserId);
                 }
+                return null;
+            }
+        });
+
+        Map<String, Set<Long>> cachedMap = new HashMap<>();
+        for (int i = 0; i < loginUserIds.size(); i++) {
+            Set<?> set = (Set<?>) members.get(i);
+            if (set == null || set.isEmpty()) {
+                continue;
             }
 
-            danceRepository.insertReservationList(reservationInsertList);
+            Set<Long> randomDanceIdSet = new HashSet<>();
+            for (Object value : set) {
+                randomDanceIdSet.add(Long.valueOf(String.valueOf(value)));
+            }
+            cachedMap.put(loginUserIds.get(i), randomDanceIdSet);
         }
+        return cachedMap;
     }
 
-    public String getUserId(String key) {
-        String regexStr = "reservation:([^\\s]+)";
-        Pattern regex = Pattern.compile(regexStr);
-        Matcher matcher = regex.matcher(key);
-        String userId;
-        if (matcher.find()) {
-            userId = matcher.group(1);
-        } else {
-            userId = null;
+    private void removeAllExpiredReservation(Map<String, List<Object>> expiredMap) {
+        if (expiredMap.isEmpty()) {
+            return;
         }
-        return userId;
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (Map.Entry<String, List<Object>> entry : expiredMap.entrySet()) {
+                    redisOperations.opsForSet().remove(entry.getKey(), entry.getValue().toArray());
+                }
+                return null;
+            }
+        });
     }
 }
-
@@ -4,6 +4,7 @@ import static com.pi.stepup.domain.music.constant.MusicResponseMessage.CREATE_MU
 import static com.pi.stepup.domain.music.constant.MusicResponseMessage.DELETE_MUSIC_SUCCESS;
 import static com.pi.stepup.domain.music.constant.MusicResponseMessage.READ_ALL_MUSIC_SUCCESS;
 import static com.pi.stepup.domain.music.constant.MusicResponseMessage.READ_ONE_MUSIC_SUCCESS;
+import static com.pi.stepup.domain.music.constant.MusicResponseMessage.SUGGEST_MUSIC_SUCCESS;
 import static com.pi.stepup.domain.music.constant.MusicResponseMessage.UPDATE_MUSIC_SUCCESS;
 
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicSaveRequestDto;
@@ -93,6 +94,21 @@ public class MusicApiController {
         ));
     }
 
+    @Operation(summary = "노래 자동완성", description = "제목/가수가 keyword로 시작하는 노래를 size 개 조회한다. 초성 검색을 지원한다.")
+    @ApiResponse(responseCode = "200",
+        description = "노래 자동완성 조회 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @GetMapping("/suggest")
+    public ResponseEntity<ResponseDto<?>> suggestMusic(
+        @RequestParam(name = "keyword") String keyword,
+        @RequestParam(required = false, name = "size") Integer size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            SUGGEST_MUSIC_SUCCESS.getMessage(),
+            musicService.suggest(keyword, size)
+        ));
+    }
+
     @Operation(summary = "노래 삭제", description = "관리자만 노래 삭제가 가능하다.")
     @ApiResponse(responseCode = "200",
         description = "노래 삭제 완료")
@@ -8,9 +8,11 @@ import static com.pi.stepup.domain.music.constant.MusicApplyResponseMessage.READ
 import static com.pi.stepup.domain.music.constant.MusicApplyResponseMessage.READ_MUSIC_APPLY_HEART_STATUS_SUCCESS;
 import static com.pi.stepup.domain.music.constant.MusicApplyResponseMessage.READ_MY_MUSIC_APPLY_SUCCESS;
 import static com.pi.stepup.domain.music.constant.MusicApplyResponseMessage.READ_ONE_MUSIC_APPLY_SUCCESS;
+import static com.pi.stepup.domain.music.constant.MusicApplyResponseMessage.READ_TRENDING_MUSIC_APPLY_SUCCESS;
 
 import com.pi.stepup.domain.music.dto.MusicRequestDto.HeartSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySaveRequestDto;
+import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySearchRequestDto;
 import com.pi.stepup.domain.music.service.MusicApplyService;
 import com.pi.stepup.global.dto.ResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -54,20 +56,32 @@ public class MusicApplyApiController {
     }
 
     @Operation(summary = "노래 신청 목록 조회",
-        description = "등록되어 있는 모든 노래 신청들의 상세 정보를 불러온다.")
+        description = "등록되어 있는 모든 노래 신청들의 상세 정보를 불러온다. "
+            + "size, cursor, sort(NEWEST, HEART) 중 하나라도 지정하면 size개씩 조회하고, "
+            + "응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회한다.")
     @ApiResponse(responseCode = "200",
         description = "노래 신청 목록 조회 완료")
     @GetMapping
     public ResponseEntity<ResponseDto<?>> readAllByKeywordMusicApply(
-        @RequestParam(required = false, name = "keyword") String keyword) {
+        MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        //페이지 크기, 커서, 정렬 없이 요청한 기존 클라이언트에는 전체 목록 반환
+        Object musicApplies;
+        if (isPageRequest(musicApplySearchRequestDto)) {
+            musicApplies = musicApplyService.readAllByKeyword(musicApplySearchRequestDto);
+        } else {
+            musicApplies = musicApplyService.readAllByKeyword(
+                musicApplySearchRequestDto.getKeyword());
+        }
+
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
             READ_ALL_MUSIC_APPLY_SUCCESS.getMessage(),
-            musicApplyService.readAllByKeyword(keyword)
+            musicApplies
         ));
     }
 
     @Operation(summary = "노래 신청 목록 조회 (마이페이지)",
-        description = "현재 접속 해 있는 유저가 신청한 노래들의 상세 정보를 불러온다.")
+        description = "현재 접속 해 있는 유저가 신청한 노래들의 상세 정보를 불러온다. "
+            + "size, cursor, sort(NEWEST, HEART) 중 하나라도 지정하면 size개씩 조회한다.")
     @ApiResponse(responseCode = "200",
         description = "나의 노래 신청 목록 조회 완료")
     @ApiResponse(responseCode = "401",
@@ -75,10 +89,31 @@ public class MusicApplyApiController {
     @ApiResponse(responseCode = "403",
         description = "접근 권한 없음")
     @GetMapping("/my")
-    public ResponseEntity<ResponseDto<?>> readAllByIdMusicApply() {
+    public ResponseEntity<ResponseDto<?>> readAllByIdMusicApply(
+        MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        Object musicApplies;
+        if (isPageRequest(musicApplySearchRequestDto)) {
+            musicApplies = musicApplyService.readAllById(musicApplySearchRequestDto);
+        } else {
+            musicApplies = musicApplyService.readAllById();
+        }
+
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
             READ_MY_MUSIC_APPLY_SUCCESS.getMessage(),
-            musicApplyService.readAllById()
+            musicApplies
+        ));
+    }
+
+    @Operation(summary = "인기 노래 신청 목록 조회",
+        description = "최근 좋아요가 많은 노래 신청과 누적 좋아요가 많은 노래 신청을 각각 size 개 불러온다.")
+    @ApiResponse(responseCode = "200",
+        description = "인기 노래 신청 목록 조회 완료")
+    @GetMapping("/trending")
+    public ResponseEntity<ResponseDto<?>> readTrendingMusicApply(
+        @RequestParam(required = false, name = "size") Integer size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            READ_TRENDING_MUSIC_APPLY_SUCCESS.getMessage(),
+            musicApplyService.readTrending(size)
         ));
     }
 
@@ -126,10 +161,9 @@ public class MusicApplyApiController {
     @PostMapping("/heart")
     public ResponseEntity<ResponseDto<?>> addMusicApplyHeart(
         @RequestBody HeartSaveRequestDto heartSaveRequestDto) {
-        musicApplyService.createHeart(heartSaveRequestDto);
-
         return ResponseEntity.status(HttpStatus.CREATED).body(ResponseDto.create(
-            ADD_MUSIC_APPLY_LIKE_SUCCESS.getMessage()
+            ADD_MUSIC_APPLY_LIKE_SUCCESS.getMessage(),
+            musicApplyService.createHeart(heartSaveRequestDto)
         ));
     }
 
@@ -145,10 +179,9 @@ public class MusicApplyApiController {
     @DeleteMapping("/heart/{musicApplyId}")
     public ResponseEntity<ResponseDto<?>> deleteMusicApplyHeart(
         @PathVariable(name = "musicApplyId") Long musicApplyId) {
-        musicApplyService.deleteHeart(musicApplyId);
-
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
-            DELETE_MUSIC_APPLY_LIKE_SUCCESS.getMessage()
+            DELETE_MUSIC_APPLY_LIKE_SUCCESS.getMessage(),
+            musicApplyService.deleteHeart(musicApplyId)
         ));
     }
 
@@ -168,4 +201,10 @@ public class MusicApplyApiController {
             musicApplyService.findHeartStatus(musicApplyId)
         ));
     }
+
+    private boolean isPageRequest(MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        return musicApplySearchRequestDto.getSize() != null
+            || musicApplySearchRequestDto.getCursor() != null
+            || musicApplySearchRequestDto.getSort() != null;
+    }
 }
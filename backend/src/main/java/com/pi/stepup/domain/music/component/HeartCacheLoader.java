@@ -0,0 +1,271 @@
+package com.pi.stepup.domain.music.component;
+
+import com.pi.stepup.domain.music.dao.MusicApplyRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartBitmapRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.MusicApplyRankingRedisRepository;
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
+import com.pi.stepup.domain.user.component.UserNoCache;
+import com.pi.stepup.domain.user.dao.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 캐시 miss 시 없는 키만 DB에서 읽어 Redis에 채움
+ * 같은 키를 동시에 읽는 요청들은 하나의 조회 결과를 함께 기다림
+ * 존재하지 않는 노래 신청은 ABSENT_EXPIRATION 동안 DB 조회 없이 바로 반환
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HeartCacheLoader {
+
+    private static final int WARM_UP_SIZE = 300;
+    private static final long ABSENT_EXPIRATION = 60_000;
+    private static final long CLEAN_UP_TIME = 600_000;
+
+    private final MusicApplyRepository musicApplyRepository;
+    private final HeartRedisRepository heartRedisRepository;
+    private final MusicApplyRankingRedisRepository musicApplyRankingRedisRepository;
+    private final HeartBitmapRedisRepository heartBitmapRedisRepository;
+    private final UserRepository userRepository;
+    private final UserNoCache userNoCache;
+
+    @Value("${spring.redis.ttls.heart}")
+    private long HEART_EXPIRED_IN;
+
+    private final Map<Long, CompletableFuture<Integer>> heartCntLoading
+        = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<Long>>> userHeartLoading
+        = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<List<String>>> heartUserLoading
+        = new ConcurrentHashMap<>();
+    private final Map<Long, Long> absentMap = new ConcurrentHashMap<>();
+
+    /**
+     * 최근 노래 신청의 좋아요 개수를 미리 채움 (서버마다 한 번)
+     * 누적 좋아요 순위가 없으면 DB 좋아요 개수로 다시 만듦
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            Map<Long, Integer> heartCntMap = new HashMap<>();
+            for (MusicApplyHeartCntDto heartCnt
+                : musicApplyRepository.findAllRecentHeartCnt(WARM_UP_SIZE)) {
+                heartCntMap.put(heartCnt.getMusicApplyId(), heartCnt.getHeartCnt());
+            }
+            heartRedisRepository.addAllHeartCnt(heartCntMap, HEART_EXPIRED_IN);
+            log.info("[INFO] 좋아요 개수 캐시 준비 완료 : {}건", heartCntMap.size());
+
+            if (!musicApplyRankingRedisRepository.existsRanking()) {
+                musicApplyRankingRedisRepository.rebuildRanking(
+                    musicApplyRepository.findAllHeartCnt());
+            }
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 좋아요 개수 캐시 준비 실패 - 요청 시 채움 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 존재하는 노래 신청의 좋아요 개수 (존재하지 않는 id는 포함하지 않음)
+     */
+    public Map<Long, Integer> loadHeartCnt(List<Long> musicApplyIds) {
+        Map<Long, CompletableFuture<Integer>> owned = new HashMap<>();
+        Map<Long, CompletableFuture<Integer>> waiting = new HashMap<>();
+        for (Long musicApplyId : musicApplyIds) {
+            if (isAbsent(musicApplyId) || owned.containsKey(musicApplyId)
+                || waiting.containsKey(musicApplyId)) {
+                continue;
+            }
+
+            CompletableFuture<Integer> created = new CompletableFuture<>();
+            CompletableFuture<Integer> loading
+                = heartCntLoading.putIfAbsent(musicApplyId, created);
+            if (loading == null) {
+                owned.put(musicApplyId, created);
+            } else {
+                waiting.put(musicApplyId, loading);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            try {
+                Map<Long, Integer> heartCntMap = new HashMap<>();
+                for (MusicApplyHeartCntDto heartCnt
+                    : musicApplyRepository.findAllHeartCntByIdList(
+                    new ArrayList<>(owned.keySet()))) {
+                    heartCntMap.put(heartCnt.getMusicApplyId(), heartCnt.getHeartCnt());
+                }
+                heartRedisRepository.addAllHeartCnt(heartCntMap, HEART_EXPIRED_IN);
+
+                for (Map.Entry<Long, CompletableFuture<Integer>> entry : owned.entrySet()) {
+                    Integer heartCnt = heartCntMap.get(entry.getKey());
+                    if (heartCnt == null) {
+                        absentMap.put(entry.getKey(),
+                            System.currentTimeMillis() + ABSENT_EXPIRATION);
+                    }
+                    entry.getValue().complete(heartCnt);
+                }
+            } catch (RuntimeException e) {
+                for (CompletableFuture<Integer> future : owned.values()) {
+                    future.completeExceptionally(e);
+                }
+                throw e;
+            } finally {
+                for (Map.Entry<Long, CompletableFuture<Integer>> entry : owned.entrySet()) {
+                    heartCntLoading.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        Map<Long, Integer> result = new HashMap<>();
+        owned.forEach((musicApplyId, future) -> putIfPresent(result, musicApplyId, future));
+        waiting.forEach((musicApplyId, future) -> putIfPresent(result, musicApplyId, future));
+        return result;
+    }
+
+    /**
+     * 사용자가 좋아요한 노래 신청 id 목록
+     */
+    public List<Long> loadUserHeart(String userId) {
+        return singleFlight(userHeartLoading, userId, () -> {
+            List<Long> musicApplyIds = musicApplyRepository.findAllHeartMusicApplyIdById(userId);
+            heartRedisRepository.addAllUserHeart(userId, musicApplyIds, HEART_EXPIRED_IN);
+            return musicApplyIds;
+        });
+    }
+
+    /**
+     * 노래 신청에 좋아요한 사용자 id 목록
+     */
+    public List<String> loadHeartUser(Long musicApplyId) {
+        if (isAbsent(musicApplyId)) {
+            return new ArrayList<>();
+        }
+
+        return singleFlight(heartUserLoading, musicApplyId, () -> {
+            List<String> userIds
+                = musicApplyRepository.findAllHeartUserIdByMusicApplyId(musicApplyId);
+            heartRedisRepository.addAllHeartUser(musicApplyId, userIds, HEART_EXPIRED_IN);
+            return userIds;
+        });
+    }
+
+    /**
+     * 노래 신청에 좋아요한 사용자의 User.userId 목록을 bitmap으로 채움
+     * 동시에 채우더라도 먼저 쓴 bitmap을 덮어쓰지 않으므로 따로 묶지 않음
+     *
+     * @return 존재하는 노래 신청의 좋아요 사용자 (존재하지 않는 id는 포함하지 않음)
+     */
+    public Map<Long, List<Long>> loadHeartBitmap(List<Long> musicApplyIds) {
+        List<Long> loadIds = new ArrayList<>();
+        for (Long musicApplyId : musicApplyIds) {
+            if (!isAbsent(musicApplyId)) {
+                loadIds.add(musicApplyId);
+            }
+        }
+
+        Map<Long, List<Long>> heartUserMap = new HashMap<>();
+        for (MusicApplyHeartCntDto heartCnt
+            : musicApplyRepository.findAllHeartCntByIdList(loadIds)) {
+            heartUserMap.put(heartCnt.getMusicApplyId(), new ArrayList<>());
+        }
+        for (Long musicApplyId : loadIds) {
+            if (!heartUserMap.containsKey(musicApplyId)) {
+                absentMap.put(musicApplyId, System.currentTimeMillis() + ABSENT_EXPIRATION);
+            }
+        }
+
+        for (HeartPairDto heart : musicApplyRepository.findAllHeartByMusicApplyIdList(
+            new ArrayList<>(heartUserMap.keySet()))) {
+            heartUserMap.get(heart.getMusicApplyId()).add(heart.getUserId());
+        }
+        heartBitmapRedisRepository.addAllHeartUser(heartUserMap, HEART_EXPIRED_IN);
+        return heartUserMap;
+    }
+
+    /**
+     * 로그인 아이디(User.id)의 User.userId, bitmap 위치로 사용
+     */
+    public Long loadUserNo(String userId) {
+        return userNoCache.getUserNo(userId);
+    }
+
+    /**
+     * User.userId 목록의 로그인 아이디(User.id), bitmap 좋아요 사용자를 set 모드와 같은 형식으로 반환할 때 사용
+     */
+    public List<String> loadUserIds(Collection<Long> userNos) {
+        return userRepository.findAllIdByUserIdList(new ArrayList<>(userNos));
+    }
+
+    @Scheduled(fixedDelay = CLEAN_UP_TIME)
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        absentMap.values().removeIf(expiredAt -> expiredAt < now);
+    }
+
+    private boolean isAbsent(Long musicApplyId) {
+        Long expiredAt = absentMap.get(musicApplyId);
+        if (expiredAt == null) {
+            return false;
+        }
+        if (expiredAt < System.currentTimeMillis()) {
+            absentMap.remove(musicApplyId, expiredAt);
+            return false;
+        }
+        return true;
+    }
+
+    private <K, V> V singleFlight(Map<K, CompletableFuture<V>> inFlight, K key,
+        Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> loading = inFlight.putIfAbsent(key, created);
+
+        if (loading == null) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, created);
+            }
+            loading = created;
+        }
+        return join(loading);
+    }
+
+    private void putIfPresent(Map<Long, Integer> result, Long musicApplyId,
+        CompletableFuture<Integer> future) {
+        Integer heartCnt = join(future);
+        if (heartCnt != null) {
+            result.put(musicApplyId, heartCnt);
+        }
+    }
+
+    private <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.pi.stepup.domain.music.component;
+
+import com.pi.stepup.domain.music.dao.MusicAnswerRepository;
+import com.pi.stepup.domain.music.dao.MusicRepository;
+import com.pi.stepup.domain.music.domain.Music;
+import com.pi.stepup.domain.music.domain.MusicAnswer;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * 노래 목록(Music + MusicAnswer) 스냅샷
+ * 읽기는 잠금 없이 현재 스냅샷을 사용하고, 변경 시에는 복사본을 만들어 교체
+ * 관리자 변경은 커밋 이후 반영하고 다른 서버에는 Redis 채널로 변경된 노래 id를 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MusicCatalog implements MessageListener {
+
+    private final MusicRepository musicRepository;
+    private final MusicAnswerRepository musicAnswerRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String CHANNEL = "music:catalog";
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final long REFRESH_TIME = 600_000;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * 놓친 변경 메시지가 있더라도 일정 주기마다 전체 스냅샷을 다시 만듦
+     */
+    @Scheduled(fixedDelay = REFRESH_TIME, initialDelay = REFRESH_TIME)
+    public void reload() {
+        synchronized (lock) {
+            List<Music> musicList = musicRepository.findAll(null);
+            List<String> answerIdList = musicList.stream()
+                .map(Music::getAnswer)
+                .filter(StringUtils::hasText)
+                .distinct()
+                .collect(Collectors.toList());
+
+            Map<String, MusicAnswer> musicAnswerMap = new HashMap<>();
+            for (MusicAnswer musicAnswer : musicAnswerRepository.findAllById(answerIdList)) {
+                musicAnswerMap.put(musicAnswer.getId(), musicAnswer);
+            }
+
+            NavigableMap<Long, MusicFindResponseDto> musicMap = new TreeMap<>();
+            for (Music music : musicList) {
+                MusicAnswer musicAnswer = musicAnswerMap.get(music.getAnswer());
+                if (musicAnswer == null) {
+                    log.warn("[WARN] 정답 정보가 없는 노래 제외 : musicId = {}", music.getMusicId());
+                    continue;
+                }
+                musicMap.put(music.getMusicId(), MusicFindResponseDto.builder()
+                    .music(music)
+                    .musicAnswer(musicAnswer)
+                    .build());
+            }
+            snapshot = new Snapshot(musicMap, MusicSuggestIndex.of(musicMap.values()));
+            log.info("[INFO] 노래 목록 스냅샷 갱신 : size = {}", musicMap.size());
+        }
+    }
+
+    public Optional<MusicFindResponseDto> findOne(Long musicId) {
+        return Optional.ofNullable(getSnapshot().musicMap.get(musicId));
+    }
+
+    public List<MusicFindResponseDto> findAll(String keyword) {
+        Snapshot current = getSnapshot();
+        if (!StringUtils.hasText(keyword)) {
+            return current.musicList;
+        }
+
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<MusicFindResponseDto> result = new ArrayList<>();
+        for (int i = 0; i < current.musicList.size(); i++) {
+            if (current.searchTextList.get(i).contains(lowerKeyword)) {
+                result.add(current.musicList.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 제목/가수 자동완성 (초성 입력 포함)
+     */
+    public List<MusicFindResponseDto> suggest(String keyword, int size) {
+        return getSnapshot().suggestIndex.suggest(keyword, size);
+    }
+
+    /**
+     * 노래 추가/수정 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void put(Music music, MusicAnswer musicAnswer) {
+        MusicFindResponseDto musicFindResponseDto = MusicFindResponseDto.builder()
+            .music(music)
+            .musicAnswer(musicAnswer)
+            .build();
+        Long musicId = music.getMusicId();
+
+        afterCommit(() -> {
+            apply(musicId, musicFindResponseDto);
+            publish(musicId);
+        });
+    }
+
+    /**
+     * 노래 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void remove(Long musicId) {
+        afterCommit(() -> {
+            apply(musicId, null);
+            publish(musicId);
+        });
+    }
+
+    /**
+     * 다른 서버에서 변경된 노래를 DB에서 다시 읽어 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        String[] payload = String.valueOf(body).split(":");
+        if (payload.length != 2 || NODE_ID.equals(payload[0])) {
+            return;
+        }
+
+        try {
+            Long musicId = Long.valueOf(payload[1]);
+            MusicFindResponseDto musicFindResponseDto = musicRepository.findOne(musicId)
+                .flatMap(music -> musicAnswerRepository.findById(music.getAnswer())
+                    .map(musicAnswer -> MusicFindResponseDto.builder()
+                        .music(music)
+                        .musicAnswer(musicAnswer)
+                        .build()))
+                .orElse(null);
+            apply(musicId, musicFindResponseDto);
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 노래 목록 변경 반영 실패, 전체 갱신 : {}", body, e);
+            reload();
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void apply(Long musicId, MusicFindResponseDto musicFindResponseDto) {
+        synchronized (lock) {
+            if (snapshot == null) {
+                return;
+            }
+
+            NavigableMap<Long, MusicFindResponseDto> musicMap = new TreeMap<>(snapshot.musicMap);
+            MusicSuggestIndex suggestIndex = snapshot.suggestIndex.without(musicId);
+            if (musicFindResponseDto == null) {
+                musicMap.remove(musicId);
+            } else {
+                musicMap.put(musicId, musicFindResponseDto);
+                suggestIndex = suggestIndex.with(musicFindResponseDto);
+            }
+            snapshot = new Snapshot(musicMap, suggestIndex);
+        }
+    }
+
+    private void publish(Long musicId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, NODE_ID + ":" + musicId);
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 노래 목록 변경 전파 실패 : musicId = {}", musicId, e);
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private static class Snapshot {
+
+        private final Map<Long, MusicFindResponseDto> musicMap;
+        private final List<MusicFindResponseDto> musicList;
+        private final List<String> searchTextList;
+        private final MusicSuggestIndex suggestIndex;
+
+        private Snapshot(NavigableMap<Long, MusicFindResponseDto> musicMap,
+            MusicSuggestIndex suggestIndex) {
+            this.musicMap = Collections.unmodifiableMap(musicMap);
+            this.suggestIndex = suggestIndex;
+            this.musicList = List.copyOf(musicMap.values());
+            this.searchTextList = musicList.stream()
+                .map(music -> (Objects.toString(music.getTitle(), "") + "\n"
+                    + Objects.toString(music.getArtist(), "")).toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.pi.stepup.domain.music.component;
+
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 노래 제목/가수 자동완성 인덱스
+ * 정규화한 문자열과 초성 문자열의 단어 시작 위치마다 키를 만들어 정렬해 두고, 접두어 범위만 탐색
+ * 변경 시에는 해당 노래의 키만 다시 만들어 새 인덱스를 반환 (불변)
+ */
+public final class MusicSuggestIndex {
+
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSUNG_JONGSUNG_CNT = 21 * 28;
+
+    private static final String COMBINING_MARK = "\\p{M}";
+
+    private static final int TITLE = 0;
+    private static final int ARTIST = 1;
+
+    private static final Comparator<Key> NORMAL_ORDER = Comparator
+        .comparing((Key key) -> key.normal).thenComparingLong(key -> key.musicId);
+    private static final Comparator<Key> CHOSUNG_ORDER = Comparator
+        .comparing((Key key) -> key.chosung).thenComparingLong(key -> key.musicId);
+
+    private final Map<Long, MusicFindResponseDto> musicMap;
+    private final Key[] normalKeys;
+    private final Key[] chosungKeys;
+
+    private MusicSuggestIndex(Map<Long, MusicFindResponseDto> musicMap, Key[] normalKeys,
+        Key[] chosungKeys) {
+        this.musicMap = musicMap;
+        this.normalKeys = normalKeys;
+        this.chosungKeys = chosungKeys;
+    }
+
+    public static MusicSuggestIndex of(Collection<MusicFindResponseDto> musicList) {
+        Map<Long, MusicFindResponseDto> musicMap = new HashMap<>();
+        List<Key> keyList = new ArrayList<>();
+        for (MusicFindResponseDto music : musicList) {
+            musicMap.put(music.getMusicId(), music);
+            addKeys(keyList, music);
+        }
+        return new MusicSuggestIndex(musicMap, sort(keyList, NORMAL_ORDER),
+            sort(keyList, CHOSUNG_ORDER));
+    }
+
+    /**
+     * 노래 추가/수정 반영
+     */
+    public MusicSuggestIndex with(MusicFindResponseDto music) {
+        List<Key> added = new ArrayList<>();
+        addKeys(added, music);
+
+        Map<Long, MusicFindResponseDto> newMusicMap = new HashMap<>(musicMap);
+        newMusicMap.put(music.getMusicId(), music);
+        return new MusicSuggestIndex(newMusicMap,
+            merge(normalKeys, music.getMusicId(), sort(added, NORMAL_ORDER), NORMAL_ORDER),
+            merge(chosungKeys, music.getMusicId(), sort(added, CHOSUNG_ORDER), CHOSUNG_ORDER));
+    }
+
+    /**
+     * 노래 삭제 반영
+     */
+    public MusicSuggestIndex without(Long musicId) {
+        if (!musicMap.containsKey(musicId)) {
+            return this;
+        }
+
+        Map<Long, MusicFindResponseDto> newMusicMap = new HashMap<>(musicMap);
+        newMusicMap.remove(musicId);
+        return new MusicSuggestIndex(newMusicMap,
+            merge(normalKeys, musicId, new Key[0], NORMAL_ORDER),
+            merge(chosungKeys, musicId, new Key[0], CHOSUNG_ORDER));
+    }
+
+    /**
+     * 접두어로 시작하는 노래를 제목 일치, 앞 단어 일치, 짧은 제목 순으로 size 개 반환
+     * 입력에 초성(ㄱ~ㅎ)이 섞여 있으면 초성 키로 찾은 뒤 완성된 글자가 일치하는지 확인
+     */
+    public List<MusicFindResponseDto> suggest(String keyword, int size) {
+        String query = normalize(keyword).normal;
+        if (query.isEmpty() || size < 1) {
+            return new ArrayList<>();
+        }
+
+        boolean hasChosung = containsChosung(query);
+        String searchKey = hasChosung ? toChosung(query) : query;
+        Key[] keys = hasChosung ? chosungKeys : normalKeys;
+
+        Map<Long, Key> bestKeyMap = new HashMap<>();
+        for (int i = lowerBound(keys, searchKey, hasChosung); i < keys.length; i++) {
+            Key key = keys[i];
+            String text = hasChosung ? key.chosung : key.normal;
+            if (!text.startsWith(searchKey)) {
+                break;
+            }
+            if (hasChosung && !matchesSyllables(query, key.normal)) {
+                continue;
+            }
+            bestKeyMap.merge(key.musicId, key, (a, b) -> compareRank(a, b) <= 0 ? a : b);
+        }
+
+        List<Key> matched = new ArrayList<>(bestKeyMap.values());
+        matched.sort(MusicSuggestIndex::compareRank);
+
+        List<MusicFindResponseDto> result = new ArrayList<>();
+        for (int i = 0; i < matched.size() && i < size; i++) {
+            result.add(musicMap.get(matched.get(i).musicId));
+        }
+        return result;
+    }
+
+    public int size() {
+        return musicMap.size();
+    }
+
+    private static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                sb.append(CHOSUNG[(c - HANGUL_BEGIN) / JUNGSUNG_JONGSUNG_CNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 소문자 변환, 악센트 제거 후 글자/숫자만 남김 (한글 음절과 자모는 그대로 유지)
+     */
+    private static Normalized normalize(String text) {
+        StringBuilder sb = new StringBuilder();
+        List<Integer> wordStarts = new ArrayList<>();
+        boolean wordStart = true;
+        if (text == null) {
+            return new Normalized("", wordStarts);
+        }
+
+        for (char c : text.toCharArray()) {
+            String folded = isHangul(c) ? String.valueOf(c)
+                : Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD)
+                    .replaceAll(COMBINING_MARK, "").toLowerCase(Locale.ROOT);
+            boolean appended = false;
+            for (char f : folded.toCharArray()) {
+                if (!Character.isLetterOrDigit(f)) {
+                    continue;
+                }
+                if (wordStart) {
+                    wordStarts.add(sb.length());
+                    wordStart = false;
+                }
+                sb.append(f);
+                appended = true;
+            }
+            if (!appended) {
+                wordStart = true;
+            }
+        }
+        return new Normalized(sb.toString(), wordStarts);
+    }
+
+    private static void addKeys(List<Key> keyList, MusicFindResponseDto music) {
+        addKeys(keyList, music.getMusicId(), TITLE, music.getTitle());
+        addKeys(keyList, music.getMusicId(), ARTIST, music.getArtist());
+    }
+
+    private static void addKeys(List<Key> keyList, Long musicId, int field, String text) {
+        Normalized normalized = normalize(text);
+        String chosung = toChosung(normalized.normal);
+        int length = normalized.normal.length();
+        for (int i = 0; i < normalized.wordStarts.size(); i++) {
+            int start = normalized.wordStarts.get(i);
+            keyList.add(new Key(normalized.normal.substring(start), chosung.substring(start),
+                musicId, field, i, length));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= HANGUL_BEGIN && c <= HANGUL_END) || isChosung(c);
+    }
+
+    private static boolean isChosung(char c) {
+        return Arrays.binarySearch(CHOSUNG, c) >= 0;
+    }
+
+    private static boolean containsChosung(String text) {
+        for (char c : text.toCharArray()) {
+            if (isChosung(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성으로 입력한 글자는 초성만, 완성된 글자는 글자 전체가 같아야 일치
+     */
+    private static boolean matchesSyllables(String query, String text) {
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            if (!isChosung(q) && q != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareRank(Key a, Key b) {
+        if (a.field != b.field) {
+            return Integer.compare(a.field, b.field);
+        }
+        if (a.wordIndex != b.wordIndex) {
+            return Integer.compare(a.wordIndex, b.wordIndex);
+        }
+        if (a.length != b.length) {
+            return Integer.compare(a.length, b.length);
+        }
+        return Long.compare(a.musicId, b.musicId);
+    }
+
+    private static int lowerBound(Key[] keys, String searchKey, boolean chosung) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            String text = chosung ? keys[mid].chosung : keys[mid].normal;
+            if (text.compareTo(searchKey) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Key[] sort(List<Key> keyList, Comparator<Key> order) {
+        Key[] keys = keyList.toArray(new Key[0]);
+        Arrays.sort(keys, order);
+        return keys;
+    }
+
+    /**
+     * 기존 키에서 musicId의 키를 빼고 새 키를 정렬 순서대로 끼워 넣음
+     */
+    private static Key[] merge(Key[] keys, Long musicId, Key[] added, Comparator<Key> order) {
+        List<Key> merged = new ArrayList<>(keys.length + added.length);
+        int j = 0;
+        for (Key key : keys) {
+            if (key.musicId == musicId) {
+                continue;
+            }
+            while (j < added.length && order.compare(added[j], key) < 0) {
+                merged.add(added[j++]);
+            }
+            merged.add(key);
+        }
+        while (j < added.length) {
+            merged.add(added[j++]);
+        }
+        return merged.toArray(new Key[0]);
+    }
+
+    private static class Normalized {
+
+        private final String normal;
+        private final List<Integer> wordStarts;
+
+        private Normalized(String normal, List<Integer> wordStarts) {
+            this.normal = normal;
+            this.wordStarts = wordStarts;
+        }
+    }
+
+    private static class Key {
+
+        private final String normal;
+        private final String chosung;
+        private final long musicId;
+        private final int field;
+        private final int wordIndex;
+        private final int length;
+
+        private Key(String normal, String chosung, long musicId, int field, int wordIndex,
+            int length) {
+            this.normal = normal;
+            this.chosung = chosung;
+            this.musicId = musicId;
+            this.field = field;
+            this.wordIndex = wordIndex;
+            this.length = length;
+        }
+    }
+}
@@ -1,131 +1,234 @@
 package com.pi.stepup.domain.music.component;
 
-import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_NOT_FOUND;
-import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
-
+import com.pi.stepup.domain.music.dao.MusicApplyJdbcRepository;
 import com.pi.stepup.domain.music.dao.MusicApplyRepository;
-import com.pi.stepup.domain.music.domain.Heart;
-import com.pi.stepup.domain.music.domain.MusicApply;
-import com.pi.stepup.domain.music.exception.MusicApplyNotFoundException;
-import com.pi.stepup.domain.music.service.MusicApplyRedisService;
+import com.pi.stepup.domain.music.dao.redis.HeartBitmapRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.MusicApplyRankingRedisRepository;
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
 import com.pi.stepup.domain.user.dao.UserRepository;
-import com.pi.stepup.domain.user.exception.UserNotFoundException;
+import com.pi.stepup.domain.user.domain.User;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 변경된 사용자/노래 신청(dirty set)만 골라 Redis 좋아요를 DB에 반영
+ * DB와 다른 부분만 insert/delete 하므로 기존 heart pk는 유지됨
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MusicSyncScheduler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
     private final MusicApplyRepository musicApplyRepository;
+    private final MusicApplyJdbcRepository musicApplyJdbcRepository;
+    private final HeartRedisRepository heartRedisRepository;
+    private final HeartBitmapRedisRepository heartBitmapRedisRepository;
+    private final MusicApplyRankingRedisRepository musicApplyRankingRedisRepository;
     private final UserRepository userRepository;
-    private final MusicApplyRedisService musicApplyRedisService;
+    private final TransactionTemplate transactionTemplate;
 
-    private final long SCHEDULED_TIME = 3_000_000; // 3_000_000
-//    private final long CHECK_TTL_TIME = 60;
+    private final long SCHEDULED_TIME = 30_000;
+    private final long RESCALE_TIME = 3_600_000;
+    private final long CHUNK_SIZE = 500;
+    private final int MAX_CHUNK_PER_RUN = 100;
 
-    @Scheduled(fixedDelay = SCHEDULED_TIME) // 3_600_000 100_000
-    @Transactional
+    @Scheduled(fixedDelay = SCHEDULED_TIME)
     public void syncExpiredDataToDB() {
-        log.info("[INFO] Redis에 저장 된 Data DB에 저장");
         checkHeart();
         checkHeartCnt();
+        checkHeartBitmap();
+    }
+
+    @Scheduled(fixedDelay = RESCALE_TIME)
+    public void rescaleTrending() {
+        long rescaled = musicApplyRankingRedisRepository.rescale();
+        if (rescaled > 0) {
+            log.info("[INFO] 노래 신청 인기 점수 기준 시각 갱신 : {}건", rescaled);
+        }
     }
 
     void checkHeartCnt() {
-        log.info("[INFO] 좋아요 개수 동기화 중 ...");
-        Set<String> heartCntKeysWithKeyword = redisTemplate.keys("*heart_cnt*");
-
-        for (String heartCntKey : heartCntKeysWithKeyword) {
-//            if (redisTemplate.getExpire(heartCntKey) <= CHECK_TTL_TIME) {
-//                log.info("[INFO] 만료되기 60초 전인 데이터 : {}", heartCntKey);
-//
-//            }
-            Long musicApplyId = getMusicApplyId(heartCntKey);
-            int heartCnt = (int) redisTemplate.opsForValue().get(heartCntKey);
-
-            MusicApply musicApply = musicApplyRepository.findOne(musicApplyId).orElseThrow(
-                () -> new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage()));
-            musicApply.setHeartCnt(heartCnt);
+        for (int chunk = 0; chunk < MAX_CHUNK_PER_RUN; chunk++) {
+            List<Long> musicApplyIds = heartRedisRepository.popDirtyHeartCnt(CHUNK_SIZE);
+            if (musicApplyIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                Map<Long, Integer> heartCntMap = heartRedisRepository.findAllHeartCnt(
+                    musicApplyIds);
+                transactionTemplate.executeWithoutResult(
+                    status -> musicApplyJdbcRepository.batchUpdateHeartCnt(heartCntMap));
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 좋아요 개수 동기화 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+                heartRedisRepository.markAllDirtyHeartCnt(musicApplyIds);
+                return;
+            }
         }
     }
 
     void checkHeart() {
-        log.info("[INFO] 좋아요 동기화 중 ...");
-
-        Set<String> userKeysWithKeyword = redisTemplate.keys("*heart_music_applies*");
-        List<Heart> hearts = new ArrayList<>();
-
-        for (String userKey : userKeysWithKeyword) {
-//            if (redisTemplate.getExpire(userKey) <= CHECK_TTL_TIME) {
-//                log.info("[INFO] 만료되기 60초 전인 데이터 : {}", userKey);
-//
-//            }
-            Set<Object> values = redisTemplate.opsForSet().members(userKey);
-            String userId = getUserId(userKey);
-
-            // userId에 해당하는 musicApply 전부 삭제 => heart pk가 변경되는 현상 발생..
-            musicApplyRepository.deleteHeartById(userId);
-
-            for (Object value : values) {
-                Long musicApplyId = getMusicApplyId(value);
-                Heart heart = Heart.builder()
-                    .musicApply(musicApplyRepository.findOne(musicApplyId).orElseThrow(
-                        () -> new MusicApplyNotFoundException(
-                            MUSIC_APPLY_NOT_FOUND.getMessage())))
-                    .user(userRepository.findById(userId).orElseThrow(
-                        () -> new UserNotFoundException(USER_NOT_FOUND.getMessage())))
-                    .build();
-
-                log.debug("[DEBUG] 삽입되는 heart music apply id: {}",
-                    heart.getMusicApply().getMusicApplyId());
-
-                hearts.add(heart);
+        for (int chunk = 0; chunk < MAX_CHUNK_PER_RUN; chunk++) {
+            List<String> userIds = heartRedisRepository.popDirtyUser(CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> syncHeartChunk(userIds));
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 좋아요 동기화 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+                heartRedisRepository.markAllDirtyUser(userIds);
+                return;
+            }
+        }
+    }
+
+    /**
+     * bitmap 모드 좋아요 반영, drain 모드에서 남은 변경을 비울 수 있도록 모드와 관계없이 실행
+     * 두 모드의 diff는 각자의 캐시만 기준으로 하므로 두 모드가 동시에 쓰이면 안 됨
+     * (전환 절차는 MusicApplyRedisServiceImpl.HEART_MODE 참고)
+     */
+    void checkHeartBitmap() {
+        for (int chunk = 0; chunk < MAX_CHUNK_PER_RUN; chunk++) {
+            List<Long> musicApplyIds = heartBitmapRedisRepository.popDirty(CHUNK_SIZE);
+            if (musicApplyIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(
+                    status -> syncHeartBitmapChunk(musicApplyIds));
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 좋아요 bitmap 동기화 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+                heartBitmapRedisRepository.markAllDirty(musicApplyIds);
+                return;
             }
-            musicApplyRepository.insertHearts(hearts);
         }
     }
 
-    public Long getMusicApplyId(Object value) {
-        // Object여서 Integer로 저장되는 문제 때문에 Long으로 형변환
-        Long musicApplyId = null;
-        if (value instanceof Integer) {
-            musicApplyId = ((Integer) value).longValue();
-        } else if (value instanceof Long) {
-            musicApplyId = (Long) value;
-        } else if (value instanceof String) {
-            String pattern = "music_apply_id:(.*?):heart_cnt";
-            Pattern regexPattern = Pattern.compile(pattern);
-            Matcher matcher = regexPattern.matcher((CharSequence) value);
-            if (matcher.find()) {
-                musicApplyId = Long.valueOf(matcher.group(1));
+    private void syncHeartBitmapChunk(List<Long> musicApplyIds) {
+        // 만료된 bitmap은 알 수 없는 것이므로 DB를 건드리지 않음
+        Map<Long, Set<Long>> cachedMap = heartBitmapRedisRepository.findAllHeartUser(
+            musicApplyIds);
+        if (cachedMap.isEmpty()) {
+            return;
+        }
+
+        // 삭제된 노래 신청은 제외
+        Map<Long, Integer> heartCntMap = new HashMap<>();
+        for (MusicApplyHeartCntDto musicApply
+            : musicApplyRepository.findAllHeartCntByIdList(new ArrayList<>(cachedMap.keySet()))) {
+            heartCntMap.put(musicApply.getMusicApplyId(),
+                cachedMap.get(musicApply.getMusicApplyId()).size());
+        }
+
+        Map<Long, Map<Long, Long>> savedMap = new HashMap<>();
+        for (HeartPairDto heart : musicApplyRepository.findAllHeartByMusicApplyIdList(
+            new ArrayList<>(heartCntMap.keySet()))) {
+            savedMap.computeIfAbsent(heart.getMusicApplyId(), k -> new HashMap<>())
+                .put(heart.getUserId(), heart.getHeartId());
+        }
+
+        List<HeartPairDto> heartInsertList = new ArrayList<>();
+        List<Long> heartDeleteList = new ArrayList<>();
+        for (Long musicApplyId : heartCntMap.keySet()) {
+            Set<Long> cached = cachedMap.get(musicApplyId);
+            Map<Long, Long> saved = savedMap.getOrDefault(musicApplyId, new HashMap<>());
+
+            for (Long userPk : cached) {
+                if (!saved.containsKey(userPk)) {
+                    heartInsertList.add(new HeartPairDto(null, userPk, musicApplyId));
+                }
+            }
+            for (Map.Entry<Long, Long> savedHeart : saved.entrySet()) {
+                if (!cached.contains(savedHeart.getKey())) {
+                    heartDeleteList.add(savedHeart.getValue());
+                }
             }
         }
-        return musicApplyId;
+
+        musicApplyJdbcRepository.batchDeleteHeart(heartDeleteList);
+        musicApplyJdbcRepository.batchInsertHeart(heartInsertList);
+        musicApplyJdbcRepository.batchUpdateHeartCnt(heartCntMap);
+        log.info("[INFO] 좋아요 bitmap 동기화 - 노래 신청 : {}건, 추가 : {}건, 삭제 : {}건",
+            heartCntMap.size(), heartInsertList.size(), heartDeleteList.size());
     }
 
-    public String getUserId(String userKey) {
-        // 정규식으로 아이디 가져오기
-        String pattern = "user:(.*?):heart_music_applies";
-        Pattern regexPattern = Pattern.compile(pattern);
-        Matcher matcher = regexPattern.matcher(userKey);
-        String userId;
-        if (matcher.find()) {
-            userId = matcher.group(1);
-        } else {
-            userId = null;
+    private void syncHeartChunk(List<String> userIds) {
+        // 만료된 사용자 set은 비어있는 것이 아니라 알 수 없는 것이므로 DB를 건드리지 않음
+        Map<String, Set<Long>> cachedMap = heartRedisRepository.findAllUserHeart(userIds);
+        if (cachedMap.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> userPkMap = new HashMap<>();
+        for (User user : userRepository.findAllByIdList(new ArrayList<>(cachedMap.keySet()))) {
+            userPkMap.put(user.getId(), user.getUserId());
+        }
+
+        Map<Long, Map<Long, Long>> savedMap = new HashMap<>();
+        for (HeartPairDto heart
+            : musicApplyRepository.findAllHeartByUserIdList(new ArrayList<>(userPkMap.values()))) {
+            savedMap.computeIfAbsent(heart.getUserId(), k -> new HashMap<>())
+                .put(heart.getMusicApplyId(), heart.getHeartId());
+        }
+
+        // 삭제된 노래 신청에 대한 좋아요는 insert 하지 않음
+        Set<Long> candidateIds = new HashSet<>();
+        for (Map.Entry<String, Set<Long>> entry : cachedMap.entrySet()) {
+            Long userPk = userPkMap.get(entry.getKey());
+            if (userPk == null) {
+                continue;
+            }
+            for (Long musicApplyId : entry.getValue()) {
+                if (!savedMap.getOrDefault(userPk, new HashMap<>()).containsKey(musicApplyId)) {
+                    candidateIds.add(musicApplyId);
+                }
+            }
+        }
+        Set<Long> existingIds = new HashSet<>();
+        for (MusicApplyHeartCntDto musicApply
+            : musicApplyRepository.findAllHeartCntByIdList(new ArrayList<>(candidateIds))) {
+            existingIds.add(musicApply.getMusicApplyId());
+        }
+
+        List<HeartPairDto> heartInsertList = new ArrayList<>();
+        List<Long> heartDeleteList = new ArrayList<>();
+        for (Map.Entry<String, Set<Long>> entry : cachedMap.entrySet()) {
+            Long userPk = userPkMap.get(entry.getKey());
+            if (userPk == null) {
+                continue;
+            }
+            Set<Long> cached = entry.getValue();
+            Map<Long, Long> saved = savedMap.getOrDefault(userPk, new HashMap<>());
+
+            for (Long musicApplyId : cached) {
+                if (!saved.containsKey(musicApplyId) && existingIds.contains(musicApplyId)) {
+                    heartInsertList.add(new HeartPairDto(null, userPk, musicApplyId));
+                }
+            }
+            for (Map.Entry<Long, Long> savedHeart : saved.entrySet()) {
+                if (!cached.contains(savedHeart.getKey())) {
+                    heartDeleteList.add(savedHeart.getValue());
+                }
+            }
         }
-        return userId;
+
+        musicApplyJdbcRepository.batchDeleteHeart(heartDeleteList);
+        musicApplyJdbcRepository.batchInsertHeart(heartInsertList);
+        log.info("[INFO] 좋아요 동기화 - 사용자 : {}명, 추가 : {}건, 삭제 : {}건",
+            cachedMap.size(), heartInsertList.size(), heartDeleteList.size());
     }
 }
@@ -5,6 +5,7 @@ public enum MusicApplyResponseMessage {
     READ_ALL_MUSIC_APPLY_SUCCESS("노래 신청 목록 조회 완료"),
     READ_ONE_MUSIC_APPLY_SUCCESS("노래 신청 상세 조회 완료"),
     READ_MY_MUSIC_APPLY_SUCCESS("나의 노래 신청 목록 조회 완료"),
+    READ_TRENDING_MUSIC_APPLY_SUCCESS("인기 노래 신청 목록 조회 완료"),
     DELETE_MUSIC_APPLY_SUCCESS("노래 신청 삭제 완료"),
     ADD_MUSIC_APPLY_LIKE_SUCCESS("노래 신청 좋아요 완료"),
     DELETE_MUSIC_APPLY_LIKE_SUCCESS("좋아요 취소 완료"),
@@ -0,0 +1,5 @@
+package com.pi.stepup.domain.music.constant;
+
+public enum MusicApplySortType {
+    NEWEST, HEART
+}
@@ -9,7 +9,11 @@ public enum MusicExceptionMessage {
     MUSIC_APPLY_DELETE_FAIL("노래 신청 삭제 실패"),
     UNAUTHORIZED_USER_ACCESS("접근 권한 없음"),
     ADD_HEART_FAIL("좋아요 실패"),
-    REMOVE_HEART_FAIL("좋아요 취소 실패")
+    REMOVE_HEART_FAIL("좋아요 취소 실패"),
+    HEART_MODE_SWITCHING("좋아요 저장 방식 전환 중, 잠시 후 다시 시도"),
+    MUSIC_APPLY_INVALID_CURSOR("유효하지 않은 페이지 커서"),
+    MUSIC_APPLY_INVALID_PAGE_SIZE("유효하지 않은 페이지 크기(1 이상 100 이하만 가능)"),
+    MUSIC_APPLY_INVALID_SORT("유효하지 않은 정렬 기준(NEWEST, HEART만 가능)")
     ;
 
 
@@ -4,6 +4,7 @@ public enum MusicResponseMessage {
     CREATE_MUSIC_SUCCESS("노래 등록 완료"),
     READ_ONE_MUSIC_SUCCESS("노래 조회 완료"),
     READ_ALL_MUSIC_SUCCESS("노래 목록 조회 완료"),
+    SUGGEST_MUSIC_SUCCESS("노래 자동완성 조회 완료"),
     DELETE_MUSIC_SUCCESS("노래 삭제 완료"),
     UPDATE_MUSIC_SUCCESS("노래 수정 완료");
 
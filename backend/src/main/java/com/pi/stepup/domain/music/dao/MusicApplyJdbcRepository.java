@@ -0,0 +1,65 @@
+package com.pi.stepup.domain.music.dao;
+
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 동기화의 대량 쓰기를 JDBC 배치로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class MusicApplyJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int[] batchInsertHeart(List<HeartPairDto> heartList) {
+        if (heartList.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (HeartPairDto heart : heartList) {
+            batchArgs.add(new Object[]{heart.getUserId(), heart.getMusicApplyId(), now, now});
+        }
+
+        return jdbcTemplate.batchUpdate("INSERT INTO heart "
+            + "(user_id, music_apply_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?)", batchArgs);
+    }
+
+    public int[] batchDeleteHeart(List<Long> heartIdList) {
+        if (heartIdList.isEmpty()) {
+            return new int[0];
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long heartId : heartIdList) {
+            batchArgs.add(new Object[]{heartId});
+        }
+
+        return jdbcTemplate.batchUpdate("DELETE FROM heart WHERE heart_id = ?", batchArgs);
+    }
+
+    public int[] batchUpdateHeartCnt(Map<Long, Integer> heartCntMap) {
+        if (heartCntMap.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : heartCntMap.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), now, entry.getKey()});
+        }
+
+        return jdbcTemplate.batchUpdate("UPDATE music_apply "
+            + "SET heart_cnt = ?, modified_at = ? WHERE music_apply_id = ?", batchArgs);
+    }
+}
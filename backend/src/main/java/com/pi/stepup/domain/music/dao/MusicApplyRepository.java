@@ -1,7 +1,13 @@
 package com.pi.stepup.domain.music.dao;
 
+import com.pi.stepup.domain.music.constant.MusicApplySortType;
 import com.pi.stepup.domain.music.domain.Heart;
 import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.dto.MusicApplyCursor;
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyFeedDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyPopularityDto;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +27,33 @@ public interface MusicApplyRepository {
 
     List<Heart> findHeartById(String id);
 
+    List<Long> findAllHeartMusicApplyIdById(String id);
+
+    List<MusicApplyHeartCntDto> findAllHeartCntByIdList(List<Long> musicApplyIdList);
+
+    List<MusicApplyHeartCntDto> findAllRecentHeartCnt(int size);
+
+    List<MusicApplyHeartCntDto> findAllHeartCnt();
+
+    List<MusicApplyPopularityDto> findAllPopularity();
+
+    List<MusicApply> findAllByIdList(List<Long> musicApplyIdList);
+
+    List<String> findAllHeartUserIdByMusicApplyId(Long musicApplyId);
+
+    List<HeartPairDto> findAllHeartByUserIdList(List<Long> userIdList);
+
+    List<HeartPairDto> findAllHeartByMusicApplyIdList(List<Long> musicApplyIdList);
+
     List<MusicApply> findAll(String keyword);
 
     List<MusicApply> findAllByUserId(Long userId);
 
     List<MusicApply> findById(String id);
 
+    List<MusicApplyFeedDto> findAllFeed(String keyword, String writerId,
+        MusicApplySortType sort, MusicApplyCursor cursor, int limit);
+
     void delete(Long musicApplyId);
 
     void deleteHeart(Long heartId);
@@ -1,11 +1,19 @@
 package com.pi.stepup.domain.music.dao;
 
+import com.pi.stepup.domain.music.constant.MusicApplySortType;
 import com.pi.stepup.domain.music.domain.Heart;
 import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.dto.MusicApplyCursor;
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyFeedDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyPopularityDto;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import javax.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -32,16 +40,20 @@ public class MusicApplyRepositoryImpl implements MusicApplyRepository {
 
     @Override
     public List<MusicApply> findAll(String keyword) {
-        String sql = "SELECT ma FROM MusicApply ma ";
+        String sql = "SELECT ma FROM MusicApply ma "
+            + "JOIN FETCH ma.writer ";
 
-        if (StringUtils.hasText(keyword) && !keyword.equals("")) {
-            sql += "WHERE ma.title LIKE '%" + keyword + "%' OR " +
-                "ma.artist LIKE '%" + keyword + "%'";
+        if (StringUtils.hasText(keyword)) {
+            sql += "WHERE ma.title LIKE :keyword OR ma.artist LIKE :keyword";
         }
 
         sql += " ORDER BY ma.musicApplyId DESC";
 
-        return em.createQuery(sql, MusicApply.class).getResultList();
+        TypedQuery<MusicApply> query = em.createQuery(sql, MusicApply.class);
+        if (StringUtils.hasText(keyword)) {
+            query.setParameter("keyword", "%" + keyword + "%");
+        }
+        return query.getResultList();
     }
 
     @Override
@@ -56,8 +68,8 @@ public class MusicApplyRepositoryImpl implements MusicApplyRepository {
     public List<MusicApply> findById(String id) {
         return em.createQuery(
                 "SELECT ma FROM MusicApply ma "
-                    + "LEFT JOIN FETCH ma.hearts h " +
-                    "WHERE ma.writer.id = :id "
+                    + "JOIN FETCH ma.writer w "
+                    + "WHERE w.id = :id "
                     + "ORDER BY ma.musicApplyId DESC"
                 , MusicApply.class
             )
@@ -65,6 +77,56 @@ public class MusicApplyRepositoryImpl implements MusicApplyRepository {
             .getResultList();
     }
 
+    /**
+     * 좋아요(Heart)는 읽지 않고 목록에 필요한 컬럼만 조회
+     * 최신순은 (musicApplyId), 좋아요순은 (heartCnt, musicApplyId) 내림차순으로 커서 다음부터 limit 개
+     */
+    @Override
+    public List<MusicApplyFeedDto> findAllFeed(String keyword, String writerId,
+        MusicApplySortType sort, MusicApplyCursor cursor, int limit) {
+        boolean heartSort = sort == MusicApplySortType.HEART;
+        List<String> conditions = new ArrayList<>();
+
+        if (StringUtils.hasText(keyword)) {
+            conditions.add("(ma.title LIKE :keyword OR ma.artist LIKE :keyword)");
+        }
+        if (writerId != null) {
+            conditions.add("w.id = :writerId");
+        }
+        if (cursor != null) {
+            conditions.add(heartSort
+                ? "(ma.heartCnt < :heartCnt OR "
+                + "(ma.heartCnt = :heartCnt AND ma.musicApplyId < :musicApplyId))"
+                : "ma.musicApplyId < :musicApplyId");
+        }
+
+        String sql = "SELECT new com.pi.stepup.domain.music.dto.statistics"
+            + ".MusicApplyFeedDto(ma.musicApplyId, ma.title, ma.artist, ma.content, "
+            + "w.nickname, w.profileImg, ma.heartCnt) "
+            + "FROM MusicApply ma "
+            + "JOIN ma.writer w ";
+        if (!conditions.isEmpty()) {
+            sql += "WHERE " + String.join(" AND ", conditions) + " ";
+        }
+        sql += heartSort ? "ORDER BY ma.heartCnt DESC, ma.musicApplyId DESC"
+            : "ORDER BY ma.musicApplyId DESC";
+
+        TypedQuery<MusicApplyFeedDto> query = em.createQuery(sql, MusicApplyFeedDto.class);
+        if (StringUtils.hasText(keyword)) {
+            query.setParameter("keyword", "%" + keyword + "%");
+        }
+        if (writerId != null) {
+            query.setParameter("writerId", writerId);
+        }
+        if (cursor != null) {
+            if (heartSort) {
+                query.setParameter("heartCnt", cursor.getHeartCnt());
+            }
+            query.setParameter("musicApplyId", cursor.getMusicApplyId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
     @Override
     public Optional<MusicApply> findOne(Long musicApplyId) {
         Optional<MusicApply> musicApply;
@@ -128,6 +190,122 @@ public class MusicApplyRepositoryImpl implements MusicApplyRepository {
             .getResultList();
     }
 
+    @Override
+    public List<Long> findAllHeartMusicApplyIdById(String id) {
+        return em.createQuery(
+                "SELECT h.musicApply.musicApplyId FROM Heart h "
+                    + "WHERE h.user.id = :id", Long.class
+            )
+            .setParameter("id", id)
+            .getResultList();
+    }
+
+    @Override
+    public List<MusicApplyHeartCntDto> findAllHeartCntByIdList(List<Long> musicApplyIdList) {
+        if (musicApplyIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".MusicApplyHeartCntDto(ma.musicApplyId, ma.heartCnt) "
+                    + "FROM MusicApply ma "
+                    + "WHERE ma.musicApplyId IN :musicApplyIdList", MusicApplyHeartCntDto.class
+            )
+            .setParameter("musicApplyIdList", musicApplyIdList)
+            .getResultList();
+    }
+
+    @Override
+    public List<MusicApplyHeartCntDto> findAllRecentHeartCnt(int size) {
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".MusicApplyHeartCntDto(ma.musicApplyId, ma.heartCnt) "
+                    + "FROM MusicApply ma "
+                    + "ORDER BY ma.musicApplyId DESC", MusicApplyHeartCntDto.class
+            )
+            .setMaxResults(size)
+            .getResultList();
+    }
+
+    @Override
+    public List<MusicApplyHeartCntDto> findAllHeartCnt() {
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".MusicApplyHeartCntDto(ma.musicApplyId, ma.heartCnt) "
+                    + "FROM MusicApply ma", MusicApplyHeartCntDto.class
+            )
+            .getResultList();
+    }
+
+    @Override
+    public List<MusicApplyPopularityDto> findAllPopularity() {
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".MusicApplyPopularityDto(ma.title, ma.artist, SUM(ma.heartCnt)) "
+                    + "FROM MusicApply ma "
+                    + "GROUP BY ma.title, ma.artist", MusicApplyPopularityDto.class
+            )
+            .getResultList();
+    }
+
+    @Override
+    public List<MusicApply> findAllByIdList(List<Long> musicApplyIdList) {
+        if (musicApplyIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT ma FROM MusicApply ma "
+                    + "JOIN FETCH ma.writer "
+                    + "WHERE ma.musicApplyId IN :musicApplyIdList", MusicApply.class
+            )
+            .setParameter("musicApplyIdList", musicApplyIdList)
+            .getResultList();
+    }
+
+    @Override
+    public List<String> findAllHeartUserIdByMusicApplyId(Long musicApplyId) {
+        return em.createQuery(
+                "SELECT h.user.id FROM Heart h "
+                    + "WHERE h.musicApply.musicApplyId = :musicApplyId", String.class
+            )
+            .setParameter("musicApplyId", musicApplyId)
+            .getResultList();
+    }
+
+    @Override
+    public List<HeartPairDto> findAllHeartByMusicApplyIdList(List<Long> musicApplyIdList) {
+        if (musicApplyIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".HeartPairDto(h.heartId, h.user.userId, h.musicApply.musicApplyId) "
+                    + "FROM Heart h "
+                    + "WHERE h.musicApply.musicApplyId IN :musicApplyIdList", HeartPairDto.class
+            )
+            .setParameter("musicApplyIdList", musicApplyIdList)
+            .getResultList();
+    }
+
+    @Override
+    public List<HeartPairDto> findAllHeartByUserIdList(List<Long> userIdList) {
+        if (userIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT new com.pi.stepup.domain.music.dto.statistics"
+                    + ".HeartPairDto(h.heartId, h.user.userId, h.musicApply.musicApplyId) "
+                    + "FROM Heart h "
+                    + "WHERE h.user.userId IN :userIdList", HeartPairDto.class
+            )
+            .setParameter("userIdList", userIdList)
+            .getResultList();
+    }
+
     @Override
     public void delete(Long musicApplyId) {
         MusicApply musicApply = em.find(MusicApply.class, musicApplyId);
@@ -13,6 +13,8 @@ public interface MusicRepository {
 
     List<Music> findAll(String keyword);
 
+    List<Music> findAllByIdList(List<Long> musicIdList);
+
     void delete(Long musicId);
 
     Optional<Music> findByTitleAndArtist(String title, String artist);
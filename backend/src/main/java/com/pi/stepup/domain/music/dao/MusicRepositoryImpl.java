@@ -7,6 +7,7 @@ import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,14 +38,25 @@ public class MusicRepositoryImpl implements MusicRepository {
 
     @Override
     public List<Music> findAll(String keyword) {
-        String sql = "SELECT m FROM Music m ";
+        if (!StringUtils.hasText(keyword)) {
+            return em.createQuery("SELECT m FROM Music m", Music.class).getResultList();
+        }
+
+        return em.createQuery("SELECT m FROM Music m " +
+                        "WHERE m.title LIKE :keyword OR m.artist LIKE :keyword", Music.class)
+                .setParameter("keyword", "%" + keyword + "%")
+                .getResultList();
+    }
 
-        if (StringUtils.hasText(keyword) && !keyword.equals("")) {
-            sql += "WHERE m.title LIKE '%" + keyword + "%' OR " +
-                    "m.artist LIKE '%" + keyword + "%'";
+    @Override
+    public List<Music> findAllByIdList(List<Long> musicIdList) {
+        if (musicIdList.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return em.createQuery(sql, Music.class).getResultList();
+        return em.createQuery("SELECT m FROM Music m WHERE m.musicId IN :musicIdList", Music.class)
+                .setParameter("musicIdList", musicIdList)
+                .getResultList();
     }
 
     @Override
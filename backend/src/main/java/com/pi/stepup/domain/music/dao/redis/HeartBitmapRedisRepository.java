@@ -0,0 +1,230 @@
+package com.pi.stepup.domain.music.dao.redis;
+
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CANNOT_HEART;
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CAN_HEART;
+import static com.pi.stepup.domain.music.dao.redis.HeartRedisRepository.HEART_MISS;
+
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노래 신청 좋아요 bitmap 캐시 (spring.redis.heart-mode=bitmap)
+ * music_apply:{musicApplyId}:heart_bitmap - 좋아요한 사용자의 User.userId 위치의 bit가 1
+ * dirty:heart_bitmap - DB에 반영되지 않은 좋아요 변경이 있는 노래 신청 id
+ * 좋아요 개수는 BITCOUNT, 좋아요 여부는 GETBIT 로 계산하므로 개수/사용자 set 키가 따로 없음
+ * 키가 있으면 비트가 0이어도 DB와 같은 상태로 보므로, 채울 때는 0번 bit를 먼저 써서 빈 bitmap도 만들어 둠
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartBitmapRedisRepository {
+
+    private static final String DIRTY_HEART_BITMAP_KEY = "dirty:heart_bitmap";
+
+    // KEYS[1] 좋아요 bitmap, KEYS[2] dirty:heart_bitmap
+    // ARGV[1] userId(User.userId), ARGV[2] 1(추가) / -1(취소), ARGV[3] ttl(ms), ARGV[4] musicApplyId
+    // ARGV[5] 1이면 없는 키를 ARGV[6..](DB 좋아요 사용자)로 채움
+    // 채운 키는 변경이 없더라도 만료되도록 채울 때 TTL을 함께 설정
+    // 반환 : {HEART_MISS | HEART_UNCHANGED | HEART_CHANGED, 좋아요 개수}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CHANGE_HEART_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then "
+            + "if ARGV[5] ~= '1' then return {-1, 0} end "
+            + "redis.call('SETBIT', KEYS[1], 0, 0) "
+            + "for i = 6, #ARGV do redis.call('SETBIT', KEYS[1], ARGV[i], 1) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) end "
+            + "local isMember = redis.call('GETBIT', KEYS[1], ARGV[1]) "
+            + "local delta = tonumber(ARGV[2]) "
+            + "if (delta > 0 and isMember == 1) or (delta < 0 and isMember == 0) then "
+            + "return {0, redis.call('BITCOUNT', KEYS[1])} end "
+            + "redis.call('SETBIT', KEYS[1], ARGV[1], delta > 0 and 1 or 0) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "redis.call('SADD', KEYS[2], ARGV[4]) "
+            + "return {1, redis.call('BITCOUNT', KEYS[1])}", List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getHeartBitmapKey(Long musicApplyId) {
+        return "music_apply:" + musicApplyId + ":heart_bitmap";
+    }
+
+    /**
+     * @return {HEART_MISS | HEART_UNCHANGED | HEART_CHANGED, 좋아요 개수}
+     */
+    public long[] changeHeart(Long userNo, Long musicApplyId, int delta, long expiration) {
+        return changeHeart(userNo, musicApplyId, delta, expiration, false, new ArrayList<>());
+    }
+
+    public long[] changeHeart(Long userNo, Long musicApplyId, int delta, long expiration,
+        List<Long> heartUserNos) {
+        return changeHeart(userNo, musicApplyId, delta, expiration, true, heartUserNos);
+    }
+
+    private long[] changeHeart(Long userNo, Long musicApplyId, int delta, long expiration,
+        boolean seed, List<Long> heartUserNos) {
+        List<Object> args = new ArrayList<>(Arrays.asList(
+            userNo, delta, expiration, musicApplyId, seed ? 1 : 0));
+        args.addAll(heartUserNos);
+
+        List<?> result = redisTemplate.execute(CHANGE_HEART_SCRIPT,
+            Arrays.asList(getHeartBitmapKey(musicApplyId), DIRTY_HEART_BITMAP_KEY),
+            args.toArray());
+        if (result == null || result.size() < 2) {
+            return new long[]{HEART_MISS, 0};
+        }
+        return new long[]{Long.parseLong(String.valueOf(result.get(0))),
+            Long.parseLong(String.valueOf(result.get(1)))};
+    }
+
+    /**
+     * 좋아요 여부(GETBIT)와 좋아요 개수(BITCOUNT)를 한 번의 pipeline으로 조회
+     * 키가 없는 노래 신청은 결과에 포함하지 않음 (userNo가 null이면 좋아요 가능으로 표시)
+     */
+    public Map<Long, HeartResponseDto> findAllHeart(Long userNo, List<Long> musicApplyIds) {
+        Map<Long, HeartResponseDto> heartMap = new HashMap<>();
+        if (musicApplyIds.isEmpty()) {
+            return heartMap;
+        }
+
+        List<Object> results = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                for (Long musicApplyId : musicApplyIds) {
+                    byte[] key = rawKey(musicApplyId);
+                    connection.keyCommands().exists(key);
+                    connection.stringCommands().bitCount(key);
+                    if (userNo != null) {
+                        connection.stringCommands().getBit(key, userNo);
+                    }
+                }
+                return null;
+            });
+
+        int step = userNo == null ? 2 : 3;
+        for (int i = 0; i < musicApplyIds.size(); i++) {
+            if (!Boolean.TRUE.equals(results.get(i * step))) {
+                continue;
+            }
+
+            Long musicApplyId = musicApplyIds.get(i);
+            boolean isMember = userNo != null && Boolean.TRUE.equals(results.get(i * step + 2));
+            heartMap.put(musicApplyId, HeartResponseDto.builder()
+                .musicApplyId(musicApplyId)
+                .heartCnt(Integer.valueOf(String.valueOf(results.get(i * step + 1))))
+                .canHeart(isMember ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus())
+                .build());
+        }
+        return heartMap;
+    }
+
+    /**
+     * 좋아요한 사용자의 User.userId, 키가 없으면 null
+     */
+    public Set<Long> findAllHeartUser(Long musicApplyId) {
+        byte[] bitmap = redisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands()
+                .get(rawKey(musicApplyId)));
+        return bitmap == null ? null : toUserNos(bitmap);
+    }
+
+    /**
+     * 노래 신청별 좋아요 사용자, 캐시에 없는(만료된) 노래 신청은 포함하지 않음
+     */
+    public Map<Long, Set<Long>> findAllHeartUser(List<Long> musicApplyIds) {
+        List<Object> bitmaps = redisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                for (Long musicApplyId : musicApplyIds) {
+                    connection.stringCommands().get(rawKey(musicApplyId));
+                }
+                return null;
+            }, null);
+
+        Map<Long, Set<Long>> heartUserMap = new HashMap<>();
+        for (int i = 0; i < musicApplyIds.size(); i++) {
+            if (bitmaps.get(i) instanceof byte[]) {
+                heartUserMap.put(musicApplyIds.get(i), toUserNos((byte[]) bitmaps.get(i)));
+            }
+        }
+        return heartUserMap;
+    }
+
+    /**
+     * 이미 키가 있으면(다른 요청이 먼저 채웠거나 변경한 경우) 덮어쓰지 않음
+     */
+    public void addAllHeartUser(Map<Long, List<Long>> heartUserMap, long expiration) {
+        if (heartUserMap.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, List<Long>> entry : heartUserMap.entrySet()) {
+                connection.stringCommands().setNX(rawKey(entry.getKey()),
+                    toBitmap(entry.getValue()));
+                connection.keyCommands().pExpire(rawKey(entry.getKey()), expiration);
+            }
+            return null;
+        });
+    }
+
+    public void markAllDirty(Collection<Long> musicApplyIds) {
+        if (musicApplyIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_HEART_BITMAP_KEY, musicApplyIds.toArray());
+    }
+
+    public List<Long> popDirty(long count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(DIRTY_HEART_BITMAP_KEY, count);
+
+        List<Long> musicApplyIds = new ArrayList<>();
+        if (popped != null) {
+            for (Object musicApplyId : popped) {
+                musicApplyIds.add(Long.valueOf(String.valueOf(musicApplyId)));
+            }
+        }
+        return musicApplyIds;
+    }
+
+    private byte[] rawKey(Long musicApplyId) {
+        return getHeartBitmapKey(musicApplyId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Redis bitmap은 첫 byte의 최상위 bit가 0번
+    static Set<Long> toUserNos(byte[] bitmap) {
+        Set<Long> userNos = new HashSet<>();
+        for (int i = 0; i < bitmap.length; i++) {
+            int bits = bitmap[i] & 0xFF;
+            while (bits != 0) {
+                int highest = Integer.numberOfLeadingZeros(bits) - 24;
+                userNos.add((long) i * 8 + highest);
+                bits &= ~(0x80 >>> highest);
+            }
+        }
+        return userNos;
+    }
+
+    static byte[] toBitmap(List<Long> userNos) {
+        long max = 0;
+        for (Long userNo : userNos) {
+            max = Math.max(max, userNo);
+        }
+
+        byte[] bitmap = new byte[(int) (max / 8) + 1];
+        for (Long userNo : userNos) {
+            bitmap[(int) (userNo / 8)] |= (byte) (0x80 >>> (userNo % 8));
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,383 @@
+package com.pi.stepup.domain.music.dao.redis;
+
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CANNOT_HEART;
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CAN_HEART;
+
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노래 신청 좋아요 캐시
+ * user:{userId}:heart_music_applies - 사용자가 좋아요한 노래 신청 id
+ * music_apply_id:{musicApplyId}:heart_cnt - 노래 신청 좋아요 개수
+ * musicApply:{musicApplyId}:heart_user - 노래 신청에 좋아요한 사용자 id
+ * dirty:heart - DB에 반영되지 않은 좋아요 변경이 있는 사용자 id
+ * dirty:heart_cnt - DB에 반영되지 않은 좋아요 개수 변경이 있는 노래 신청 id
+ * 사용자 좋아요 set은 키가 없으면 알 수 없는 상태로 보므로, 채울 때 EMPTY_MARKER(0)를 함께 넣어
+ * 좋아요를 모두 취소해도 빈 set으로 남게 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeartRedisRepository {
+
+    public static final long HEART_MISS = -1;
+    public static final long HEART_UNCHANGED = 0;
+    public static final long HEART_CHANGED = 1;
+
+    // 노래 신청 id는 1부터 시작하므로 좋아요 목록과 겹치지 않음
+    private static final long EMPTY_MARKER = 0;
+
+    private static final String DIRTY_HEART_KEY = "dirty:heart";
+    private static final String DIRTY_HEART_CNT_KEY = "dirty:heart_cnt";
+
+    // KEYS[1] 사용자 좋아요 set, KEYS[2] 좋아요 개수, KEYS[3] dirty:heart, KEYS[4] dirty:heart_cnt
+    // ARGV[1] musicApplyId, ARGV[2] 1(추가) / -1(취소), ARGV[3] ttl(ms), ARGV[4] userId
+    // ARGV[5] 1이면 없는 키를 ARGV[6](DB 좋아요 개수), ARGV[7..](DB 좋아요 목록)으로 채움
+    // 채운 키는 변경이 없더라도 만료되도록 채울 때 TTL을 함께 설정
+    // 반환 : {HEART_MISS | HEART_UNCHANGED | HEART_CHANGED, 좋아요 개수}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CHANGE_HEART_SCRIPT = new DefaultRedisScript<>(
+        "if ARGV[5] == '1' then "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then "
+            + "redis.call('SADD', KEYS[1], '" + EMPTY_MARKER + "') "
+            + "for i = 7, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) end "
+            + "if redis.call('EXISTS', KEYS[2]) == 0 then "
+            + "redis.call('SET', KEYS[2], ARGV[6], 'PX', ARGV[3]) end "
+            + "elseif redis.call('EXISTS', KEYS[1]) == 0 "
+            + "or redis.call('EXISTS', KEYS[2]) == 0 then return {-1, 0} end "
+            + "local isMember = redis.call('SISMEMBER', KEYS[1], ARGV[1]) "
+            + "local delta = tonumber(ARGV[2]) "
+            + "if (delta > 0 and isMember == 1) or (delta < 0 and isMember == 0) then "
+            + "return {0, tonumber(redis.call('GET', KEYS[2]))} end "
+            + "if delta > 0 then redis.call('SADD', KEYS[1], ARGV[1]) "
+            + "else redis.call('SREM', KEYS[1], ARGV[1]) end "
+            + "local heartCnt = redis.call('INCRBY', KEYS[2], delta) "
+            + "if heartCnt < 0 then heartCnt = 0 redis.call('SET', KEYS[2], 0) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+            + "redis.call('SADD', KEYS[3], ARGV[4]) "
+            + "redis.call('SADD', KEYS[4], ARGV[1]) "
+            + "return {1, heartCnt}", List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getUserHeartKey(String userId) {
+        return "user:" + userId + ":heart_music_applies";
+    }
+
+    public static String getHeartCntKey(Long musicApplyId) {
+        return "music_apply_id:" + musicApplyId + ":heart_cnt";
+    }
+
+    public static String getHeartUserKey(Long musicApplyId) {
+        return "musicApply:" + musicApplyId + ":heart_user";
+    }
+
+    public Integer findHeartCnt(Long musicApplyId) {
+        Object heartCnt = redisTemplate.opsForValue().get(getHeartCntKey(musicApplyId));
+        return heartCnt == null ? null : Integer.valueOf(String.valueOf(heartCnt));
+    }
+
+    public Boolean isUserHeart(String userId, Long musicApplyId) {
+        String userHeartKey = getUserHeartKey(userId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.hasKey(userHeartKey);
+                redisOperations.opsForSet().isMember(userHeartKey, musicApplyId);
+                return null;
+            }
+        });
+
+        // 사용자 좋아요 목록이 캐시에 없으면 null
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            return null;
+        }
+        return Boolean.TRUE.equals(results.get(1));
+    }
+
+    public Set<Object> findAllHeartUser(Long musicApplyId) {
+        return redisTemplate.opsForSet().members(getHeartUserKey(musicApplyId));
+    }
+
+    /**
+     * 좋아요 여부 확인, 사용자 set 변경, 개수 증감, TTL 갱신을 한 번에 처리
+     * 캐시에 키가 없으면 HEART_MISS를 반환하므로 DB 값과 함께 다시 호출
+     *
+     * @return {HEART_MISS | HEART_UNCHANGED | HEART_CHANGED, 좋아요 개수}
+     */
+    public long[] changeHeart(String userId, Long musicApplyId, int delta, long expiration) {
+        return changeHeart(userId, musicApplyId, delta, expiration, false, 0,
+            new ArrayList<>());
+    }
+
+    public long[] changeHeart(String userId, Long musicApplyId, int delta, long expiration,
+        int heartCnt, List<Long> heartMusicApplyIds) {
+        return changeHeart(userId, musicApplyId, delta, expiration, true, heartCnt,
+            heartMusicApplyIds);
+    }
+
+    private long[] changeHeart(String userId, Long musicApplyId, int delta, long expiration,
+        boolean seed, int heartCnt, List<Long> heartMusicApplyIds) {
+        List<Object> args = new ArrayList<>(Arrays.asList(
+            musicApplyId, delta, expiration, userId, seed ? 1 : 0, heartCnt));
+        args.addAll(heartMusicApplyIds);
+
+        List<?> result = redisTemplate.execute(CHANGE_HEART_SCRIPT,
+            Arrays.asList(getUserHeartKey(userId), getHeartCntKey(musicApplyId),
+                DIRTY_HEART_KEY, DIRTY_HEART_CNT_KEY),
+            args.toArray());
+        if (result == null || result.size() < 2) {
+            return new long[]{HEART_MISS, 0};
+        }
+        return new long[]{Long.parseLong(String.valueOf(result.get(0))),
+            Long.parseLong(String.valueOf(result.get(1)))};
+    }
+
+    /**
+     * 좋아요 여부(SMISMEMBER)와 좋아요 개수(MGET)를 한 번의 pipeline으로 조회
+     * 캐시에 없는 값은 null (userId가 null이면 좋아요 여부는 조회하지 않음)
+     */
+    public Map<Long, HeartResponseDto> findAllHeart(String userId, List<Long> musicApplyIds) {
+        Map<Long, HeartResponseDto> heartMap = new HashMap<>();
+        if (musicApplyIds.isEmpty()) {
+            return heartMap;
+        }
+
+        List<String> heartCntKeys = new ArrayList<>();
+        for (Long musicApplyId : musicApplyIds) {
+            heartCntKeys.add(getHeartCntKey(musicApplyId));
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForValue().multiGet(heartCntKeys);
+                if (userId != null) {
+                    redisOperations.hasKey(getUserHeartKey(userId));
+                    redisOperations.opsForSet()
+                        .isMember(getUserHeartKey(userId), musicApplyIds.toArray());
+                }
+                return null;
+            }
+        });
+
+        List<?> heartCnts = (List<?>) results.get(0);
+        boolean userHeartExists = userId != null && Boolean.TRUE.equals(results.get(1));
+        Object isMembers = userHeartExists ? results.get(2) : null;
+
+        for (int i = 0; i < musicApplyIds.size(); i++) {
+            Long musicApplyId = musicApplyIds.get(i);
+            Object heartCnt = heartCnts == null ? null : heartCnts.get(i);
+
+            Integer canHeart = null;
+            if (userId == null) {
+                canHeart = CAN_HEART.getHeartStatus();
+            } else if (userHeartExists) {
+                canHeart = isMember(isMembers, i, musicApplyId)
+                    ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus();
+            }
+
+            heartMap.put(musicApplyId, HeartResponseDto.builder()
+                .musicApplyId(musicApplyId)
+                .heartCnt(heartCnt == null ? null : Integer.valueOf(String.valueOf(heartCnt)))
+                .canHeart(canHeart)
+                .build());
+        }
+        return heartMap;
+    }
+
+    /**
+     * 이미 키가 있으면(다른 요청이 먼저 채웠거나 변경한 경우) 덮어쓰지 않음
+     */
+    public void addAllHeartCnt(Map<Long, Integer> heartCntMap, long expiration) {
+        if (heartCntMap.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (Map.Entry<Long, Integer> entry : heartCntMap.entrySet()) {
+                    redisOperations.opsForValue().setIfAbsent(getHeartCntKey(entry.getKey()),
+                        entry.getValue(), expiration, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 좋아요한 노래 신청이 없어도 EMPTY_MARKER만 있는 set을 만들어 둠
+     */
+    public void addAllUserHeart(String userId, List<Long> musicApplyIds, long expiration) {
+        List<Object> members = new ArrayList<>();
+        members.add(EMPTY_MARKER);
+        members.addAll(musicApplyIds);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForSet().add(getUserHeartKey(userId), members.toArray());
+                redisOperations.expire(getUserHeartKey(userId), expiration,
+                    TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+    }
+
+    public void addAllHeartUser(Long musicApplyId, List<String> userIds, long expiration) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForSet()
+                    .add(getHeartUserKey(musicApplyId), userIds.toArray());
+                redisOperations.expire(getHeartUserKey(musicApplyId), expiration,
+                    TimeUnit.MILLISECONDS);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 사용자별 좋아요 set 조회, 캐시에 없는(만료된) 사용자는 포함하지 않음
+     * 좋아요를 모두 취소한 사용자는 빈 set으로 포함
+     */
+    public Map<String, Set<Long>> findAllUserHeart(List<String> userIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (String userId : userIds) {
+                    redisOperations.hasKey(getUserHeartKey(userId));
+                    redisOperations.opsForSet().members(getUserHeartKey(userId));
+                }
+                return null;
+            }
+        });
+
+        Map<String, Set<Long>> userHeartMap = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (!Boolean.TRUE.equals(results.get(i * 2))) {
+                continue;
+            }
+
+            Set<Long> musicApplyIds = new HashSet<>();
+            Set<?> members = (Set<?>) results.get(i * 2 + 1);
+            if (members != null) {
+                for (Object musicApplyId : members) {
+                    musicApplyIds.add(Long.valueOf(String.valueOf(musicApplyId)));
+                }
+            }
+            musicApplyIds.remove(EMPTY_MARKER);
+            userHeartMap.put(userIds.get(i), musicApplyIds);
+        }
+        return userHeartMap;
+    }
+
+    /**
+     * 좋아요 개수 조회, 캐시에 없는(만료된) 노래 신청은 포함하지 않음
+     */
+    public Map<Long, Integer> findAllHeartCnt(List<Long> musicApplyIds) {
+        List<String> heartCntKeys = new ArrayList<>();
+        for (Long musicApplyId : musicApplyIds) {
+            heartCntKeys.add(getHeartCntKey(musicApplyId));
+        }
+        List<Object> heartCnts = redisTemplate.opsForValue().multiGet(heartCntKeys);
+
+        Map<Long, Integer> heartCntMap = new HashMap<>();
+        for (int i = 0; heartCnts != null && i < musicApplyIds.size(); i++) {
+            if (heartCnts.get(i) != null) {
+                heartCntMap.put(musicApplyIds.get(i),
+                    Integer.valueOf(String.valueOf(heartCnts.get(i))));
+            }
+        }
+        return heartCntMap;
+    }
+
+    public void markAllDirtyUser(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_HEART_KEY, userIds.toArray());
+    }
+
+    public List<String> popDirtyUser(long count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(DIRTY_HEART_KEY, count);
+
+        List<String> userIds = new ArrayList<>();
+        if (popped != null) {
+            for (Object userId : popped) {
+                userIds.add(String.valueOf(userId));
+            }
+        }
+        return userIds;
+    }
+
+    public void markAllDirtyHeartCnt(Collection<Long> musicApplyIds) {
+        if (musicApplyIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_HEART_CNT_KEY, musicApplyIds.toArray());
+    }
+
+    public List<Long> popDirtyHeartCnt(long count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(DIRTY_HEART_CNT_KEY, count);
+
+        List<Long> musicApplyIds = new ArrayList<>();
+        if (popped != null) {
+            for (Object musicApplyId : popped) {
+                musicApplyIds.add(Long.valueOf(String.valueOf(musicApplyId)));
+            }
+        }
+        return musicApplyIds;
+    }
+
+    // pipeline 안의 SMISMEMBER 결과는 List<Boolean>, 일반 호출 결과는 Map<Object, Boolean>
+    private boolean isMember(Object isMembers, int index, Long musicApplyId) {
+        if (isMembers instanceof List) {
+            return Boolean.TRUE.equals(((List<?>) isMembers).get(index));
+        }
+        if (isMembers instanceof Map) {
+            return Boolean.TRUE.equals(((Map<?, ?>) isMembers).get(musicApplyId));
+        }
+        return false;
+    }
+}
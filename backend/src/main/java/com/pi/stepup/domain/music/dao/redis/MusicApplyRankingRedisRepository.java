@@ -0,0 +1,169 @@
+package com.pi.stepup.domain.music.dao.redis;
+
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 노래 신청 인기 순위
+ * music_apply:trending - 시간 감쇠 점수, 좋아요 1개의 가치가 HALF_LIFE 마다 절반이 됨
+ * 좋아요 취소는 추가할 때의 가중치를 알 수 없으므로 감쇠 점수에는 반영하지 않음 (누적 순위에만 반영)
+ * music_apply:trending:epoch - 감쇠 기준 시각, 점수는 기준 시각 대비 가중치로 누적
+ * 가중치는 서버에서 알고 있는 기준 시각으로 계산하고, Redis의 기준 시각과 다르면 다시 읽어 재시도
+ * music_apply:heart_ranking - 누적 좋아요 개수
+ */
+@Repository
+@RequiredArgsConstructor
+public class MusicApplyRankingRedisRepository {
+
+    private static final String TRENDING_KEY = "music_apply:trending";
+    private static final String EPOCH_KEY = "music_apply:trending:epoch";
+    private static final String RANKING_KEY = "music_apply:heart_ranking";
+
+    private static final long HALF_LIFE = 86_400_000;
+    private static final double TAU = HALF_LIFE / Math.log(2);
+    // 가중치가 커져 점수가 지나치게 커지기 전에 기준 시각을 옮김
+    private static final long RESCALE_AGE = HALF_LIFE * 7;
+
+    private static final long EPOCH_MATCHED = 1;
+
+    // KEYS[1] trending, KEYS[2] epoch, KEYS[3] heart_ranking
+    // ARGV[1] musicApplyId, ARGV[2] 1(추가) / -1(취소), ARGV[3] 가중치를 계산한 기준 시각(ms)
+    // ARGV[4] 가중치, ARGV[5] 좋아요 개수
+    // 반환 : {EPOCH_MATCHED, 0} 또는 기준 시각이 다르면 {0, Redis의 기준 시각}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HEART_SCRIPT = new DefaultRedisScript<>(
+        "if tonumber(ARGV[2]) > 0 then "
+            + "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+            + "if not epoch then redis.call('SET', KEYS[2], ARGV[3]) "
+            + "elseif epoch ~= tonumber(ARGV[3]) then return {0, epoch} end "
+            + "redis.call('ZINCRBY', KEYS[1], ARGV[4], ARGV[1]) end "
+            + "redis.call('ZADD', KEYS[3], ARGV[5], ARGV[1]) "
+            + "return {1, 0}", List.class);
+
+    // KEYS[1] trending, KEYS[2] epoch
+    // ARGV[1] 가중치를 계산한 기준 시각(ms), ARGV[2] 새 기준 시각(ms), ARGV[3] 점수에 곱할 값
+    // 다른 서버가 먼저 기준 시각을 옮겼으면 0
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>(
+        "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+            + "if not epoch or epoch ~= tonumber(ARGV[1]) then return 0 end "
+            + "local factor = tonumber(ARGV[3]) "
+            + "local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES') "
+            + "for i = 1, #entries, 2 do "
+            + "local score = tonumber(entries[i + 1]) * factor "
+            + "if score < 0.001 then redis.call('ZREM', KEYS[1], entries[i]) "
+            + "else redis.call('ZADD', KEYS[1], score, entries[i]) end end "
+            + "redis.call('SET', KEYS[2], ARGV[2]) "
+            + "return #entries / 2", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private volatile Long epoch;
+
+    /**
+     * 기준 시각 epoch 에서 now 에 추가된 좋아요 1개의 점수
+     */
+    static double getWeight(long epoch, long now) {
+        return Math.exp((now - epoch) / TAU);
+    }
+
+    /**
+     * 기준 시각을 epoch 에서 now 로 옮길 때 기존 점수에 곱할 값
+     */
+    static double getRescaleFactor(long epoch, long now) {
+        return Math.exp((epoch - now) / TAU);
+    }
+
+    /**
+     * 좋아요 추가는 감쇠 점수와 누적 순위에, 취소는 누적 순위에만 반영
+     */
+    public void changeHeart(Long musicApplyId, int delta, int heartCnt) {
+        long now = System.currentTimeMillis();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long knownEpoch = epoch;
+            long expectedEpoch = knownEpoch == null ? now : knownEpoch;
+            List<?> result = redisTemplate.execute(HEART_SCRIPT,
+                Arrays.asList(TRENDING_KEY, EPOCH_KEY, RANKING_KEY),
+                musicApplyId, delta, expectedEpoch, getWeight(expectedEpoch, now), heartCnt);
+            if (result == null || result.size() < 2) {
+                return;
+            }
+            if (Long.parseLong(String.valueOf(result.get(0))) == EPOCH_MATCHED) {
+                epoch = expectedEpoch;
+                return;
+            }
+            epoch = Long.parseLong(String.valueOf(result.get(1)));
+        }
+    }
+
+    public long rescale() {
+        Object storedEpoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        if (storedEpoch == null) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long currentEpoch = Long.parseLong(String.valueOf(storedEpoch));
+        if (now - currentEpoch < RESCALE_AGE) {
+            return 0;
+        }
+
+        Long rescaled = redisTemplate.execute(RESCALE_SCRIPT,
+            Arrays.asList(TRENDING_KEY, EPOCH_KEY),
+            currentEpoch, now, getRescaleFactor(currentEpoch, now));
+        epoch = null;
+        return rescaled == null ? 0 : rescaled;
+    }
+
+    public List<Long> findTopTrending(int size) {
+        return toIdList(redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, size - 1));
+    }
+
+    public List<Long> findTopRanking(int size) {
+        return toIdList(redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, size - 1));
+    }
+
+    public boolean existsRanking() {
+        Boolean hasKey = redisTemplate.hasKey(RANKING_KEY);
+        return hasKey != null && hasKey;
+    }
+
+    public void rebuildRanking(List<MusicApplyHeartCntDto> heartCntList) {
+        Set<TypedTuple<Object>> tuples = new HashSet<>();
+        for (MusicApplyHeartCntDto heartCnt : heartCntList) {
+            if (heartCnt.getHeartCnt() != null && heartCnt.getHeartCnt() > 0) {
+                tuples.add(new DefaultTypedTuple<>(heartCnt.getMusicApplyId(),
+                    (double) heartCnt.getHeartCnt()));
+            }
+        }
+        if (tuples.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().add(RANKING_KEY, tuples);
+    }
+
+    public void remove(Long musicApplyId) {
+        redisTemplate.opsForZSet().remove(TRENDING_KEY, musicApplyId);
+        redisTemplate.opsForZSet().remove(RANKING_KEY, musicApplyId);
+    }
+
+    private List<Long> toIdList(Set<Object> members) {
+        List<Long> musicApplyIds = new ArrayList<>();
+        if (members != null) {
+            for (Object musicApplyId : members) {
+                musicApplyIds.add(Long.valueOf(String.valueOf(musicApplyId)));
+            }
+        }
+        return musicApplyIds;
+    }
+}
@@ -0,0 +1,61 @@
+package com.pi.stepup.domain.music.dto;
+
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_INVALID_CURSOR;
+
+import com.pi.stepup.domain.music.constant.MusicApplySortType;
+import com.pi.stepup.domain.music.exception.MusicApplyBadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+/**
+ * 노래 신청 목록 페이지 경계 (정렬 기준 + 좋아요 수 + id)
+ * 클라이언트에는 Base64 문자열로만 노출
+ */
+@Getter
+public class MusicApplyCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final MusicApplySortType sort;
+    private final int heartCnt;
+    private final Long musicApplyId;
+
+    public MusicApplyCursor(MusicApplySortType sort, int heartCnt, Long musicApplyId) {
+        this.sort = sort;
+        this.heartCnt = heartCnt;
+        this.musicApplyId = musicApplyId;
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + heartCnt + DELIMITER + musicApplyId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다른 정렬 기준으로 만든 커서는 사용할 수 없음
+     */
+    public static MusicApplyCursor decode(String cursor, MusicApplySortType sort) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+
+        MusicApplyCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            String[] keys = raw.split(DELIMITER);
+            decoded = new MusicApplyCursor(MusicApplySortType.valueOf(keys[0]),
+                Integer.parseInt(keys[1]), Long.valueOf(keys[2]));
+        } catch (RuntimeException e) {
+            throw new MusicApplyBadRequestException(MUSIC_APPLY_INVALID_CURSOR.getMessage());
+        }
+
+        if (decoded.sort != sort) {
+            throw new MusicApplyBadRequestException(MUSIC_APPLY_INVALID_CURSOR.getMessage());
+        }
+        return decoded;
+    }
+}
@@ -85,6 +85,18 @@ public class MusicRequestDto {
         }
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MusicApplySearchRequestDto {
+
+        private String keyword;
+        private String sort;
+        private String cursor;
+        private Integer size;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -3,6 +3,8 @@ package com.pi.stepup.domain.music.dto;
 import com.pi.stepup.domain.music.domain.Music;
 import com.pi.stepup.domain.music.domain.MusicAnswer;
 import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyFeedDto;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -29,6 +31,21 @@ public class MusicResponseDto {
         }
     }
 
+    @Getter
+    public static class MusicSuggestResponseDto {
+
+        private final Long musicId;
+        private final String title;
+        private final String artist;
+
+        @Builder
+        public MusicSuggestResponseDto(MusicFindResponseDto music) {
+            this.musicId = music.getMusicId();
+            this.title = music.getTitle();
+            this.artist = music.getArtist();
+        }
+    }
+
     @Getter
     public static class MusicApplyFindResponseDto {
 
@@ -52,6 +69,34 @@ public class MusicResponseDto {
             this.heartCnt = musicApply.getHeartCnt();
             this.canHeart = canHeart;
         }
+
+        public MusicApplyFindResponseDto(MusicApplyFeedDto musicApplyFeed, Integer heartCnt,
+            Integer canHeart) {
+            this.musicApplyId = musicApplyFeed.getMusicApplyId();
+            this.title = musicApplyFeed.getTitle();
+            this.artist = musicApplyFeed.getArtist();
+            this.content = musicApplyFeed.getContent();
+            this.writerName = musicApplyFeed.getWriterName();
+            this.writerProfileImg = musicApplyFeed.getWriterProfileImg();
+            this.heartCnt = heartCnt;
+            this.canHeart = canHeart;
+        }
+    }
+
+    @Getter
+    public static class MusicApplyPageResponseDto {
+
+        private final List<MusicApplyFindResponseDto> content;
+        private final String nextCursor;
+        private final boolean hasNext;
+
+        @Builder
+        private MusicApplyPageResponseDto(List<MusicApplyFindResponseDto> content,
+            String nextCursor, boolean hasNext) {
+            this.content = content;
+            this.nextCursor = nextCursor;
+            this.hasNext = hasNext;
+        }
     }
 
     @Getter
@@ -77,4 +122,33 @@ public class MusicResponseDto {
             this.heartId = heartId;
         }
     }
+
+    @Getter
+    public static class HeartResponseDto {
+
+        private final Long musicApplyId;
+        private final Integer heartCnt;
+        private final Integer canHeart;
+
+        @Builder
+        public HeartResponseDto(Long musicApplyId, Integer heartCnt, Integer canHeart) {
+            this.musicApplyId = musicApplyId;
+            this.heartCnt = heartCnt;
+            this.canHeart = canHeart;
+        }
+    }
+
+    @Getter
+    public static class MusicApplyTrendingResponseDto {
+
+        private final List<MusicApplyFindResponseDto> trending;
+        private final List<MusicApplyFindResponseDto> allTime;
+
+        @Builder
+        public MusicApplyTrendingResponseDto(List<MusicApplyFindResponseDto> trending,
+            List<MusicApplyFindResponseDto> allTime) {
+            this.trending = trending;
+            this.allTime = allTime;
+        }
+    }
 }
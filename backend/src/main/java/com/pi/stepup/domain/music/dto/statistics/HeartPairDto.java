@@ -0,0 +1,17 @@
+package com.pi.stepup.domain.music.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class HeartPairDto {
+
+    private final Long heartId;
+    private final Long userId;
+    private final Long musicApplyId;
+
+    public HeartPairDto(Long heartId, Long userId, Long musicApplyId) {
+        this.heartId = heartId;
+        this.userId = userId;
+        this.musicApplyId = musicApplyId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pi.stepup.domain.music.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class MusicApplyFeedDto {
+
+    private final Long musicApplyId;
+    private final String title;
+    private final String artist;
+    private final String content;
+    private final String writerName;
+    private final String writerProfileImg;
+    private final Integer heartCnt;
+
+    public MusicApplyFeedDto(Long musicApplyId, String title, String artist, String content,
+        String writerName, String writerProfileImg, Integer heartCnt) {
+        this.musicApplyId = musicApplyId;
+        this.title = title;
+        this.artist = artist;
+        this.content = content;
+        this.writerName = writerName;
+        this.writerProfileImg = writerProfileImg;
+        this.heartCnt = heartCnt;
+    }
+}
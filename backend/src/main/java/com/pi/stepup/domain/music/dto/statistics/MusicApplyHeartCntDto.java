@@ -0,0 +1,15 @@
+package com.pi.stepup.domain.music.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class MusicApplyHeartCntDto {
+
+    private final Long musicApplyId;
+    private final Integer heartCnt;
+
+    public MusicApplyHeartCntDto(Long musicApplyId, Integer heartCnt) {
+        this.musicApplyId = musicApplyId;
+        this.heartCnt = heartCnt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pi.stepup.domain.music.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class MusicApplyPopularityDto {
+
+    private final String title;
+    private final String artist;
+    private final Long heartCnt;
+
+    public MusicApplyPopularityDto(String title, String artist, Long heartCnt) {
+        this.title = title;
+        this.artist = artist;
+        this.heartCnt = heartCnt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.pi.stepup.domain.music.exception;
+
+import com.pi.stepup.global.error.exception.ServiceUnavailableException;
+
+public class HeartModeSwitchingException extends ServiceUnavailableException {
+
+    public HeartModeSwitchingException() {
+        super();
+    }
+
+    public HeartModeSwitchingException(String message) {
+        super(message);
+    }
+}
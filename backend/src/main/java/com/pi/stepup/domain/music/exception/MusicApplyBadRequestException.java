@@ -0,0 +1,14 @@
+package com.pi.stepup.domain.music.exception;
+
+import com.pi.stepup.global.error.exception.NotFoundException;
+
+public class MusicApplyBadRequestException extends NotFoundException {
+
+    public MusicApplyBadRequestException() {
+        super();
+    }
+
+    public MusicApplyBadRequestException(String message) {
+        super(message);
+    }
+}
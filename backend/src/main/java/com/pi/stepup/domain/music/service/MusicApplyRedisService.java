@@ -1,20 +1,27 @@
 package com.pi.stepup.domain.music.service;
 
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface MusicApplyRedisService {
 
-    void saveHeart(String userId, Long musicApplyId);
+    HeartResponseDto saveHeart(String userId, Long musicApplyId);
 
     Integer getHeartStatus(String userId, Long musicApplyId);
 
     Set<Object> getHearts(Long musicApplyId);
 
-    void deleteHeart(String userId, Long musicApplyId);
+    HeartResponseDto deleteHeart(String userId, Long musicApplyId);
 
-    boolean checkRedisEmpty();
+    Integer getHeartCnt(Long musicApplyId);
 
-    void getHeartsFromDB();
+    Map<Long, HeartResponseDto> getAllHeart(String userId, List<Long> musicApplyIds);
 
-    Integer getHeartCnt(Long musicApplyId);
+    List<Long> getTrending(int size);
+
+    List<Long> getRanking(int size);
+
+    void deleteRanking(Long musicApplyId);
 }
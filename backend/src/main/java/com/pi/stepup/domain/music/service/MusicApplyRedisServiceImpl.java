@@ -1,19 +1,31 @@
 package com.pi.stepup.domain.music.service;
 
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CANNOT_HEART;
+import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CAN_HEART;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.ADD_HEART_FAIL;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.HEART_MODE_SWITCHING;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_NOT_FOUND;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.REMOVE_HEART_FAIL;
+import static com.pi.stepup.domain.music.dao.redis.HeartRedisRepository.HEART_CHANGED;
+import static com.pi.stepup.domain.music.dao.redis.HeartRedisRepository.HEART_MISS;
 
-import com.pi.stepup.domain.music.dao.MusicApplyRepository;
-import com.pi.stepup.domain.music.domain.Heart;
-import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.component.HeartCacheLoader;
+import com.pi.stepup.domain.music.dao.redis.HeartBitmapRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.MusicApplyRankingRedisRepository;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
+import com.pi.stepup.domain.music.exception.HeartModeSwitchingException;
+import com.pi.stepup.domain.music.exception.HeartStatusException;
 import com.pi.stepup.domain.music.exception.MusicApplyNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,132 +35,252 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class MusicApplyRedisServiceImpl implements MusicApplyRedisService {
 
+    private static final String BITMAP_MODE = "bitmap";
+    private static final String DRAIN_MODE = "drain";
+
     @Value("${spring.redis.ttls.heart}")
     private long HEART_EXPIRED_IN; // 60_000
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final MusicApplyRepository musicApplyRepository;
+    // set : 사용자별 좋아요 set + 개수 키, bitmap : 노래 신청별 사용자 bitmap
+    // drain : 모드 전환 중, 좋아요 변경은 거절하고 조회는 set 모드로 처리
+    // 두 모드의 캐시는 서로의 변경을 모르므로 같이 쓰이면 동기화 diff가 상대 모드의 좋아요를 삭제함
+    // 전환 절차
+    //  1. 모든 서버를 drain 으로 배포
+    //  2. dirty:heart, dirty:heart_bitmap 이 비고 동기화 주기(30초)가 한 번 더 지날 때까지 대기
+    //  3. 새 모드의 캐시 키 삭제 (set : user:*:heart_music_applies, music_apply_id:*:heart_cnt,
+    //     musicApply:*:heart_user / bitmap : music_apply:*:heart_bitmap)
+    //  4. 모든 서버를 새 모드로 배포
+    @Value("${spring.redis.heart-mode:set}")
+    private String HEART_MODE;
+    private final HeartRedisRepository heartRedisRepository;
+    private final HeartBitmapRedisRepository heartBitmapRedisRepository;
+    private final HeartCacheLoader heartCacheLoader;
+    private final MusicApplyRankingRedisRepository musicApplyRankingRedisRepository;
 
     @Override
-    public void saveHeart(String userId, Long musicApplyId) {
-        String userKey = "user:" + userId + ":heart_music_applies";
-        log.debug("[DEBUG / saveHeart] music apply id class : {}", musicApplyId.getClass());
-        checkHeartInRedis(userKey, userId, musicApplyId);
-        redisTemplate.expire(userKey, HEART_EXPIRED_IN, TimeUnit.MILLISECONDS);
-
-        String musicApplyHeartCntKey = "music_apply_id:" + musicApplyId + ":heart_cnt";
-        checkHeartCntInRedis(musicApplyHeartCntKey, musicApplyId);
-        redisTemplate.expire(musicApplyHeartCntKey, HEART_EXPIRED_IN, TimeUnit.MILLISECONDS);
+    public HeartResponseDto saveHeart(String userId, Long musicApplyId) {
+        return changeHeart(userId, musicApplyId, 1);
+    }
+
+    private HeartResponseDto changeHeart(String userId, Long musicApplyId, int delta) {
+        if (DRAIN_MODE.equals(HEART_MODE)) {
+            throw new HeartModeSwitchingException(HEART_MODE_SWITCHING.getMessage());
+        }
+
+        long[] result = isBitmapMode() ? changeHeartBitmap(userId, musicApplyId, delta)
+            : changeHeartSet(userId, musicApplyId, delta);
+
+        if (result[0] != HEART_CHANGED) {
+            throw new HeartStatusException(delta > 0 ? ADD_HEART_FAIL.getMessage()
+                : REMOVE_HEART_FAIL.getMessage());
+        }
+
+        // 순위 반영 실패로 좋아요가 실패하지 않도록 함
+        try {
+            musicApplyRankingRedisRepository.changeHeart(musicApplyId, delta, (int) result[1]);
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 노래 신청 순위 반영 실패 : {}", e.getMessage());
+        }
+
+        return HeartResponseDto.builder()
+            .musicApplyId(musicApplyId)
+            .heartCnt((int) result[1])
+            .canHeart(delta > 0 ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus())
+            .build();
     }
 
-    void checkHeartInRedis(String userKey, String userId, Long musicApplyId) {
-        if (redisTemplate.hasKey(userKey) == null || !redisTemplate.hasKey(userKey)) {
-            Optional<Heart> heart = musicApplyRepository.findHeart(userId, musicApplyId);
-            if (heart.isPresent()) {
-                redisTemplate.opsForSet()
-                    .add(userKey, heart.get().getMusicApply().getMusicApplyId());
-                return;
+    private long[] changeHeartSet(String userId, Long musicApplyId, int delta) {
+        long[] result = heartRedisRepository.changeHeart(userId, musicApplyId, delta,
+            HEART_EXPIRED_IN);
+
+        // cache miss, DB 값으로 키를 채우면서 다시 실행
+        if (result[0] == HEART_MISS) {
+            Integer heartCnt = heartCacheLoader.loadHeartCnt(List.of(musicApplyId))
+                .get(musicApplyId);
+            if (heartCnt == null) {
+                throw new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage());
             }
+            result = heartRedisRepository.changeHeart(userId, musicApplyId, delta,
+                HEART_EXPIRED_IN, heartCnt, heartCacheLoader.loadUserHeart(userId));
         }
-        redisTemplate.opsForSet().add(userKey, (Long) musicApplyId);
+        return result;
     }
 
-    void checkHeartCntInRedis(String musicApplyHeartCntKey, Long musicApplyId) {
-        if (redisTemplate.hasKey(musicApplyHeartCntKey) == null || !redisTemplate.hasKey(
-            musicApplyHeartCntKey)) {
-            MusicApply musicApply = musicApplyRepository.findOne(musicApplyId).orElseThrow(
-                () -> new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage()));
-            redisTemplate.opsForValue()
-                .getAndSet(musicApplyHeartCntKey, musicApply.getHeartCnt() + 1);
-        } else {
-            redisTemplate.opsForValue().increment(musicApplyHeartCntKey, 1);
+    private long[] changeHeartBitmap(String userId, Long musicApplyId, int delta) {
+        Long userNo = heartCacheLoader.loadUserNo(userId);
+        long[] result = heartBitmapRedisRepository.changeHeart(userNo, musicApplyId, delta,
+            HEART_EXPIRED_IN);
+
+        // cache miss, DB 좋아요 사용자로 bitmap을 채우면서 다시 실행
+        if (result[0] == HEART_MISS) {
+            List<Long> heartUserNos = heartCacheLoader.loadHeartBitmap(List.of(musicApplyId))
+                .get(musicApplyId);
+            if (heartUserNos == null) {
+                throw new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage());
+            }
+            result = heartBitmapRedisRepository.changeHeart(userNo, musicApplyId, delta,
+                HEART_EXPIRED_IN, heartUserNos);
         }
+        return result;
     }
 
     @Override
     public Integer getHeartStatus(String userId, Long musicApplyId) {
-        String userKey = "user:" + userId + ":heart_music_applies";
+        if (isBitmapMode()) {
+            Long userNo = heartCacheLoader.loadUserNo(userId);
+            return getAllHeartBitmap(userNo, List.of(musicApplyId)).get(musicApplyId)
+                .getCanHeart();
+        }
 
-        if (redisTemplate.hasKey(userKey) == null || !redisTemplate.hasKey(userKey)) {
-            Optional<Heart> heart = musicApplyRepository.findHeart(userId, musicApplyId);
-            if (heart.isPresent()) {
-                redisTemplate.opsForSet().add(userKey, musicApplyId);
-            }
-            return 0;
-        } else {
-            Boolean isHeartExist = redisTemplate.opsForSet().isMember(userKey, musicApplyId);
-            log.info("[DEBUG] {} 사용자의 {} 번 노래 신청 좋아요 존재 여부 : {}", userId, musicApplyId,
-                isHeartExist);
-            if (isHeartExist == null || !isHeartExist) {
-                return 1;
-            } else {
-                return 0;
-            }
+        Boolean isHeartExist = heartRedisRepository.isUserHeart(userId, musicApplyId);
+
+        // cache miss, 사용자 좋아요 목록만 DB에서 읽어 채움
+        if (isHeartExist == null) {
+            isHeartExist = heartCacheLoader.loadUserHeart(userId).contains(musicApplyId);
         }
+
+        log.debug("[DEBUG] {} 사용자의 {} 번 노래 신청 좋아요 존재 여부 : {}", userId, musicApplyId,
+            isHeartExist);
+        return isHeartExist ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus();
     }
 
     @Override
     public Set<Object> getHearts(Long musicApplyId) {
-        String musicApplyKey = "musicApply:" + musicApplyId + ":heart_user";
+        // bitmap 모드에서도 set 모드와 같이 로그인 아이디(User.id)로 반환
+        if (isBitmapMode()) {
+            Set<Long> heartUserNos = heartBitmapRedisRepository.findAllHeartUser(musicApplyId);
+            if (heartUserNos == null) {
+                heartUserNos = new HashSet<>(heartCacheLoader
+                    .loadHeartBitmap(List.of(musicApplyId))
+                    .getOrDefault(musicApplyId, new ArrayList<>()));
+            }
+            return new HashSet<>(heartCacheLoader.loadUserIds(heartUserNos));
+        }
+
+        Set<Object> hearts = heartRedisRepository.findAllHeartUser(musicApplyId);
 
-        // cache miss!!, 데이터베이스에 존재하는지 찾아보고 있다면 redis에 저장한다
-        Boolean isMusicApplyKeyExist = redisTemplate.hasKey(musicApplyKey);
-        if (isMusicApplyKeyExist == null || !isMusicApplyKeyExist) {
-            getHeartsFromDB();
+        // cache miss, 해당 노래 신청의 좋아요만 DB에서 읽어 채움
+        if (hearts == null || hearts.isEmpty()) {
+            hearts = new HashSet<>(heartCacheLoader.loadHeartUser(musicApplyId));
         }
+        return hearts;
+    }
 
-        return redisTemplate.opsForSet().members(musicApplyKey);
+    @Override
+    public HeartResponseDto deleteHeart(String userId, Long musicApplyId) {
+        return changeHeart(userId, musicApplyId, -1);
     }
 
     @Override
-    public void deleteHeart(String userId, Long musicApplyId) { // 캐시 미스 적용 x ...
-        String userKey = "user:" + userId + ":heart_music_applies";
-        redisTemplate.opsForSet().remove(userKey, musicApplyId);
+    public Integer getHeartCnt(Long musicApplyId) {
+        if (isBitmapMode()) {
+            return getAllHeartBitmap(null, List.of(musicApplyId)).get(musicApplyId).getHeartCnt();
+        }
+
+        Integer heartCnt = heartRedisRepository.findHeartCnt(musicApplyId);
+
+        if (heartCnt == null) {
+            heartCnt = heartCacheLoader.loadHeartCnt(List.of(musicApplyId))
+                .getOrDefault(musicApplyId, 0);
+        }
 
-        String musicApplyHeartCntKey = "music_apply_id:" + musicApplyId + ":heart_cnt";
-        redisTemplate.opsForValue().decrement(musicApplyHeartCntKey, 1);
+        log.debug("[DEBUG] {} 번 노래 신청 좋아요 개수 : {}", musicApplyId, heartCnt);
+        return heartCnt;
     }
 
     @Override
-    public boolean checkRedisEmpty() {
-        String isFirstSearch = "first_search:";
-        if (redisTemplate.keys(isFirstSearch).isEmpty()) {
-            redisTemplate.opsForValue().append(isFirstSearch, "false");
-            redisTemplate.expire(isFirstSearch, HEART_EXPIRED_IN, TimeUnit.MILLISECONDS);
-            return true;
-        }
-        return false;
+    public Map<Long, HeartResponseDto> getAllHeart(String userId, List<Long> musicApplyIds) {
+        if (isBitmapMode()) {
+            return getAllHeartBitmap(userId == null ? null : heartCacheLoader.loadUserNo(userId),
+                musicApplyIds);
+        }
+
+        Map<Long, HeartResponseDto> heartMap
+            = heartRedisRepository.findAllHeart(userId, musicApplyIds);
+
+        // 좋아요 개수 cache miss, 없는 키만 한 번에 DB 조회
+        List<Long> heartCntMissIds = new ArrayList<>();
+        boolean userHeartMiss = false;
+        for (HeartResponseDto heart : heartMap.values()) {
+            if (heart.getHeartCnt() == null) {
+                heartCntMissIds.add(heart.getMusicApplyId());
+            }
+            if (heart.getCanHeart() == null) {
+                userHeartMiss = true;
+            }
+        }
+        Map<Long, Integer> heartCntMap = heartCntMissIds.isEmpty() ? new HashMap<>()
+            : heartCacheLoader.loadHeartCnt(heartCntMissIds);
+
+        // 사용자 좋아요 목록 cache miss
+        Set<Long> heartMusicApplyIds = userHeartMiss
+            ? new HashSet<>(heartCacheLoader.loadUserHeart(userId)) : new HashSet<>();
+
+        Map<Long, HeartResponseDto> result = new HashMap<>();
+        for (HeartResponseDto heart : heartMap.values()) {
+            Long musicApplyId = heart.getMusicApplyId();
+
+            Integer heartCnt = heart.getHeartCnt();
+            if (heartCnt == null) {
+                heartCnt = heartCntMap.getOrDefault(musicApplyId, 0);
+            }
+
+            Integer canHeart = heart.getCanHeart();
+            if (canHeart == null) {
+                canHeart = heartMusicApplyIds.contains(musicApplyId)
+                    ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus();
+            }
+
+            result.put(musicApplyId, HeartResponseDto.builder()
+                .musicApplyId(musicApplyId)
+                .heartCnt(heartCnt)
+                .canHeart(canHeart)
+                .build());
+        }
+        return result;
     }
 
-    @Override
-    public void getHeartsFromDB() {
-        log.info("[INFO] DB 데이터 Redis에 저장 중 ...");
-        List<MusicApply> musicAppliesFromDB = musicApplyRepository.findAll("");
-
-        for(MusicApply ma : musicAppliesFromDB) {
-            String userKey = "user:" + ma.getWriter().getId() + ":heart_music_applies";
-            log.debug("[DEBUG / saveHeart] music apply : {}",
-                ma.getMusicApplyId());
-            redisTemplate.opsForSet().add(userKey, (Long) ma.getMusicApplyId());
-            redisTemplate.expire(userKey, HEART_EXPIRED_IN, TimeUnit.MILLISECONDS);
-
-            String musicApplyHeartCntKey =
-                "music_apply_id:" + ma.getMusicApplyId() + ":heart_cnt";
-            redisTemplate.opsForValue()
-                .getAndSet(musicApplyHeartCntKey, ma.getHeartCnt());
-            redisTemplate.expire(musicApplyHeartCntKey, HEART_EXPIRED_IN, TimeUnit.MILLISECONDS);
+    private Map<Long, HeartResponseDto> getAllHeartBitmap(Long userNo, List<Long> musicApplyIds) {
+        Map<Long, HeartResponseDto> heartMap
+            = heartBitmapRedisRepository.findAllHeart(userNo, musicApplyIds);
+
+        // bitmap cache miss, 없는 노래 신청만 한 번에 DB 조회
+        List<Long> missIds = new ArrayList<>();
+        for (Long musicApplyId : musicApplyIds) {
+            if (!heartMap.containsKey(musicApplyId)) {
+                missIds.add(musicApplyId);
+            }
         }
+        Map<Long, List<Long>> heartUserMap = missIds.isEmpty() ? new HashMap<>()
+            : heartCacheLoader.loadHeartBitmap(missIds);
+
+        for (Long musicApplyId : missIds) {
+            List<Long> heartUserNos = heartUserMap.getOrDefault(musicApplyId, new ArrayList<>());
+            heartMap.put(musicApplyId, HeartResponseDto.builder()
+                .musicApplyId(musicApplyId)
+                .heartCnt(heartUserNos.size())
+                .canHeart(userNo != null && heartUserNos.contains(userNo)
+                    ? CANNOT_HEART.getHeartStatus() : CAN_HEART.getHeartStatus())
+                .build());
+        }
+        return heartMap;
+    }
+
+    private boolean isBitmapMode() {
+        return BITMAP_MODE.equals(HEART_MODE);
     }
 
     @Override
-    public Integer getHeartCnt(Long musicApplyId) {
-        String musicApplyHeartCntKey = "music_apply_id:" + musicApplyId + ":heart_cnt";
-        if (redisTemplate.hasKey(musicApplyHeartCntKey) == null || !redisTemplate.hasKey(
-            musicApplyHeartCntKey)) {
-            getHeartsFromDB();
-        }
+    public List<Long> getTrending(int size) {
+        return musicApplyRankingRedisRepository.findTopTrending(size);
+    }
 
-        log.info("### [MusicApplyRedisService/getHeartCnt] key : {} - value : {}",
-            musicApplyHeartCntKey, redisTemplate.opsForValue().get(musicApplyHeartCntKey));
-        return (Integer) redisTemplate.opsForValue().get(musicApplyHeartCntKey);
+    @Override
+    public List<Long> getRanking(int size) {
+        return musicApplyRankingRedisRepository.findTopRanking(size);
+    }
+
+    @Override
+    public void deleteRanking(Long musicApplyId) {
+        musicApplyRankingRedisRepository.remove(musicApplyId);
     }
 }
@@ -2,7 +2,11 @@ package com.pi.stepup.domain.music.service;
 
 import com.pi.stepup.domain.music.dto.MusicRequestDto.HeartSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySaveRequestDto;
+import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySearchRequestDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyFindResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyPageResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyTrendingResponseDto;
 import java.util.List;
 
 public interface MusicApplyService {
@@ -11,15 +15,22 @@ public interface MusicApplyService {
 
     List<MusicApplyFindResponseDto> readAllByKeyword(String keyword);
 
+    MusicApplyPageResponseDto readAllByKeyword(
+        MusicApplySearchRequestDto musicApplySearchRequestDto);
+
     MusicApplyFindResponseDto readOne(Long musicApplyId);
 
+    MusicApplyTrendingResponseDto readTrending(Integer size);
+
     void delete(Long musicApplyId);
 
     List<MusicApplyFindResponseDto> readAllById();
 
-    void createHeart(HeartSaveRequestDto heartSaveRequestDto);
+    MusicApplyPageResponseDto readAllById(MusicApplySearchRequestDto musicApplySearchRequestDto);
+
+    HeartResponseDto createHeart(HeartSaveRequestDto heartSaveRequestDto);
 
-    void deleteHeart(Long musicApplyId);
+    HeartResponseDto deleteHeart(Long musicApplyId);
 
     Integer findHeartStatus(Long musicApplyId);
 }
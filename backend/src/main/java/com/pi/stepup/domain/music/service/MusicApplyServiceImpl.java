@@ -1,21 +1,27 @@
 package com.pi.stepup.domain.music.service;
 
 import static com.pi.stepup.domain.music.constant.MusicApplyLikeStatus.CAN_HEART;
-import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.ADD_HEART_FAIL;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_DELETE_FAIL;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_INVALID_PAGE_SIZE;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_INVALID_SORT;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_NOT_FOUND;
-import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.REMOVE_HEART_FAIL;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.UNAUTHORIZED_USER_ACCESS;
 import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 import static com.pi.stepup.global.config.security.SecurityUtils.getLoggedInUserId;
 
+import com.pi.stepup.domain.music.constant.MusicApplySortType;
 import com.pi.stepup.domain.music.dao.MusicApplyRepository;
-import com.pi.stepup.domain.music.domain.Heart;
 import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.dto.MusicApplyCursor;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.HeartSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySaveRequestDto;
+import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySearchRequestDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyFindResponseDto;
-import com.pi.stepup.domain.music.exception.HeartStatusException;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyPageResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyTrendingResponseDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyFeedDto;
+import com.pi.stepup.domain.music.exception.MusicApplyBadRequestException;
 import com.pi.stepup.domain.music.exception.MusicApplyNotFoundException;
 import com.pi.stepup.domain.music.exception.UnauthorizedUserAccessException;
 import com.pi.stepup.domain.user.dao.UserRepository;
@@ -23,7 +29,12 @@ import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.domain.user.exception.UserNotFoundException;
 import com.pi.stepup.global.error.exception.ForbiddenException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -39,6 +50,11 @@ public class MusicApplyServiceImpl implements MusicApplyService {
     private final UserRepository userRepository;
     private final MusicApplyRedisService musicApplyRedisService;
 
+    private static final int DEFAULT_TRENDING_SIZE = 10;
+    private static final int MAX_TRENDING_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Override
     @Transactional
     public void create(MusicApplySaveRequestDto musicApplySaveRequestDto) {
@@ -62,10 +78,6 @@ public class MusicApplyServiceImpl implements MusicApplyService {
             id = null;
         }
 
-        if(musicApplyRedisService.checkRedisEmpty()) {
-            musicApplyRedisService.getHeartsFromDB();
-        }
-
         musicApplies = musicApplyRepository.findAll(keyword);
         log.info("[INFO] read All");
         return setCanHeart(musicApplies, id);
@@ -78,26 +90,157 @@ public class MusicApplyServiceImpl implements MusicApplyService {
         return setCanHeart(musicApplies, id);
     }
 
-    public List<MusicApplyFindResponseDto> setCanHeart(List<MusicApply> musicApplies, String id) {
-        List<MusicApplyFindResponseDto> result = new ArrayList<>();
-        log.info("[INFO] setCanHeart method");
+    @Override
+    public MusicApplyPageResponseDto readAllByKeyword(
+        MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        String id;
+        try {
+            id = getLoggedInUserId();
+        } catch (ForbiddenException e) {
+            id = null;
+        }
 
-        for (MusicApply ma : musicApplies) {
-            int canHeart = 1;
+        return readPage(musicApplySearchRequestDto.getKeyword(), null, id,
+            musicApplySearchRequestDto);
+    }
 
-            if (id != null) {
-                canHeart = musicApplyRedisService.getHeartStatus(id, ma.getMusicApplyId());
+    @Override
+    public MusicApplyPageResponseDto readAllById(
+        MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        String id = getLoggedInUserId();
+        return readPage(musicApplySearchRequestDto.getKeyword(), id, id,
+            musicApplySearchRequestDto);
+    }
+
+    /**
+     * 노래 신청 목록 페이지 조회
+     * 정렬/커서는 DB의 좋아요 수(heartCnt) 기준이고, 응답의 좋아요 수와 좋아요 여부는 Redis 값으로 채움
+     */
+    private MusicApplyPageResponseDto readPage(String keyword, String writerId, String id,
+        MusicApplySearchRequestDto musicApplySearchRequestDto) {
+        int size = DEFAULT_PAGE_SIZE;
+        if (musicApplySearchRequestDto.getSize() != null) {
+            size = musicApplySearchRequestDto.getSize();
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new MusicApplyBadRequestException(MUSIC_APPLY_INVALID_PAGE_SIZE.getMessage());
             }
+        }
+        MusicApplySortType sort = toSortType(musicApplySearchRequestDto.getSort());
+        MusicApplyCursor cursor = MusicApplyCursor.decode(musicApplySearchRequestDto.getCursor(),
+            sort);
 
-            ma.setHeartCnt(musicApplyRedisService.getHeartCnt(ma.getMusicApplyId()));
+        List<MusicApplyFeedDto> musicApplyFeeds
+            = musicApplyRepository.findAllFeed(keyword, writerId, sort, cursor, size + 1);
+        boolean hasNext = musicApplyFeeds.size() > size;
+        if (hasNext) {
+            musicApplyFeeds = musicApplyFeeds.subList(0, size);
+        }
+
+        List<Long> musicApplyIds = new ArrayList<>();
+        for (MusicApplyFeedDto musicApplyFeed : musicApplyFeeds) {
+            musicApplyIds.add(musicApplyFeed.getMusicApplyId());
+        }
+        Map<Long, HeartResponseDto> heartMap
+            = musicApplyRedisService.getAllHeart(id, musicApplyIds);
+
+        List<MusicApplyFindResponseDto> content = new ArrayList<>();
+        for (MusicApplyFeedDto musicApplyFeed : musicApplyFeeds) {
+            HeartResponseDto heart = heartMap.get(musicApplyFeed.getMusicApplyId());
+            content.add(heart == null
+                ? new MusicApplyFindResponseDto(musicApplyFeed, musicApplyFeed.getHeartCnt(),
+                CAN_HEART.getHeartStatus())
+                : new MusicApplyFindResponseDto(musicApplyFeed, heart.getHeartCnt(),
+                    heart.getCanHeart()));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            MusicApplyFeedDto last = musicApplyFeeds.get(musicApplyFeeds.size() - 1);
+            nextCursor = new MusicApplyCursor(sort,
+                last.getHeartCnt() == null ? 0 : last.getHeartCnt(),
+                last.getMusicApplyId()).encode();
+        }
+
+        return MusicApplyPageResponseDto.builder()
+            .content(content)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    private MusicApplySortType toSortType(String sort) {
+        if (sort == null) {
+            return MusicApplySortType.NEWEST;
+        }
+
+        try {
+            return MusicApplySortType.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MusicApplyBadRequestException(MUSIC_APPLY_INVALID_SORT.getMessage());
+        }
+    }
+
+    public List<MusicApplyFindResponseDto> setCanHeart(List<MusicApply> musicApplies, String id) {
+        List<Long> musicApplyIds = new ArrayList<>();
+        for (MusicApply ma : musicApplies) {
+            musicApplyIds.add(ma.getMusicApplyId());
+        }
+        Map<Long, HeartResponseDto> heartMap
+            = musicApplyRedisService.getAllHeart(id, musicApplyIds);
+
+        List<MusicApplyFindResponseDto> result = new ArrayList<>();
+        for (MusicApply ma : musicApplies) {
+            HeartResponseDto heart = heartMap.get(ma.getMusicApplyId());
+
+            ma.setHeartCnt(heart.getHeartCnt());
             result.add(MusicApplyFindResponseDto.builder()
                 .musicApply(ma)
-                .canHeart(canHeart)
+                .canHeart(heart.getCanHeart())
                 .build());
         }
         return result;
     }
 
+    @Override
+    public MusicApplyTrendingResponseDto readTrending(Integer size) {
+        String id;
+        try {
+            id = getLoggedInUserId();
+        } catch (ForbiddenException e) {
+            id = null;
+        }
+
+        int limit = size == null || size < 1 ? DEFAULT_TRENDING_SIZE
+            : Math.min(size, MAX_TRENDING_SIZE);
+        List<Long> trendingIds = musicApplyRedisService.getTrending(limit);
+        List<Long> allTimeIds = musicApplyRedisService.getRanking(limit);
+
+        Set<Long> musicApplyIds = new HashSet<>(trendingIds);
+        musicApplyIds.addAll(allTimeIds);
+        Map<Long, MusicApplyFindResponseDto> musicApplyMap = new HashMap<>();
+        for (MusicApplyFindResponseDto musicApply : setCanHeart(
+            musicApplyRepository.findAllByIdList(new ArrayList<>(musicApplyIds)), id)) {
+            musicApplyMap.put(musicApply.getMusicApplyId(), musicApply);
+        }
+
+        return MusicApplyTrendingResponseDto.builder()
+            .trending(findAllInOrder(trendingIds, musicApplyMap))
+            .allTime(findAllInOrder(allTimeIds, musicApplyMap))
+            .build();
+    }
+
+    private List<MusicApplyFindResponseDto> findAllInOrder(List<Long> musicApplyIds,
+        Map<Long, MusicApplyFindResponseDto> musicApplyMap) {
+        List<MusicApplyFindResponseDto> result = new ArrayList<>();
+        for (Long musicApplyId : musicApplyIds) {
+            MusicApplyFindResponseDto musicApply = musicApplyMap.get(musicApplyId);
+            if (musicApply != null) {
+                result.add(musicApply);
+            }
+        }
+        return result;
+    }
+
     @Override
     public MusicApplyFindResponseDto readOne(Long musicApplyId) {
         MusicApply musicApply = musicApplyRepository.findOne(musicApplyId)
@@ -123,43 +266,22 @@ public class MusicApplyServiceImpl implements MusicApplyService {
 
         if (id.equals(musicApply.getWriter().getId())) {
             musicApplyRepository.delete(musicApplyId);
+            musicApplyRedisService.deleteRanking(musicApplyId);
         } else {
             throw new UnauthorizedUserAccessException(UNAUTHORIZED_USER_ACCESS.getMessage());
         }
     }
 
     @Override
-    @Transactional
-    public void createHeart(HeartSaveRequestDto heartSaveRequestDto) {
+    public HeartResponseDto createHeart(HeartSaveRequestDto heartSaveRequestDto) {
         String id = getLoggedInUserId();
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-        MusicApply musicApply = musicApplyRepository.findOne(heartSaveRequestDto.getMusicApplyId())
-            .orElseThrow(() -> new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage()));
-        Heart heart = heartSaveRequestDto.toEntity(user, musicApply);
-
-        if (findHeartStatus(musicApply.getMusicApplyId()) == 0) {
-            throw new HeartStatusException(ADD_HEART_FAIL.getMessage());
-        }
-
-        musicApplyRedisService.saveHeart(heart.getUser().getId(),
-            heart.getMusicApply().getMusicApplyId());
+        return musicApplyRedisService.saveHeart(id, heartSaveRequestDto.getMusicApplyId());
     }
 
     @Override
-    @Transactional
-    public void deleteHeart(Long musicApplyId) {
+    public HeartResponseDto deleteHeart(Long musicApplyId) {
         String id = getLoggedInUserId();
-        int isHeartExist = musicApplyRedisService.getHeartStatus(id, musicApplyId);
-
-        if (isHeartExist == CAN_HEART.getHeartStatus()) {
-            throw new HeartStatusException(REMOVE_HEART_FAIL.getMessage());
-        } else {
-            MusicApply musicApply = musicApplyRepository.findOne(musicApplyId)
-                .orElseThrow(
-                    () -> new MusicApplyNotFoundException(MUSIC_APPLY_NOT_FOUND.getMessage()));
-            musicApplyRedisService.deleteHeart(id, musicApplyId);
-        }
+        return musicApplyRedisService.deleteHeart(id, musicApplyId);
     }
 
     @Override
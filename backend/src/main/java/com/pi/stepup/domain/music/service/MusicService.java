@@ -4,6 +4,7 @@ import com.pi.stepup.domain.music.domain.Music;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicUpdateRequestDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicSuggestResponseDto;
 
 import java.util.List;
 
@@ -16,5 +17,7 @@ public interface MusicService {
 
     List<MusicFindResponseDto> readAll(String keyword);
 
+    List<MusicSuggestResponseDto> suggest(String keyword, Integer size);
+
     void delete(Long musicId);
 }
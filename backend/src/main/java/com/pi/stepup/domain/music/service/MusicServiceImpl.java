@@ -5,6 +5,7 @@ import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_DE
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_DUPLICATED;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_NOT_FOUND;
 
+import com.pi.stepup.domain.music.component.MusicCatalog;
 import com.pi.stepup.domain.music.dao.MusicAnswerRepository;
 import com.pi.stepup.domain.music.dao.MusicRepository;
 import com.pi.stepup.domain.music.domain.Music;
@@ -12,6 +13,7 @@ import com.pi.stepup.domain.music.domain.MusicAnswer;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicUpdateRequestDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicSuggestResponseDto;
 import com.pi.stepup.domain.music.exception.MusicDuplicatedException;
 import com.pi.stepup.domain.music.exception.MusicNotFoundException;
 import java.util.List;
@@ -29,6 +31,10 @@ public class MusicServiceImpl implements MusicService {
 
     private final MusicRepository musicRepository;
     private final MusicAnswerRepository musicAnswerRepository;
+    private final MusicCatalog musicCatalog;
+
+    private static final int DEFAULT_SUGGEST_SIZE = 10;
+    private static final int MAX_SUGGEST_SIZE = 30;
 
     @Override
     @Transactional
@@ -43,7 +49,9 @@ public class MusicServiceImpl implements MusicService {
         musicAnswerRepository.save(musicAnswer);
         music.setAnswerAsMusicAnswerId(musicAnswer.getId());
 
-        return musicRepository.insert(music);
+        musicRepository.insert(music);
+        musicCatalog.put(music, musicAnswer);
+        return music;
     }
 
     @Override
@@ -58,28 +66,26 @@ public class MusicServiceImpl implements MusicService {
         musicAnswer.updateMusicAnswer(musicUpdateRequestDto.getAnswer());
         musicAnswerRepository.save(musicAnswer);
         music.updateMusicInfo(musicUpdateRequestDto.toEntity());
+        musicCatalog.put(music, musicAnswer);
     }
 
     @Override
     public MusicFindResponseDto readOne(Long musicId) {
-        Music music = musicRepository.findOne(musicId)
+        return musicCatalog.findOne(musicId)
             .orElseThrow(() -> new MusicNotFoundException(MUSIC_NOT_FOUND.getMessage()));
-        MusicAnswer musicAnswer = musicAnswerRepository.findById(music.getAnswer())
-            .orElseThrow(() -> new MusicNotFoundException(MUSIC_ANSWER_NOT_FOUND.getMessage()));
-        return MusicFindResponseDto.builder()
-            .music(music)
-            .musicAnswer(musicAnswer)
-            .build();
     }
 
+    @Override
     public List<MusicFindResponseDto> readAll(String keyword) {
-        return musicRepository.findAll(keyword).stream()
-            .map(music -> MusicFindResponseDto.builder()
-                .music(music)
-                .musicAnswer(musicAnswerRepository.findById(music.getAnswer())
-                    .orElseThrow(
-                        () -> new MusicNotFoundException(MUSIC_ANSWER_NOT_FOUND.getMessage())))
-                .build())
+        return musicCatalog.findAll(keyword);
+    }
+
+    @Override
+    public List<MusicSuggestResponseDto> suggest(String keyword, Integer size) {
+        int limit = size == null || size < 1 ? DEFAULT_SUGGEST_SIZE
+            : Math.min(size, MAX_SUGGEST_SIZE);
+        return musicCatalog.suggest(keyword, limit).stream()
+            .map(music -> MusicSuggestResponseDto.builder().music(music).build())
             .collect(Collectors.toList());
     }
 
@@ -94,5 +100,6 @@ public class MusicServiceImpl implements MusicService {
 
         musicAnswerRepository.delete(musicAnswer);
         musicRepository.delete(musicId);
+        musicCatalog.remove(musicId);
     }
 }
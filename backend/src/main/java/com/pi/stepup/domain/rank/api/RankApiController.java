@@ -1,11 +1,18 @@
 package com.pi.stepup.domain.rank.api;
 
+import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_LEADERBOARD_SUCCESS;
+import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_MY_LEADERBOARD_SUCCESS;
+import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_POINT_AWARD_QUEUE_SUCCESS;
 import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_POINT_SUCCESS;
 import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_PONT_HISTORY_SUCCESS;
 import static com.pi.stepup.domain.rank.constant.RankResponseMessage.READ_RANK_SUCCESS;
+import static com.pi.stepup.domain.rank.constant.RankResponseMessage.REBUILD_LEADERBOARD_SUCCESS;
+import static com.pi.stepup.domain.rank.constant.RankResponseMessage.RELOAD_RANK_TABLE_SUCCESS;
 import static com.pi.stepup.domain.rank.constant.RankResponseMessage.UPDATE_POINT_SUCCESS;
 
+import com.pi.stepup.domain.rank.dto.RankRequestDto.LeaderboardRequestDto;
 import com.pi.stepup.domain.rank.dto.RankRequestDto.PointUpdateRequestDto;
+import com.pi.stepup.domain.rank.service.LeaderboardService;
 import com.pi.stepup.domain.rank.service.PointHistoryService;
 import com.pi.stepup.domain.rank.service.RankService;
 import com.pi.stepup.global.dto.ResponseDto;
@@ -31,9 +38,11 @@ public class RankApiController {
 
     private final PointHistoryService pointHistoryService;
     private final RankService rankService;
+    private final LeaderboardService leaderboardService;
 
     @Operation(summary = "포인트 적립",
-        description = "사용자가 랜플댄에 참여하여 수상하거나 노래를 맞힐 경우, 랜플댄 개최, 연습실 첨여할 경우 포인트를 적립한다.")
+        description = "사용자가 랜플댄에 참여하여 수상하거나 노래를 맞힐 경우, 랜플댄 개최, 연습실 첨여할 경우 포인트를 적립한다. "
+            + "적립 요청은 큐에 넣은 뒤 바로 응답하며, 적립 내역과 포인트는 잠시 후 반영된다.")
     @ApiResponse(responseCode = "200",
         description = "포인트 적립 완료")
     @ApiResponse(responseCode = "401",
@@ -96,4 +105,100 @@ public class RankApiController {
             rankService.readOne()
         ));
     }
+
+    @Operation(summary = "포인트 리더보드 조회",
+        description = "포인트가 높은 순서로 size 명을 조회한다. countryId를 지정하면 해당 국가 사용자만 조회한다. "
+            + "포인트가 같으면 같은 순위이다.")
+    @ApiResponse(responseCode = "200",
+        description = "리더보드 조회 완료")
+    @GetMapping("/leaderboard")
+    public ResponseEntity<ResponseDto<?>> readLeaderboard(
+        LeaderboardRequestDto leaderboardRequestDto) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            READ_LEADERBOARD_SUCCESS.getMessage(),
+            leaderboardService.readTop(leaderboardRequestDto)
+        ));
+    }
+
+    @Operation(summary = "내 주변 포인트 리더보드 조회",
+        description = "사용자 앞뒤로 size 명씩 리더보드를 조회한다. countryId를 지정하면 해당 국가 리더보드에서 조회한다.")
+    @ApiResponse(responseCode = "200",
+        description = "리더보드 조회 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @ApiResponse(responseCode = "403",
+        description = "접근 권한 없음")
+    @GetMapping("/leaderboard/around")
+    public ResponseEntity<ResponseDto<?>> readLeaderboardAround(
+        LeaderboardRequestDto leaderboardRequestDto) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            READ_LEADERBOARD_SUCCESS.getMessage(),
+            leaderboardService.readAround(leaderboardRequestDto)
+        ));
+    }
+
+    @Operation(summary = "리더보드 내 순위 조회",
+        description = "리더보드에서 사용자의 순위와 포인트, 전체 인원을 조회한다. 리더보드에 없으면 순위는 null이다.")
+    @ApiResponse(responseCode = "200",
+        description = "리더보드 내 순위 조회 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @ApiResponse(responseCode = "403",
+        description = "접근 권한 없음")
+    @GetMapping("/leaderboard/my")
+    public ResponseEntity<ResponseDto<?>> readMyLeaderboardRank(
+        LeaderboardRequestDto leaderboardRequestDto) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            READ_MY_LEADERBOARD_SUCCESS.getMessage(),
+            leaderboardService.readMyRank(leaderboardRequestDto)
+        ));
+    }
+
+    @Operation(summary = "리더보드 재구성",
+        description = "관리자는 전체 사용자 포인트로 리더보드를 다시 만들 수 있다.")
+    @ApiResponse(responseCode = "200",
+        description = "리더보드 재구성 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @ApiResponse(responseCode = "403",
+        description = "접근 권한 없음")
+    @PostMapping("/leaderboard/rebuild")
+    public ResponseEntity<ResponseDto<?>> rebuildLeaderboard() {
+        leaderboardService.rebuild();
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            REBUILD_LEADERBOARD_SUCCESS.getMessage()
+        ));
+    }
+
+    @Operation(summary = "등급 정보 갱신",
+        description = "관리자는 등급과 포인트 정책을 DB에서 다시 읽어 올 수 있다. 갱신된 등급 정보 version을 반환한다.")
+    @ApiResponse(responseCode = "200",
+        description = "등급 정보 갱신 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @ApiResponse(responseCode = "403",
+        description = "접근 권한 없음")
+    @PostMapping("/table/reload")
+    public ResponseEntity<ResponseDto<?>> reloadRankTable() {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            RELOAD_RANK_TABLE_SUCCESS.getMessage(),
+            rankService.reloadTable()
+        ));
+    }
+
+    @Operation(summary = "포인트 적립 큐 상태 조회",
+        description = "관리자는 포인트 적립 큐에 쌓인 적립 수, 대기 시간(ms), 처리/유실 건수를 조회할 수 있다.")
+    @ApiResponse(responseCode = "200",
+        description = "포인트 적립 큐 상태 조회 완료")
+    @ApiResponse(responseCode = "401",
+        description = "인증 실패")
+    @ApiResponse(responseCode = "403",
+        description = "접근 권한 없음")
+    @GetMapping("/point/queue")
+    public ResponseEntity<ResponseDto<?>> readPointAwardQueue() {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.create(
+            READ_POINT_AWARD_QUEUE_SUCCESS.getMessage(),
+            pointHistoryService.readAwardQueue()
+        ));
+    }
 }
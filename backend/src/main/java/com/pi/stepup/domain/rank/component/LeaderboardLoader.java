@@ -0,0 +1,26 @@
+package com.pi.stepup.domain.rank.component;
+
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
+import com.pi.stepup.domain.rank.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리더보드가 없으면(Redis 초기화 등) 서버 시작 시 USERS 로 다시 만듦
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaderboardLoader {
+
+    private final LeaderboardService leaderboardService;
+    private final LeaderboardRedisRepository leaderboardRedisRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!leaderboardRedisRepository.exists()) {
+            leaderboardService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.pi.stepup.domain.rank.component;
+
+import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.POINT_AWARD_QUEUE_FULL;
+import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.RANK_NOT_FOUND;
+
+import com.pi.stepup.domain.rank.dao.PointJdbcRepository;
+import com.pi.stepup.domain.rank.domain.Rank;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.PointAwardQueueFindResponseDto;
+import com.pi.stepup.domain.rank.dto.statistics.PointAwardDto;
+import com.pi.stepup.domain.rank.dto.statistics.PointUpdateResultDto;
+import com.pi.stepup.domain.rank.exception.PointAwardQueueFullException;
+import com.pi.stepup.domain.rank.exception.RankNotFoundException;
+import com.pi.stepup.domain.rank.service.PointRedisService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 적립 큐
+ * 요청은 검증 후 큐에 넣은 즉시 응답하고, 모인 적립은 주기적으로 적립 내역을 JDBC 배치 insert 한 뒤
+ * 사용자별로 합친 포인트를 Redis에 한 번씩 반영
+ * 한 스레드(flush)만 저장하므로 사용자별 적립 순서가 유지되고 (적립 내역 생성 시각은 요청 시각),
+ * 큐가 가득 차면 OFFER_TIMEOUT 동안 기다린 뒤에도 자리가 없으면 요청을 거절해 유입 속도를 늦춤
+ * 저장에 실패한 배치는 큐가 아닌 retryList 에 두고 다음 주기에 가장 먼저 저장하며,
+ * 적립 내역 저장 후 Redis 반영에 실패한 포인트는 사용자별로 모아 다음 주기에 다시 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PointAwardQueue {
+
+    private static final int CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long OFFER_TIMEOUT = 100;
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointRedisService pointRedisService;
+    private final RankTable rankTable;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long FLUSH_TIME = 500;
+
+    private final BlockingQueue<PointAwardDto> queue = new ArrayBlockingQueue<>(CAPACITY);
+    // 저장에 실패한 배치, flush 에서만 접근
+    private final List<PointAwardDto> retryList = new ArrayList<>();
+    // 적립 내역은 저장했지만 Redis에 반영하지 못한 사용자별 포인트
+    private final Map<String, Integer> pendingPointMap = new ConcurrentHashMap<>();
+
+    private final AtomicLong processedCnt = new AtomicLong();
+    private final AtomicLong rejectedCnt = new AtomicLong();
+    private final AtomicLong droppedCnt = new AtomicLong();
+    private volatile long lastLag;
+
+    public void add(PointAwardDto pointAward) {
+        boolean offered;
+        try {
+            offered = queue.offer(pointAward, OFFER_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        if (!offered) {
+            rejectedCnt.incrementAndGet();
+            throw new PointAwardQueueFullException(POINT_AWARD_QUEUE_FULL.getMessage());
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 큐 길이와 지연 시간(ms)
+     * lag : 가장 오래 기다리고 있는 적립의 대기 시간, lastLag : 마지막으로 저장한 배치의 첫 적립 대기 시간
+     */
+    public PointAwardQueueFindResponseDto getStatus() {
+        PointAwardDto oldest = queue.peek();
+        return PointAwardQueueFindResponseDto.builder()
+            .depth(queue.size())
+            .capacity(CAPACITY)
+            .lag(oldest == null ? 0 : getLag(oldest))
+            .lastLag(lastLag)
+            .processedCnt(processedCnt.get())
+            .rejectedCnt(rejectedCnt.get())
+            .droppedCnt(droppedCnt.get())
+            .build();
+    }
+
+    @Scheduled(fixedDelay = FLUSH_TIME)
+    public synchronized void flush() {
+        //이전 주기에 저장하지 못한 배치가 큐의 적립보다 먼저 저장되어야 순서가 유지됨
+        if (!retryList.isEmpty()) {
+            if (!write(retryList)) {
+                return;
+            }
+            retryList.clear();
+        }
+
+        List<PointAwardDto> pointAwardList = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(pointAwardList, BATCH_SIZE) > 0) {
+            lastLag = getLag(pointAwardList.get(0));
+            if (!write(pointAwardList)) {
+                retryList.addAll(pointAwardList);
+                break;
+            }
+            pointAwardList.clear();
+        }
+
+        if (!pendingPointMap.isEmpty()) {
+            updatePoint(new ArrayList<>());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * @return 저장에 실패했으면 false (호출한 쪽에서 다음 주기에 재시도)
+     */
+    private boolean write(List<PointAwardDto> pointAwardList) {
+        List<PointAwardDto> inserted;
+        try {
+            inserted = insert(pointAwardList);
+        } catch (RuntimeException e) {
+            log.error("[ERROR] 포인트 적립 내역 저장 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+            return false;
+        }
+
+        updatePoint(inserted);
+        processedCnt.addAndGet(inserted.size());
+        return true;
+    }
+
+    private List<PointAwardDto> insert(List<PointAwardDto> pointAwardList) {
+        try {
+            Map<String, Long> userNoMap = pointJdbcRepository.findAllUserNo(
+                pointAwardList.stream()
+                    .map(PointAwardDto::getId)
+                    .collect(Collectors.toSet()));
+            List<PointAwardDto> inserted = filterUser(pointAwardList, userNoMap);
+            transactionTemplate.executeWithoutResult(
+                status -> pointJdbcRepository.batchInsertPointHistory(inserted, userNoMap));
+            return inserted;
+        } catch (DataIntegrityViolationException e) {
+            //삭제된 랜덤 플레이 댄스가 섞인 배치는 한 건씩 저장
+            return insertEach(pointAwardList);
+        }
+    }
+
+    private List<PointAwardDto> insertEach(List<PointAwardDto> pointAwardList) {
+        Map<String, Long> userNoMap = pointJdbcRepository.findAllUserNo(pointAwardList.stream()
+            .map(PointAwardDto::getId)
+            .collect(Collectors.toSet()));
+
+        List<PointAwardDto> inserted = new ArrayList<>();
+        for (PointAwardDto pointAward : filterUser(pointAwardList, userNoMap)) {
+            try {
+                pointJdbcRepository.batchInsertPointHistory(List.of(pointAward), userNoMap);
+                inserted.add(pointAward);
+            } catch (DataIntegrityViolationException e) {
+                droppedCnt.incrementAndGet();
+                log.info("[INFO] 저장할 수 없는 포인트 적립 무시 (삭제된 랜덤 플레이 댄스)"
+                        + " - randomDanceId : {}, userId : {}",
+                    pointAward.getRandomDanceId(), pointAward.getId());
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 탈퇴한 사용자의 적립은 제외
+     */
+    private List<PointAwardDto> filterUser(List<PointAwardDto> pointAwardList,
+        Map<String, Long> userNoMap) {
+        List<PointAwardDto> filtered = new ArrayList<>();
+        for (PointAwardDto pointAward : pointAwardList) {
+            if (userNoMap.containsKey(pointAward.getId())) {
+                filtered.add(pointAward);
+            } else {
+                droppedCnt.incrementAndGet();
+                log.info("[INFO] 없는 사용자의 포인트 적립 무시 : {}", pointAward.getId());
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * 사용자별로 포인트를 합쳐 한 번씩 적립하고, 등급이 바뀐 경우에만 등급을 다시 계산
+     * 이전에 반영하지 못한 포인트도 함께 합쳐 반영
+     */
+    private void updatePoint(List<PointAwardDto> pointAwardList) {
+        Map<String, Integer> pointMap = new LinkedHashMap<>();
+        for (String id : new ArrayList<>(pendingPointMap.keySet())) {
+            Integer pendingPoint = pendingPointMap.remove(id);
+            if (pendingPoint != null) {
+                pointMap.merge(id, pendingPoint, Integer::sum);
+            }
+        }
+        for (PointAwardDto pointAward : pointAwardList) {
+            pointMap.merge(pointAward.getId(), pointAward.getPoint(), Integer::sum);
+        }
+
+        for (Map.Entry<String, Integer> entry : pointMap.entrySet()) {
+            PointUpdateResultDto pointUpdateResultDto;
+            try {
+                pointUpdateResultDto
+                    = pointRedisService.updatePoint(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                pendingPointMap.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                log.error("[ERROR] 포인트 반영 실패 - 다음 주기에 재시도, id : {}, point : {}",
+                    entry.getKey(), entry.getValue(), e);
+                continue;
+            }
+            if (!pointUpdateResultDto.isRankChanged()) {
+                continue;
+            }
+
+            try {
+                Rank rank = rankTable.findOneByPoint(pointUpdateResultDto.getPoint())
+                    .orElseThrow(() -> new RankNotFoundException(RANK_NOT_FOUND.getMessage()));
+                pointRedisService.updateRank(entry.getKey(), rank.getName());
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 등급 반영 실패 - id : {}, point : {}", entry.getKey(),
+                    pointUpdateResultDto.getPoint(), e);
+            }
+        }
+    }
+
+    private long getLag(PointAwardDto pointAward) {
+        return Duration.between(pointAward.getAcceptedAt(), LocalDateTime.now()).toMillis();
+    }
+}
@@ -0,0 +1,124 @@
+package com.pi.stepup.domain.rank.component;
+
+import com.pi.stepup.domain.rank.constant.RankName;
+import com.pi.stepup.domain.rank.dao.PointPolicyRepository;
+import com.pi.stepup.domain.rank.dao.RankRepository;
+import com.pi.stepup.domain.rank.domain.PointPolicy;
+import com.pi.stepup.domain.rank.domain.Rank;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등급(Rank)과 포인트 정책(PointPolicy) 스냅샷
+ * 등급과 포인트 정책은 배포 시에만 바뀌므로 시작 시 한 번 읽어 두고, 관리자가 요청하면 다시 읽음
+ * 읽기는 잠금 없이 현재 스냅샷을 사용하고, 다시 읽을 때는 새 스냅샷(version + 1)으로 교체
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankTable {
+
+    private final RankRepository rankRepository;
+    private final PointPolicyRepository pointPolicyRepository;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * @return 새 스냅샷 version
+     */
+    public long reload() {
+        synchronized (lock) {
+            long version = snapshot == null ? 1 : snapshot.version + 1;
+            snapshot = new Snapshot(version, rankRepository.findAll(),
+                pointPolicyRepository.findAll());
+            log.info("[INFO] 등급 스냅샷 갱신 : version = {}, rank = {}, pointPolicy = {}",
+                version, snapshot.rankMap.size(), snapshot.pointPolicyMap.size());
+            return version;
+        }
+    }
+
+    /**
+     * startPoint ~ endPoint 범위에 point 가 포함된 등급
+     */
+    public Optional<Rank> findOneByPoint(Integer point) {
+        Map.Entry<Integer, Rank> entry = getSnapshot().rankMap.floorEntry(point);
+        if (entry == null || entry.getValue().getEndPoint() < point) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue());
+    }
+
+    public Optional<Rank> getRankByName(RankName rankName) {
+        return Optional.ofNullable(getSnapshot().rankNameMap.get(rankName));
+    }
+
+    /**
+     * 등급 시작 포인트 (오름차순)
+     */
+    public List<Integer> getStartPoints() {
+        return getSnapshot().startPoints;
+    }
+
+    public Optional<PointPolicy> findPointPolicy(Long pointPolicyId) {
+        return Optional.ofNullable(getSnapshot().pointPolicyMap.get(pointPolicyId));
+    }
+
+    public long getVersion() {
+        return getSnapshot().version;
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static class Snapshot {
+
+        private final long version;
+        private final NavigableMap<Integer, Rank> rankMap;
+        private final Map<RankName, Rank> rankNameMap;
+        private final List<Integer> startPoints;
+        private final Map<Long, PointPolicy> pointPolicyMap;
+
+        private Snapshot(long version, List<Rank> ranks, List<PointPolicy> pointPolicies) {
+            NavigableMap<Integer, Rank> rankMap = new TreeMap<>();
+            Map<RankName, Rank> rankNameMap = new EnumMap<>(RankName.class);
+            for (Rank rank : ranks) {
+                rankMap.put(rank.getStartPoint(), rank);
+                rankNameMap.put(rank.getName(), rank);
+            }
+
+            Map<Long, PointPolicy> pointPolicyMap = new HashMap<>();
+            for (PointPolicy pointPolicy : pointPolicies) {
+                pointPolicyMap.put(pointPolicy.getPointPolicyId(), pointPolicy);
+            }
+
+            this.version = version;
+            this.rankMap = Collections.unmodifiableNavigableMap(rankMap);
+            this.rankNameMap = Collections.unmodifiableMap(rankNameMap);
+            this.startPoints = List.copyOf(rankMap.keySet());
+            this.pointPolicyMap = Collections.unmodifiableMap(pointPolicyMap);
+        }
+    }
+}
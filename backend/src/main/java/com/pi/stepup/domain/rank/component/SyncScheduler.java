@@ -1,84 +1,96 @@
 package com.pi.stepup.domain.rank.component;
 
-import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.RANK_NOT_FOUND;
-import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
-
-import com.pi.stepup.domain.rank.constant.RankName;
-import com.pi.stepup.domain.rank.dao.RankRepository;
-import com.pi.stepup.domain.rank.exception.RankNotFoundException;
-import com.pi.stepup.domain.user.dao.UserRepository;
-import com.pi.stepup.domain.user.domain.User;
-import com.pi.stepup.domain.user.exception.UserNotFoundException;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.pi.stepup.domain.rank.dao.PointJdbcRepository;
+import com.pi.stepup.domain.rank.dao.redis.PointRedisRepository;
+import com.pi.stepup.domain.rank.domain.Rank;
+import com.pi.stepup.domain.rank.service.PointRedisService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 포인트가 바뀐 사용자(dirty set)만 골라 Redis 포인트와 등급을 DB에 반영
+ * 청크마다 커밋하고, 커밋한 뒤 값이 그대로인 캐시만 삭제하므로 동기화 중 적립된 포인트는 다음 주기에 반영됨
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SyncScheduler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final UserRepository userRepository;
-    private final RankRepository rankRepository;
+    private final PointRedisRepository pointRedisRepository;
+    private final PointRedisService pointRedisService;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final RankTable rankTable;
+    private final TransactionTemplate transactionTemplate;
 
-    private final long SCHEDULED_TIME = 3_000_000;
-    private final long CHECK_TTL_TIME = 60;
+    private final long SCHEDULED_TIME = 60_000;
+    private final long CHUNK_SIZE = 500;
+    private final int MAX_CHUNK_PER_RUN = 100;
 
-    @Scheduled(fixedDelay = SCHEDULED_TIME) // 3_600_000 10_000
-    @Transactional
-    public void syncExpiredDataToDB() {
-        log.info("[INFO] Redis에 저장 된 Point 관련 Data DB에 저장");
-        checkPoint();
-        checkRank();
+    /**
+     * 이전 실행에서 dirty set에서 꺼낸 뒤 커밋하지 못한 사용자도 캐시에는 남아 있으므로 다시 추가
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int marked = pointRedisRepository.markAllCachedDirty();
+        log.info("[INFO] 캐시에 남은 포인트 동기화 대상 추가 : {}명", marked);
     }
 
-    void checkPoint() {
-        log.info("[INFO] 포인트 동기화 중 ...");
-        Set<String> pointKeyWithKeywords = redisTemplate.keys("*point*");
+    @Scheduled(fixedDelay = SCHEDULED_TIME)
+    public void syncExpiredDataToDB() {
+        long startTime = System.currentTimeMillis();
+        int synced = 0;
+        for (int chunk = 0; chunk < MAX_CHUNK_PER_RUN; chunk++) {
+            List<String> ids = pointRedisRepository.popDirty(CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            try {
+                synced += syncPointChunk(ids);
+            } catch (RuntimeException e) {
+                log.error("[ERROR] 포인트 동기화 실패 - 다음 주기에 재시도 : {}", e.getMessage());
+                pointRedisRepository.markAllDirty(ids);
+                break;
+            }
+        }
 
-        for (String pointKey : pointKeyWithKeywords) {
-            String userId = getUserId(pointKey, "point");
-            User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-            user.updatePoint((Integer) redisTemplate.opsForValue().get(pointKey));
-            redisTemplate.delete(pointKey);
+        if (synced > 0) {
+            log.info("[INFO] 포인트 동기화 - 사용자 : {}명, {}ms", synced,
+                System.currentTimeMillis() - startTime);
         }
     }
 
-    void checkRank() {
-        log.info("[INFO] 등급 동기화 중 ...");
-        Set<String> rankKeyWtihKeywords = redisTemplate.keys("*rank*");
+    private int syncPointChunk(List<String> ids) {
+        // 만료된 포인트는 알 수 없는 것이므로 DB를 건드리지 않음
+        Map<String, Integer> pointMap = pointRedisService.getAllCachedPoint(ids);
+        if (pointMap.isEmpty()) {
+            return 0;
+        }
 
-        for (String rankKey : rankKeyWtihKeywords) {
-            String userId = getUserId(rankKey, "rank");
-            log.debug("[DEBUG] {} 사용자 등급 동기화 중...", userId);
-            User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-            user.setRank(rankRepository.getRankByName(
-                    RankName.valueOf((String) redisTemplate.opsForValue().get(rankKey)))
-                .orElseThrow(() -> new RankNotFoundException(RANK_NOT_FOUND.getMessage())));
-            redisTemplate.delete(rankKey);
+        Map<String, Long> rankIdMap = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : pointMap.entrySet()) {
+            Optional<Rank> rank = rankTable.findOneByPoint(entry.getValue());
+            rank.ifPresent(value -> rankIdMap.put(entry.getKey(), value.getRankId()));
         }
-    }
 
-    public String getUserId(String userKey, String keyword) {
-        // 정규식으로 아이디 가져오기
-        String pattern = "user:(.*?):" + keyword;
-        Pattern regexPattern = Pattern.compile(pattern);
-        Matcher matcher = regexPattern.matcher(userKey);
-        String userId;
-        if (matcher.find()) {
-            userId = matcher.group(1);
-        } else {
-            userId = null;
+        transactionTemplate.executeWithoutResult(
+            status -> pointJdbcRepository.batchUpdatePointAndRank(pointMap, rankIdMap));
+
+        try {
+            pointRedisRepository.deleteAllSynced(pointMap);
+        } catch (RuntimeException e) {
+            // 이미 커밋했으므로 캐시는 만료될 때까지 남겨 둠 (같은 값을 다시 반영해도 무방)
+            log.error("[ERROR] 동기화한 포인트 캐시 삭제 실패 : {}", e.getMessage());
         }
-        return userId;
+        return pointMap.size();
     }
 }
@@ -3,7 +3,8 @@ package com.pi.stepup.domain.rank.constant;
 public enum RankExceptionMessage {
     UNAUTHORIZED_USER_ACCESS("접근 권한 없음"),
     POINT_POLICY_NOT_FOUND("포인트 정책 없음"),
-    RANK_NOT_FOUND("등급 없음");
+    RANK_NOT_FOUND("등급 없음"),
+    POINT_AWARD_QUEUE_FULL("포인트 적립 요청이 많아 처리할 수 없음, 잠시 후 다시 시도");
 
     String message;
 
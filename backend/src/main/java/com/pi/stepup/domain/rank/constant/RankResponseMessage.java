@@ -4,7 +4,12 @@ public enum RankResponseMessage {
     UPDATE_POINT_SUCCESS("포인트 적립 완료"),
     READ_POINT_SUCCESS("포인트 조회 완료"),
     READ_RANK_SUCCESS("사용자 등급 조회 완료"),
-    READ_PONT_HISTORY_SUCCESS("포인트 적립 내역 조회 완료");
+    READ_PONT_HISTORY_SUCCESS("포인트 적립 내역 조회 완료"),
+    READ_LEADERBOARD_SUCCESS("리더보드 조회 완료"),
+    READ_MY_LEADERBOARD_SUCCESS("리더보드 내 순위 조회 완료"),
+    REBUILD_LEADERBOARD_SUCCESS("리더보드 재구성 완료"),
+    RELOAD_RANK_TABLE_SUCCESS("등급 정보 갱신 완료"),
+    READ_POINT_AWARD_QUEUE_SUCCESS("포인트 적립 큐 상태 조회 완료");
 
     private final String message;
 
@@ -0,0 +1,107 @@
+package com.pi.stepup.domain.rank.dao;
+
+import com.pi.stepup.domain.rank.dto.statistics.PointAwardDto;
+import com.pi.stepup.domain.rank.dto.statistics.UserPointDto;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자 포인트 대량 조회/갱신과 포인트 적립 내역 대량 쓰기를 JDBC로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointJdbcRepository {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 사용자 포인트를 한 번의 조회로 읽으면서 한 행씩 전달 (결과 전체를 메모리에 올리지 않음)
+     */
+    public void findAllUserPoint(Consumer<UserPointDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                "SELECT id, country_id, point FROM users",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long countryId = rs.getLong("country_id");
+            consumer.accept(new UserPointDto(rs.getString("id"),
+                rs.wasNull() ? null : countryId, rs.getInt("point")));
+        });
+    }
+
+    /**
+     * 사용자 id별 User.userId, 없는 사용자는 포함하지 않음
+     */
+    public Map<String, Long> findAllUserNo(Collection<String> ids) {
+        Map<String, Long> userNoMap = new HashMap<>();
+        if (ids.isEmpty()) {
+            return userNoMap;
+        }
+
+        jdbcTemplate.query("SELECT user_id, id FROM users WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+            (RowCallbackHandler) rs -> userNoMap.put(rs.getString("id"), rs.getLong("user_id")),
+            ids.toArray());
+        return userNoMap;
+    }
+
+    /**
+     * 적립 요청 시각을 생성 시각으로 저장
+     */
+    public int[] batchInsertPointHistory(List<PointAwardDto> pointAwardList,
+        Map<String, Long> userNoMap) {
+        if (pointAwardList.isEmpty()) {
+            return new int[0];
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (PointAwardDto pointAward : pointAwardList) {
+            Timestamp acceptedAt = Timestamp.valueOf(pointAward.getAcceptedAt());
+            batchArgs.add(new Object[]{userNoMap.get(pointAward.getId()),
+                pointAward.getPointPolicyId(), pointAward.getRandomDanceId(),
+                pointAward.getCount(), acceptedAt, acceptedAt});
+        }
+
+        return jdbcTemplate.batchUpdate("INSERT INTO point_history "
+            + "(user_id, point_policy_id, random_dance_id, count, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", batchArgs);
+    }
+
+    /**
+     * 사용자 포인트를 Redis 값으로 덮어씀, 등급을 알 수 없는(rankIdMap에 없는) 사용자는 등급 유지
+     */
+    public int[] batchUpdatePointAndRank(Map<String, Integer> pointMap,
+        Map<String, Long> rankIdMap) {
+        if (pointMap.isEmpty()) {
+            return new int[0];
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : pointMap.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), rankIdMap.get(entry.getKey()), now,
+                entry.getKey()});
+        }
+
+        return jdbcTemplate.batchUpdate("UPDATE users "
+            + "SET point = ?, rank_id = COALESCE(?, rank_id), modified_at = ? WHERE id = ?",
+            batchArgs);
+    }
+}
@@ -1,6 +1,7 @@
 package com.pi.stepup.domain.rank.dao;
 
 import com.pi.stepup.domain.rank.domain.PointPolicy;
+import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
@@ -23,4 +24,10 @@ public class PointPolicyRepositoryImpl implements PointPolicyRepository {
         }
         return pointPolicy;
     }
+
+    @Override
+    public List<PointPolicy> findAll() {
+        return em.createQuery("SELECT p FROM PointPolicy p", PointPolicy.class)
+            .getResultList();
+    }
 }
@@ -2,6 +2,7 @@ package com.pi.stepup.domain.rank.dao;
 
 import com.pi.stepup.domain.rank.constant.RankName;
 import com.pi.stepup.domain.rank.domain.Rank;
+import java.util.List;
 import java.util.Optional;
 
 public interface RankRepository {
@@ -9,4 +10,6 @@ public interface RankRepository {
     Optional<Rank> findOneByPoint(Integer point);
 
     Optional<Rank> getRankByName(RankName rankName);
+
+    List<Rank> findAll();
 }
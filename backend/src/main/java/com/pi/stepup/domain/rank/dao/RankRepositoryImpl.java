@@ -3,6 +3,7 @@ package com.pi.stepup.domain.rank.dao;
 
 import com.pi.stepup.domain.rank.constant.RankName;
 import com.pi.stepup.domain.rank.domain.Rank;
+import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
 import javax.persistence.NoResultException;
@@ -42,4 +43,10 @@ public class RankRepositoryImpl implements RankRepository {
         }
         return rank;
     }
+
+    @Override
+    public List<Rank> findAll() {
+        return em.createQuery("SELECT r FROM Rank r ORDER BY r.startPoint", Rank.class)
+            .getResultList();
+    }
 }
@@ -0,0 +1,283 @@
+package com.pi.stepup.domain.rank.dao.redis;
+
+import com.pi.stepup.domain.rank.dto.statistics.UserPointDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 포인트 리더보드 sorted set (member : 사용자 id, score : 포인트)
+ * leaderboard:point - 전체 사용자
+ * leaderboard:point:country:{countryId} - 국가별 사용자
+ * leaderboard:user_country - 사용자 id별로 리더보드에 등록된 국가 id (국가 없음은 NO_COUNTRY)
+ * leaderboard:rebuilding - 재구성 중인 리더보드 키의 suffix, 재구성 중 적립된 포인트도 재구성 키에 함께 반영
+ * 순위는 자신보다 포인트가 높은 사용자 수 + 1 이므로 동점자는 같은 순위
+ */
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRedisRepository {
+
+    public static final long NO_COUNTRY = 0;
+
+    private static final String GLOBAL_KEY = "leaderboard:point";
+    private static final String USER_COUNTRY_KEY = "leaderboard:user_country";
+    private static final String REBUILDING_KEY = "leaderboard:rebuilding";
+    private static final String REBUILD_INFIX = ":rebuild:";
+    // 재구성 도중 서버가 종료되어도 적립 시 재구성 키를 계속 채우지 않도록 만료
+    private static final long REBUILD_EXPIRATION = 3_600_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getLeaderboardKey(Long countryId) {
+        return countryId == null ? GLOBAL_KEY : GLOBAL_KEY + ":country:" + countryId;
+    }
+
+    public static String getRebuildingKey() {
+        return REBUILDING_KEY;
+    }
+
+    public static String getRebuildKey(String key, Object suffix) {
+        return key + REBUILD_INFIX + suffix;
+    }
+
+    public boolean exists() {
+        Boolean hasKey = redisTemplate.hasKey(GLOBAL_KEY);
+        return hasKey != null && hasKey;
+    }
+
+    /**
+     * 리더보드에 등록된 국가 id, 등록되지 않은 사용자면 null
+     */
+    public Long findCountryId(String id) {
+        Object countryId = redisTemplate.opsForHash().get(USER_COUNTRY_KEY, id);
+        return countryId == null ? null : Long.valueOf(String.valueOf(countryId));
+    }
+
+    /**
+     * 재구성 중이면 재구성 키에도 함께 반영 (교체 시 사라지지 않도록)
+     */
+    public void updatePoint(String id, long countryId, int point) {
+        Object suffix = redisTemplate.opsForValue().get(REBUILDING_KEY);
+        List<String> keySuffixes = new ArrayList<>();
+        keySuffixes.add("");
+        if (suffix != null) {
+            keySuffixes.add(REBUILD_INFIX + suffix);
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                for (String keySuffix : keySuffixes) {
+                    redisOperations.opsForZSet().add(GLOBAL_KEY + keySuffix, id, point);
+                    if (countryId != NO_COUNTRY) {
+                        redisOperations.opsForZSet()
+                            .add(getLeaderboardKey(countryId) + keySuffix, id, point);
+                    }
+                    redisOperations.opsForHash()
+                        .put(USER_COUNTRY_KEY + keySuffix, id, String.valueOf(countryId));
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 국가 변경 시 기존 국가 리더보드에서 새 국가 리더보드로 옮김
+     */
+    public void updateCountry(String id, long countryId) {
+        Long beforeCountryId = findCountryId(id);
+        Double point = redisTemplate.opsForZSet().score(GLOBAL_KEY, id);
+        if (beforeCountryId == null || point == null || beforeCountryId == countryId) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForZSet().remove(getLeaderboardKey(beforeCountryId), id);
+                if (countryId != NO_COUNTRY) {
+                    redisOperations.opsForZSet().add(getLeaderboardKey(countryId), id, point);
+                }
+                redisOperations.opsForHash()
+                    .put(USER_COUNTRY_KEY, id, String.valueOf(countryId));
+                return null;
+            }
+        });
+    }
+
+    public void delete(String id) {
+        Long countryId = findCountryId(id);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations
+                    = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForZSet().remove(GLOBAL_KEY, id);
+                if (countryId != null && countryId != NO_COUNTRY) {
+                    redisOperations.opsForZSet().remove(getLeaderboardKey(countryId), id);
+                }
+                redisOperations.opsForHash().delete(USER_COUNTRY_KEY, id);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 포인트 내림차순 start ~ end 번째 사용자 (0부터 시작)
+     */
+    public Set<TypedTuple<Object>> findAll(Long countryId, long start, long end) {
+        return redisTemplate.opsForZSet()
+            .reverseRangeWithScores(getLeaderboardKey(countryId), start, end);
+    }
+
+    /**
+     * 포인트 내림차순 위치 (0부터 시작), 리더보드에 없으면 null
+     */
+    public Long findPosition(Long countryId, String id) {
+        return redisTemplate.opsForZSet().reverseRank(getLeaderboardKey(countryId), id);
+    }
+
+    public Double findPoint(Long countryId, String id) {
+        return redisTemplate.opsForZSet().score(getLeaderboardKey(countryId), id);
+    }
+
+    /**
+     * 포인트가 point 보다 높은 사용자 수 (포인트는 정수)
+     */
+    public long countHigher(Long countryId, double point) {
+        Long count = redisTemplate.opsForZSet()
+            .count(getLeaderboardKey(countryId), point + 1, Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    public long count(Long countryId) {
+        Long count = redisTemplate.opsForZSet().zCard(getLeaderboardKey(countryId));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 재구성 중인 리더보드, 모두 채운 뒤 publish 로 기존 키와 교체
+     * 시작 이후 적립된 포인트는 적립 스크립트가 재구성 키에도 반영
+     */
+    public Rebuild startRebuild() {
+        Long suffix = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(REBUILDING_KEY, suffix,
+            Duration.ofMillis(REBUILD_EXPIRATION));
+        return new Rebuild(suffix);
+    }
+
+    public class Rebuild {
+
+        private final Long suffix;
+        private final Set<Long> countryIds = new HashSet<>();
+        private boolean filled;
+
+        private Rebuild(Long suffix) {
+            this.suffix = suffix;
+        }
+
+        public void addAll(List<UserPointDto> userPointList) {
+            if (userPointList.isEmpty()) {
+                return;
+            }
+
+            Map<String, Set<TypedTuple<Object>>> tupleMap = new HashMap<>();
+            Map<String, String> userCountryMap = new HashMap<>();
+            for (UserPointDto userPoint : userPointList) {
+                long countryId = userPoint.getCountryId() == null
+                    ? NO_COUNTRY : userPoint.getCountryId();
+                TypedTuple<Object> tuple = new DefaultTypedTuple<>(userPoint.getId(),
+                    (double) userPoint.getPoint());
+
+                tupleMap.computeIfAbsent(getRebuildKey(GLOBAL_KEY), key -> new HashSet<>())
+                    .add(tuple);
+                if (countryId != NO_COUNTRY) {
+                    countryIds.add(countryId);
+                    tupleMap.computeIfAbsent(getRebuildKey(getLeaderboardKey(countryId)),
+                        key -> new HashSet<>()).add(tuple);
+                }
+                userCountryMap.put(userPoint.getId(), String.valueOf(countryId));
+            }
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations
+                        = (RedisOperations<String, Object>) operations;
+                    //재구성 중 적립되어 이미 들어간 더 최신 포인트는 덮어쓰지 않음
+                    for (Map.Entry<String, Set<TypedTuple<Object>>> entry : tupleMap.entrySet()) {
+                        redisOperations.opsForZSet().addIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    redisOperations.opsForHash().putAll(getRebuildKey(USER_COUNTRY_KEY),
+                        userCountryMap);
+                    return null;
+                }
+            });
+            filled = true;
+        }
+
+        /**
+         * 채운 키로 교체하고, 사용자가 없어진 국가(allCountryIds 중 이번에 채우지 않은 국가)의 키는 삭제
+         * 교체 도중 적립이 끼어들지 않도록 재구성 표시 삭제와 교체를 하나의 트랜잭션으로 실행
+         */
+        public void publish(Collection<Long> allCountryIds) {
+            List<String> deleteKeys = new ArrayList<>();
+            if (!filled) {
+                deleteKeys.add(GLOBAL_KEY);
+                deleteKeys.add(USER_COUNTRY_KEY);
+            }
+            for (Long countryId : allCountryIds) {
+                if (!countryIds.contains(countryId)) {
+                    deleteKeys.add(getLeaderboardKey(countryId));
+                }
+            }
+
+            redisTemplate.execute(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations
+                        = (RedisOperations<String, Object>) operations;
+                    redisOperations.multi();
+                    redisOperations.delete(REBUILDING_KEY);
+                    if (filled) {
+                        redisOperations.rename(getRebuildKey(GLOBAL_KEY), GLOBAL_KEY);
+                        redisOperations.rename(getRebuildKey(USER_COUNTRY_KEY), USER_COUNTRY_KEY);
+                    }
+                    for (Long countryId : countryIds) {
+                        String leaderboardKey = getLeaderboardKey(countryId);
+                        redisOperations.rename(getRebuildKey(leaderboardKey), leaderboardKey);
+                    }
+                    if (!deleteKeys.isEmpty()) {
+                        redisOperations.delete(deleteKeys);
+                    }
+                    return redisOperations.exec();
+                }
+            });
+        }
+
+        private String getRebuildKey(String key) {
+            return LeaderboardRedisRepository.getRebuildKey(key, suffix);
+        }
+    }
+}
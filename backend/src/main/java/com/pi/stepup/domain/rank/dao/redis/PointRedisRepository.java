@@ -0,0 +1,196 @@
+package com.pi.stepup.domain.rank.dao.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자 포인트 캐시
+ * user:{id}:point - DB에 아직 반영되지 않은 사용자 전체 포인트
+ * user:{id}:rank - 포인트에 해당하는 등급 이름
+ * dirty:point - DB에 반영되지 않은 포인트 변경이 있는 사용자 id
+ * 포인트 적립은 포인트 키, user_info:{id} 해시의 point 필드, 리더보드 점수, dirty:point를 하나의 스크립트로 함께 변경
+ * 리더보드 재구성 중이면 재구성 중인 리더보드 키에도 점수를 반영
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointRedisRepository {
+
+    public static final long POINT_MISS = -1;
+    public static final long POINT_UPDATED = 1;
+
+    private static final String DIRTY_POINT_KEY = "dirty:point";
+    private static final String POINT_KEY_PATTERN = "user:*:point";
+    private static final int SCAN_COUNT = 1_000;
+
+    // KEYS[1] 포인트, KEYS[2] user_info 해시, KEYS[3] 전체 리더보드, KEYS[4] 국가 리더보드, KEYS[5] dirty:point
+    // KEYS[6] leaderboard:rebuilding (값이 있으면 리더보드 키 + ':rebuild:' + 값 에도 반영)
+    // ARGV[1] 사용자 id(리더보드 member), ARGV[2] 추가 포인트, ARGV[3] 최대 포인트, ARGV[4] ttl(ms)
+    // ARGV[5] 1이면 국가 리더보드도 갱신, ARGV[6] 1이면 없는 포인트를 ARGV[7](DB 포인트)로 채움
+    // ARGV[8..] 등급 시작 포인트
+    // 반환 : {POINT_MISS | POINT_UPDATED, 적립 후 포인트, 등급이 바뀌었으면 1}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD_POINT_SCRIPT = new DefaultRedisScript<>(
+        "local point = tonumber(redis.call('GET', KEYS[1])) "
+            + "if point == nil then "
+            + "if ARGV[6] ~= '1' then return {-1, 0, 0} end "
+            + "point = tonumber(ARGV[7]) end "
+            + "local updated = math.min(point + tonumber(ARGV[2]), tonumber(ARGV[3])) "
+            + "local function tier(p) local t = 0 "
+            + "for i = 8, #ARGV do if p >= tonumber(ARGV[i]) then t = t + 1 end end "
+            + "return t end "
+            + "redis.call('SET', KEYS[1], updated, 'PX', ARGV[4]) "
+            + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+            + "redis.call('HSET', KEYS[2], 'point', updated) end "
+            + "redis.call('ZADD', KEYS[3], updated, ARGV[1]) "
+            + "if ARGV[5] == '1' then redis.call('ZADD', KEYS[4], updated, ARGV[1]) end "
+            + "local rebuilding = redis.call('GET', KEYS[6]) "
+            + "if rebuilding then "
+            + "redis.call('ZADD', KEYS[3] .. ':rebuild:' .. rebuilding, updated, ARGV[1]) "
+            + "if ARGV[5] == '1' then "
+            + "redis.call('ZADD', KEYS[4] .. ':rebuild:' .. rebuilding, updated, ARGV[1]) end end "
+            + "redis.call('SADD', KEYS[5], ARGV[1]) "
+            + "return {1, updated, tier(point) ~= tier(updated) and 1 or 0}", List.class);
+
+    // KEYS[1..n] 포인트, KEYS[n+1..2n] 등급, ARGV[1..n] DB에 반영한 포인트
+    // 반영한 뒤 다시 적립된 포인트는 남겨 둠 (적립 스크립트가 dirty:point에 다시 추가함)
+    // 반환 : 삭제한 사용자 수
+    private static final RedisScript<Long> DELETE_SYNCED_SCRIPT = new DefaultRedisScript<>(
+        "local n = #ARGV "
+            + "local deleted = 0 "
+            + "for i = 1, n do "
+            + "if redis.call('GET', KEYS[i]) == ARGV[i] then "
+            + "redis.call('DEL', KEYS[i], KEYS[n + i]) "
+            + "deleted = deleted + 1 end end "
+            + "return deleted", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getPointKey(String id) {
+        return "user:" + id + ":point";
+    }
+
+    public static String getRankKey(String id) {
+        return "user:" + id + ":rank";
+    }
+
+    public static String getUserInfoKey(String id) {
+        return "user_info:" + id;
+    }
+
+    /**
+     * @return {POINT_MISS | POINT_UPDATED, 적립 후 포인트, 등급이 바뀌었으면 1}
+     */
+    public long[] addPoint(String id, long countryId, int pointToAdd, int maxPoint,
+        long expiration, List<Integer> rankStartPoints) {
+        return addPoint(id, countryId, pointToAdd, maxPoint, expiration, false, 0,
+            rankStartPoints);
+    }
+
+    public long[] addPoint(String id, long countryId, int pointToAdd, int maxPoint,
+        long expiration, int dbPoint, List<Integer> rankStartPoints) {
+        return addPoint(id, countryId, pointToAdd, maxPoint, expiration, true, dbPoint,
+            rankStartPoints);
+    }
+
+    private long[] addPoint(String id, long countryId, int pointToAdd, int maxPoint,
+        long expiration, boolean seed, int dbPoint, List<Integer> rankStartPoints) {
+        boolean hasCountry = countryId != LeaderboardRedisRepository.NO_COUNTRY;
+        List<Object> args = new ArrayList<>(Arrays.asList(
+            id, pointToAdd, maxPoint, expiration, hasCountry ? 1 : 0, seed ? 1 : 0, dbPoint));
+        args.addAll(rankStartPoints);
+
+        List<?> result = redisTemplate.execute(ADD_POINT_SCRIPT,
+            Arrays.asList(getPointKey(id), getUserInfoKey(id),
+                LeaderboardRedisRepository.getLeaderboardKey(null),
+                LeaderboardRedisRepository.getLeaderboardKey(hasCountry ? countryId : null),
+                DIRTY_POINT_KEY, LeaderboardRedisRepository.getRebuildingKey()),
+            args.toArray());
+        if (result == null || result.size() < 3) {
+            return new long[]{POINT_MISS, 0, 0};
+        }
+        return new long[]{Long.parseLong(String.valueOf(result.get(0))),
+            Long.parseLong(String.valueOf(result.get(1))),
+            Long.parseLong(String.valueOf(result.get(2)))};
+    }
+
+    public void markAllDirty(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(DIRTY_POINT_KEY, ids.toArray());
+    }
+
+    public List<String> popDirty(long count) {
+        List<Object> popped = redisTemplate.opsForSet().pop(DIRTY_POINT_KEY, count);
+
+        List<String> ids = new ArrayList<>();
+        if (popped != null) {
+            for (Object id : popped) {
+                ids.add(String.valueOf(id));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 캐시에 남아 있는 모든 포인트를 dirty:point에 추가 (KEYS 대신 SCAN)
+     * 동기화 도중 서버가 종료되어 dirty:point에서 빠진 사용자도 다시 반영되도록 시작 시 실행
+     *
+     * @return 추가한 사용자 수
+     */
+    public int markAllCachedDirty() {
+        List<String> ids = new ArrayList<>();
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(ScanOptions.scanOptions()
+                .match(POINT_KEY_PATTERN).count(SCAN_COUNT).build())) {
+                while (cursor.hasNext()) {
+                    String pointKey = new String(cursor.next(), StandardCharsets.UTF_8);
+                    ids.add(pointKey.substring("user:".length(),
+                        pointKey.length() - ":point".length()));
+                }
+            }
+            return null;
+        });
+
+        for (int i = 0; i < ids.size(); i += SCAN_COUNT) {
+            markAllDirty(ids.subList(i, Math.min(i + SCAN_COUNT, ids.size())));
+        }
+        return ids.size();
+    }
+
+    /**
+     * DB에 반영한 뒤 값이 그대로인 포인트/등급 캐시만 삭제
+     *
+     * @return 삭제한 사용자 수
+     */
+    public long deleteAllSynced(Map<String, Integer> pointMap) {
+        if (pointMap.isEmpty()) {
+            return 0;
+        }
+
+        List<String> pointKeys = new ArrayList<>();
+        List<String> rankKeys = new ArrayList<>();
+        List<Object> points = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : pointMap.entrySet()) {
+            pointKeys.add(getPointKey(entry.getKey()));
+            rankKeys.add(getRankKey(entry.getKey()));
+            points.add(entry.getValue());
+        }
+        pointKeys.addAll(rankKeys);
+
+        Long deleted = redisTemplate.execute(DELETE_SYNCED_SCRIPT, pointKeys, points.toArray());
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -30,4 +30,14 @@ public class RankRequestDto {
                 .build();
         }
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LeaderboardRequestDto {
+
+        private Long countryId;
+        private Integer size;
+    }
 }
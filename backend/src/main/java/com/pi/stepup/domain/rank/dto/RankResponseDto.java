@@ -6,6 +6,7 @@ import com.pi.stepup.domain.rank.constant.RankName;
 import com.pi.stepup.domain.rank.domain.PointHistory;
 import com.pi.stepup.domain.rank.domain.PointPolicy;
 import com.pi.stepup.domain.rank.domain.Rank;
+import com.pi.stepup.domain.user.domain.User;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -47,4 +48,60 @@ public class RankResponseDto {
             this.rankName = rank.getName();
         }
     }
+
+    @Getter
+    public static class LeaderboardFindResponseDto {
+
+        private final Long rank;
+        private final String nickname;
+        private final String profileImg;
+        private final Integer point;
+
+        @Builder
+        public LeaderboardFindResponseDto(Long rank, User user, Integer point) {
+            this.rank = rank;
+            this.nickname = user.getNickname();
+            this.profileImg = user.getProfileImg();
+            this.point = point;
+        }
+    }
+
+    @Getter
+    public static class MyLeaderboardFindResponseDto {
+
+        private final Long rank;
+        private final Integer point;
+        private final Long totalCnt;
+
+        @Builder
+        public MyLeaderboardFindResponseDto(Long rank, Integer point, Long totalCnt) {
+            this.rank = rank;
+            this.point = point;
+            this.totalCnt = totalCnt;
+        }
+    }
+
+    @Getter
+    public static class PointAwardQueueFindResponseDto {
+
+        private final Integer depth;
+        private final Integer capacity;
+        private final Long lag;
+        private final Long lastLag;
+        private final Long processedCnt;
+        private final Long rejectedCnt;
+        private final Long droppedCnt;
+
+        @Builder
+        public PointAwardQueueFindResponseDto(Integer depth, Integer capacity, Long lag,
+            Long lastLag, Long processedCnt, Long rejectedCnt, Long droppedCnt) {
+            this.depth = depth;
+            this.capacity = capacity;
+            this.lag = lag;
+            this.lastLag = lastLag;
+            this.processedCnt = processedCnt;
+            this.rejectedCnt = rejectedCnt;
+            this.droppedCnt = droppedCnt;
+        }
+    }
 }
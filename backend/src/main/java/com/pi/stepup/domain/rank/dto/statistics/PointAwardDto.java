@@ -0,0 +1,25 @@
+package com.pi.stepup.domain.rank.dto.statistics;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class PointAwardDto {
+
+    private final String id;
+    private final Long pointPolicyId;
+    private final Long randomDanceId;
+    private final Integer count;
+    private final Integer point;
+    private final LocalDateTime acceptedAt;
+
+    public PointAwardDto(String id, Long pointPolicyId, Long randomDanceId, Integer count,
+        Integer point, LocalDateTime acceptedAt) {
+        this.id = id;
+        this.pointPolicyId = pointPolicyId;
+        this.randomDanceId = randomDanceId;
+        this.count = count;
+        this.point = point;
+        this.acceptedAt = acceptedAt;
+    }
+}
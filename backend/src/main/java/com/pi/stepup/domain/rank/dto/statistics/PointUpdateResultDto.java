@@ -0,0 +1,15 @@
+package com.pi.stepup.domain.rank.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class PointUpdateResultDto {
+
+    private final Integer point;
+    private final boolean rankChanged;
+
+    public PointUpdateResultDto(Integer point, boolean rankChanged) {
+        this.point = point;
+        this.rankChanged = rankChanged;
+    }
+}
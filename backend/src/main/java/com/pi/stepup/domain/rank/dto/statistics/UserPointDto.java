@@ -0,0 +1,17 @@
+package com.pi.stepup.domain.rank.dto.statistics;
+
+import lombok.Getter;
+
+@Getter
+public class UserPointDto {
+
+    private final String id;
+    private final Long countryId;
+    private final Integer point;
+
+    public UserPointDto(String id, Long countryId, Integer point) {
+        this.id = id;
+        this.countryId = countryId;
+        this.point = point;
+    }
+}
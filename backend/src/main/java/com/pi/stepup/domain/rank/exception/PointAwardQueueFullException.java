@@ -0,0 +1,15 @@
+package com.pi.stepup.domain.rank.exception;
+
+import com.pi.stepup.global.error.exception.ServiceUnavailableException;
+
+public class PointAwardQueueFullException extends ServiceUnavailableException {
+
+    public PointAwardQueueFullException() {
+        super();
+    }
+
+    public PointAwardQueueFullException(String message) {
+        super(message);
+    }
+
+}
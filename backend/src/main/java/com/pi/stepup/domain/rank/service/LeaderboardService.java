@@ -0,0 +1,17 @@
+package com.pi.stepup.domain.rank.service;
+
+import com.pi.stepup.domain.rank.dto.RankRequestDto.LeaderboardRequestDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.LeaderboardFindResponseDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.MyLeaderboardFindResponseDto;
+import java.util.List;
+
+public interface LeaderboardService {
+
+    List<LeaderboardFindResponseDto> readTop(LeaderboardRequestDto leaderboardRequestDto);
+
+    List<LeaderboardFindResponseDto> readAround(LeaderboardRequestDto leaderboardRequestDto);
+
+    MyLeaderboardFindResponseDto readMyRank(LeaderboardRequestDto leaderboardRequestDto);
+
+    void rebuild();
+}
@@ -0,0 +1,187 @@
+package com.pi.stepup.domain.rank.service;
+
+import static com.pi.stepup.global.config.security.SecurityUtils.getLoggedInUserId;
+
+import com.pi.stepup.domain.rank.dao.PointJdbcRepository;
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository.Rebuild;
+import com.pi.stepup.domain.rank.dto.RankRequestDto.LeaderboardRequestDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.LeaderboardFindResponseDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.MyLeaderboardFindResponseDto;
+import com.pi.stepup.domain.rank.dto.statistics.UserPointDto;
+import com.pi.stepup.domain.user.dao.UserRepository;
+import com.pi.stepup.domain.user.domain.Country;
+import com.pi.stepup.domain.user.domain.User;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final LeaderboardRedisRepository leaderboardRedisRepository;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final UserRepository userRepository;
+    private final PointRedisService pointRedisService;
+
+    private static final int DEFAULT_TOP_SIZE = 10;
+    private static final int MAX_TOP_SIZE = 100;
+    private static final int DEFAULT_AROUND_SIZE = 5;
+    private static final int MAX_AROUND_SIZE = 50;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    @Override
+    public List<LeaderboardFindResponseDto> readTop(LeaderboardRequestDto leaderboardRequestDto) {
+        Integer size = leaderboardRequestDto.getSize();
+        int limit = size == null || size < 1 ? DEFAULT_TOP_SIZE : Math.min(size, MAX_TOP_SIZE);
+
+        Long countryId = leaderboardRequestDto.getCountryId();
+        return toLeaderboard(countryId, 0,
+            leaderboardRedisRepository.findAll(countryId, 0, limit - 1));
+    }
+
+    /**
+     * 로그인한 사용자 앞뒤로 size 명씩
+     */
+    @Override
+    public List<LeaderboardFindResponseDto> readAround(
+        LeaderboardRequestDto leaderboardRequestDto) {
+        String id = getLoggedInUserId();
+        Integer size = leaderboardRequestDto.getSize();
+        int radius = size == null || size < 1 ? DEFAULT_AROUND_SIZE
+            : Math.min(size, MAX_AROUND_SIZE);
+
+        Long countryId = leaderboardRequestDto.getCountryId();
+        Long position = leaderboardRedisRepository.findPosition(countryId, id);
+        if (position == null) {
+            return new ArrayList<>();
+        }
+
+        long start = Math.max(0, position - radius);
+        return toLeaderboard(countryId, start,
+            leaderboardRedisRepository.findAll(countryId, start, position + radius));
+    }
+
+    @Override
+    public MyLeaderboardFindResponseDto readMyRank(LeaderboardRequestDto leaderboardRequestDto) {
+        String id = getLoggedInUserId();
+        Long countryId = leaderboardRequestDto.getCountryId();
+
+        Double point = leaderboardRedisRepository.findPoint(countryId, id);
+        if (point == null) {
+            return MyLeaderboardFindResponseDto.builder()
+                .point(pointRedisService.getPoint(id))
+                .totalCnt(leaderboardRedisRepository.count(countryId))
+                .build();
+        }
+
+        return MyLeaderboardFindResponseDto.builder()
+            .rank(leaderboardRedisRepository.countHigher(countryId, point) + 1)
+            .point(point.intValue())
+            .totalCnt(leaderboardRedisRepository.count(countryId))
+            .build();
+    }
+
+    /**
+     * USERS 를 한 번 순회하며 리더보드를 새 키에 채운 뒤 교체
+     * 아직 DB에 반영되지 않은 포인트는 Redis 포인트 캐시 값을 사용
+     */
+    @Override
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Rebuild rebuild = leaderboardRedisRepository.startRebuild();
+        List<UserPointDto> userPointList = new ArrayList<>();
+        long[] userCnt = {0};
+
+        pointJdbcRepository.findAllUserPoint(userPoint -> {
+            userPointList.add(userPoint);
+            userCnt[0]++;
+            if (userPointList.size() >= REBUILD_BATCH_SIZE) {
+                rebuild.addAll(applyCachedPoint(userPointList));
+                userPointList.clear();
+            }
+        });
+        rebuild.addAll(applyCachedPoint(userPointList));
+
+        List<Long> countryIds = new ArrayList<>();
+        for (Country country : userRepository.findAllCountries()) {
+            countryIds.add(country.getCountryId());
+        }
+        rebuild.publish(countryIds);
+        log.info("[INFO] 리더보드 재구성 : 사용자 수 = {}, 소요 시간 = {}ms", userCnt[0],
+            System.currentTimeMillis() - startTime);
+    }
+
+    private List<UserPointDto> applyCachedPoint(List<UserPointDto> userPointList) {
+        List<String> idList = new ArrayList<>();
+        for (UserPointDto userPoint : userPointList) {
+            idList.add(userPoint.getId());
+        }
+        Map<String, Integer> cachedPointMap = pointRedisService.getAllCachedPoint(idList);
+
+        List<UserPointDto> result = new ArrayList<>();
+        for (UserPointDto userPoint : userPointList) {
+            Integer point = cachedPointMap.get(userPoint.getId());
+            if (point == null) {
+                point = userPoint.getPoint() == null ? 0 : userPoint.getPoint();
+            }
+            result.add(new UserPointDto(userPoint.getId(), userPoint.getCountryId(), point));
+        }
+        return result;
+    }
+
+    /**
+     * 동점자는 같은 순위 (자신보다 포인트가 높은 사용자 수 + 1)
+     */
+    private List<LeaderboardFindResponseDto> toLeaderboard(Long countryId, long start,
+        Set<TypedTuple<Object>> tuples) {
+        List<LeaderboardFindResponseDto> leaderboard = new ArrayList<>();
+        if (tuples == null || tuples.isEmpty()) {
+            return leaderboard;
+        }
+
+        List<String> idList = new ArrayList<>();
+        for (TypedTuple<Object> tuple : tuples) {
+            idList.add(String.valueOf(tuple.getValue()));
+        }
+        Map<String, User> userMap = new HashMap<>();
+        for (User user : userRepository.findAllByIdList(idList)) {
+            userMap.put(user.getId(), user);
+        }
+
+        long position = start;
+        long rank = 0;
+        Double beforePoint = null;
+        for (TypedTuple<Object> tuple : tuples) {
+            double point = tuple.getScore() == null ? 0 : tuple.getScore();
+            if (beforePoint == null) {
+                rank = start == 0 ? 1
+                    : leaderboardRedisRepository.countHigher(countryId, point) + 1;
+            } else if (point != beforePoint) {
+                rank = position + 1;
+            }
+            beforePoint = point;
+            position++;
+
+            User user = userMap.get(String.valueOf(tuple.getValue()));
+            if (user != null) {
+                leaderboard.add(LeaderboardFindResponseDto.builder()
+                    .rank(rank)
+                    .user(user)
+                    .point((int) point)
+                    .build());
+            }
+        }
+        return leaderboard;
+    }
+}
@@ -1,6 +1,7 @@
 package com.pi.stepup.domain.rank.service;
 
 import com.pi.stepup.domain.rank.dto.RankRequestDto.PointUpdateRequestDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.PointAwardQueueFindResponseDto;
 import com.pi.stepup.domain.rank.dto.RankResponseDto.PointHistoryFindResponseDto;
 import java.util.List;
 
@@ -11,4 +12,6 @@ public interface PointHistoryService {
     List<PointHistoryFindResponseDto> readAll();
 
     Integer readPoint();
+
+    PointAwardQueueFindResponseDto readAwardQueue();
 }
@@ -2,26 +2,21 @@ package com.pi.stepup.domain.rank.service;
 
 import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.DANCE_NOT_FOUND;
 import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.POINT_POLICY_NOT_FOUND;
-import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.RANK_NOT_FOUND;
-import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 import static com.pi.stepup.global.config.security.SecurityUtils.getLoggedInUserId;
 
+import com.pi.stepup.domain.dance.component.DanceScheduleIndex;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
-import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
+import com.pi.stepup.domain.rank.component.PointAwardQueue;
+import com.pi.stepup.domain.rank.component.RankTable;
 import com.pi.stepup.domain.rank.dao.PointHistoryRepository;
-import com.pi.stepup.domain.rank.dao.PointPolicyRepository;
-import com.pi.stepup.domain.rank.dao.RankRepository;
 import com.pi.stepup.domain.rank.domain.PointPolicy;
-import com.pi.stepup.domain.rank.domain.Rank;
 import com.pi.stepup.domain.rank.dto.RankRequestDto.PointUpdateRequestDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.PointAwardQueueFindResponseDto;
 import com.pi.stepup.domain.rank.dto.RankResponseDto.PointHistoryFindResponseDto;
+import com.pi.stepup.domain.rank.dto.statistics.PointAwardDto;
 import com.pi.stepup.domain.rank.exception.PointPolicyNotFoundException;
-import com.pi.stepup.domain.rank.exception.RankNotFoundException;
-import com.pi.stepup.domain.user.dao.UserRepository;
-import com.pi.stepup.domain.user.domain.User;
-import com.pi.stepup.domain.user.exception.UserNotFoundException;
-import com.pi.stepup.domain.user.service.UserService;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -35,46 +30,36 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PointHistoryServiceImpl implements PointHistoryService {
 
-    private final UserRepository userRepository;
-    private final UserService userService;
-    private final PointPolicyRepository pointPolicyRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final DanceRepository danceRepository;
-    private final RankRepository rankRepository;
+    private final RankTable rankTable;
     private final PointRedisService pointRedisService;
+    private final PointAwardQueue pointAwardQueue;
+    private final DanceScheduleIndex danceScheduleIndex;
+    private final DanceRepository danceRepository;
 
+    /**
+     * 캐시된 포인트 정책으로 검증한 뒤 적립 큐에 넣고 바로 응답 (저장과 포인트 반영은 PointAwardQueue)
+     * 랜덤 플레이 댄스는 종료되지 않은 것은 인덱스로 확인하고, 없을 때만 DB 조회
+     */
     @Override
     @Transactional
     public void update(PointUpdateRequestDto pointUpdateRequestDto) {
         String id = getLoggedInUserId();
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-        PointPolicy pointPolicy = pointPolicyRepository.findOne(
+        PointPolicy pointPolicy = rankTable.findPointPolicy(
             pointUpdateRequestDto.getPointPolicyId()).orElseThrow(
             () -> new PointPolicyNotFoundException(POINT_POLICY_NOT_FOUND.getMessage()));
 
-        RandomDance randomDance = null;
-        if (pointUpdateRequestDto.getRandomDanceId() != null) {
-            randomDance = danceRepository.findOne(
-                    pointUpdateRequestDto.getRandomDanceId())
-                .orElseThrow(() -> new DanceBadRequestException(DANCE_NOT_FOUND.getMessage()));
+        Long randomDanceId = pointUpdateRequestDto.getRandomDanceId();
+        if (randomDanceId != null && !danceScheduleIndex.contains(randomDanceId)
+            && danceRepository.findOne(randomDanceId).isEmpty()) {
+            throw new DanceBadRequestException(DANCE_NOT_FOUND.getMessage());
         }
 
         Integer point = pointUpdateRequestDto.getCount() * pointPolicy.getPoint();
 
-//        user.updatePoint(point);
-        pointHistoryRepository.insert(
-            pointUpdateRequestDto.toEntity(user, pointPolicy, randomDance));
-
-        pointRedisService.updatePoint(id, point);
-        updateUserRank(id);
-    }
-
-    public void updateUserRank(String id) {
-        Integer userPoint = userService.readOne().getPoint();
-        Rank rank = rankRepository.findOneByPoint(userPoint)
-            .orElseThrow(() -> new RankNotFoundException(RANK_NOT_FOUND.getMessage()));
-        pointRedisService.updateRank(id, rank.getName());
+        pointAwardQueue.add(new PointAwardDto(id, pointPolicy.getPointPolicyId(),
+            pointUpdateRequestDto.getRandomDanceId(), pointUpdateRequestDto.getCount(), point,
+            LocalDateTime.now()));
     }
 
     @Override
@@ -95,4 +80,9 @@ public class PointHistoryServiceImpl implements PointHistoryService {
         log.info("[INFO] read point 메소드 호출");
         return pointRedisService.getPoint(id);
     }
+
+    @Override
+    public PointAwardQueueFindResponseDto readAwardQueue() {
+        return pointAwardQueue.getStatus();
+    }
 }
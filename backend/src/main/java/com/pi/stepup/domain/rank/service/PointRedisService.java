@@ -1,13 +1,18 @@
 package com.pi.stepup.domain.rank.service;
 
 import com.pi.stepup.domain.rank.constant.RankName;
+import com.pi.stepup.domain.rank.dto.statistics.PointUpdateResultDto;
+import java.util.List;
+import java.util.Map;
 
 public interface PointRedisService {
-    void updatePoint(String id, Integer pointToAdd);
+    PointUpdateResultDto updatePoint(String id, Integer pointToAdd);
 
     void updateRank(String id, RankName rankName);
 
     int getPoint(String id);
 
+    Map<String, Integer> getAllCachedPoint(List<String> idList);
+
     RankName getRankName(String id);
 }
@@ -2,11 +2,19 @@ package com.pi.stepup.domain.rank.service;
 
 import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 
+import com.pi.stepup.domain.rank.component.RankTable;
 import com.pi.stepup.domain.rank.constant.RankName;
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
+import com.pi.stepup.domain.rank.dao.redis.PointRedisRepository;
+import com.pi.stepup.domain.rank.dto.statistics.PointUpdateResultDto;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.domain.user.exception.UserNotFoundException;
 import com.pi.stepup.domain.user.service.UserRedisService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,30 +34,54 @@ public class PointRedisServiceImpl implements PointRedisService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final UserRepository userRepository;
     private final UserRedisService userRedisService;
-
-
+    private final LeaderboardRedisRepository leaderboardRedisRepository;
+    private final PointRedisRepository pointRedisRepository;
+    private final RankTable rankTable;
+
+    /**
+     * 포인트 적립(최대 User.MAX_POINT)과 user_info, 리더보드 갱신을 하나의 스크립트로 처리
+     * 캐시에 포인트가 없으면 DB 포인트로 채워서 다시 실행
+     */
     @Override
-    public void updatePoint(String id, Integer pointToAdd) {
-        String userInfoKey = "user_info:" + id;
-        String pointKey = "user:" + id + ":point";
-        int userPoint;
-
-        if (redisTemplate.hasKey(pointKey) == null || !redisTemplate.hasKey(pointKey)) {
-            User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
-            userPoint = user.getPoint();
+    public PointUpdateResultDto updatePoint(String id, Integer pointToAdd) {
+        Long registeredCountryId = leaderboardRedisRepository.findCountryId(id);
+        User user = null;
+        long countryId;
+        if (registeredCountryId == null) {
+            user = findUser(id);
+            countryId = getCountryId(user);
         } else {
-            userPoint = (int) redisTemplate.opsForValue().get(pointKey);
+            countryId = registeredCountryId;
         }
-        userPoint = userPoint + pointToAdd;
+
+        List<Integer> rankStartPoints = rankTable.getStartPoints();
+        long[] result = pointRedisRepository.addPoint(id, countryId, pointToAdd, User.MAX_POINT,
+            POINT_EXPIRE_IN, rankStartPoints);
+        if (result[0] == PointRedisRepository.POINT_MISS) {
+            if (user == null) {
+                user = findUser(id);
+            }
+            result = pointRedisRepository.addPoint(id, countryId, pointToAdd, User.MAX_POINT,
+                POINT_EXPIRE_IN, user.getPoint(), rankStartPoints);
+        }
+        int userPoint = (int) result[1];
         log.debug("[DEBUG] {} 사용자 포인트 : {}", id, userPoint);
 
-        if (redisTemplate.hasKey(userInfoKey) != null && redisTemplate.hasKey(userInfoKey)) {
-            redisTemplate.opsForHash().put(userInfoKey, "point", userPoint);
+        // 리더보드에 처음 등록하는 사용자는 국가도 함께 등록
+        if (registeredCountryId == null) {
+            leaderboardRedisRepository.updatePoint(id, countryId, userPoint);
         }
+        return new PointUpdateResultDto(userPoint, result[2] == 1);
+    }
 
-        redisTemplate.opsForValue().getAndSet(pointKey, userPoint);
-        redisTemplate.expire(pointKey, POINT_EXPIRE_IN, TimeUnit.MILLISECONDS);
+    private User findUser(String id) {
+        return userRepository.findById(id)
+            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()));
+    }
+
+    private long getCountryId(User user) {
+        return user.getCountry() == null ? LeaderboardRedisRepository.NO_COUNTRY
+            : user.getCountry().getCountryId();
     }
 
     @Override
@@ -58,7 +90,7 @@ public class PointRedisServiceImpl implements PointRedisService {
         String rankKey = "user:" + id + ":rank";
 
         if (redisTemplate.hasKey(userInfoKey) != null && redisTemplate.hasKey(userInfoKey)) {
-            redisTemplate.opsForHash().put(userInfoKey, "rankName", rankName);
+            redisTemplate.opsForHash().put(userInfoKey, "rankName", rankName.name());
         }
         redisTemplate.opsForValue().getAndSet(rankKey, rankName);
         redisTemplate.expire(rankKey, POINT_EXPIRE_IN, TimeUnit.MILLISECONDS);
@@ -84,6 +116,29 @@ public class PointRedisServiceImpl implements PointRedisService {
         return (int) redisTemplate.opsForValue().get(pointKey);
     }
 
+    /**
+     * DB에 아직 반영되지 않은 포인트 캐시 값, 캐시에 없는 사용자는 포함하지 않음
+     */
+    @Override
+    public Map<String, Integer> getAllCachedPoint(List<String> idList) {
+        Map<String, Integer> pointMap = new HashMap<>();
+        if (idList.isEmpty()) {
+            return pointMap;
+        }
+
+        List<String> pointKeys = new ArrayList<>();
+        for (String id : idList) {
+            pointKeys.add("user:" + id + ":point");
+        }
+        List<Object> points = redisTemplate.opsForValue().multiGet(pointKeys);
+        for (int i = 0; points != null && i < idList.size(); i++) {
+            if (points.get(i) != null) {
+                pointMap.put(idList.get(i), Integer.valueOf(String.valueOf(points.get(i))));
+            }
+        }
+        return pointMap;
+    }
+
     @Override
     public RankName getRankName(String id) {
         String userInfoKey = "user_info:" + id;
@@ -5,4 +5,6 @@ import com.pi.stepup.domain.rank.dto.RankResponseDto.UserRankFindResponseDto;
 public interface RankService {
 
     UserRankFindResponseDto readOne();
+
+    long reloadTable();
 }
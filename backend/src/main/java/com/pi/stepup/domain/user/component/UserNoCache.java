@@ -0,0 +1,58 @@
+package com.pi.stepup.domain.user.component;
+
+import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
+
+import com.pi.stepup.domain.user.dao.UserRepository;
+import com.pi.stepup.domain.user.exception.UserNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 아이디(User.id) -> User.userId 캐시
+ * 요청마다 사용자 엔티티를 조회하지 않도록 조회한 값은 EXPIRATION 동안 재사용
+ * 탈퇴한 사용자의 값이 남아 있어도 저장 시 FK 제약으로 걸러짐
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNoCache {
+
+    private static final long EXPIRATION = 600_000;
+    private static final long CLEAN_UP_TIME = 600_000;
+
+    private final UserRepository userRepository;
+
+    private final Map<String, CachedUserNo> userNoMap = new ConcurrentHashMap<>();
+
+    public Long getUserNo(String id) {
+        CachedUserNo cached = userNoMap.get(id);
+        if (cached != null && cached.expiredAt >= System.currentTimeMillis()) {
+            return cached.userNo;
+        }
+
+        Long userNo = userRepository.findById(id)
+            .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND.getMessage()))
+            .getUserId();
+        userNoMap.put(id, new CachedUserNo(userNo, System.currentTimeMillis() + EXPIRATION));
+        return userNo;
+    }
+
+    @Scheduled(fixedDelay = CLEAN_UP_TIME)
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        userNoMap.values().removeIf(cached -> cached.expiredAt < now);
+    }
+
+    private static class CachedUserNo {
+
+        private final Long userNo;
+        private final long expiredAt;
+
+        private CachedUserNo(Long userNo, long expiredAt) {
+            this.userNo = userNo;
+            this.expiredAt = expiredAt;
+        }
+    }
+}
@@ -21,6 +21,10 @@ public interface UserRepository {
 
     Optional<User> findById(String id);
 
+    List<User> findAllByIdList(List<String> idList);
+
+    List<String> findAllIdByUserIdList(List<Long> userIdList);
+
     User insert(User user);
 
     void delete(User user);
@@ -4,6 +4,7 @@ import com.pi.stepup.domain.user.domain.Country;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.domain.user.dto.statistics.UserCountryStatisticsDto;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.persistence.EntityManager;
@@ -94,6 +95,34 @@ public class UserRepositoryImpl implements UserRepository {
         }
     }
 
+    @Override
+    public List<User> findAllByIdList(List<String> idList) {
+        if (idList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT u FROM User u "
+                    + "WHERE u.id IN :idList", User.class
+            )
+            .setParameter("idList", idList)
+            .getResultList();
+    }
+
+    @Override
+    public List<String> findAllIdByUserIdList(List<Long> userIdList) {
+        if (userIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return em.createQuery(
+                "SELECT u.id FROM User u "
+                    + "WHERE u.userId IN :userIdList", String.class
+            )
+            .setParameter("userIdList", userIdList)
+            .getResultList();
+    }
+
     @Override
     public User insert(User user) {
         em.persist(user);
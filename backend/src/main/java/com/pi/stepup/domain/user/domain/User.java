@@ -29,6 +29,8 @@ import org.springframework.util.StringUtils;
 @ToString
 public class User extends BaseEntity {
 
+    public static final int MAX_POINT = 5000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userId;
@@ -104,8 +106,8 @@ public class User extends BaseEntity {
 
     public void updatePoint(Integer point) {
         int updatedPoint = this.point + point;
-        if (updatedPoint >= 5000) {
-            this.point = 5000;
+        if (updatedPoint >= MAX_POINT) {
+            this.point = MAX_POINT;
         } else {
             this.point = updatedPoint;
         }
@@ -11,9 +11,10 @@ import com.pi.stepup.domain.board.dao.board.BoardRepository;
 import com.pi.stepup.domain.board.dao.comment.CommentRepository;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
 import com.pi.stepup.domain.music.dao.MusicApplyRepository;
+import com.pi.stepup.domain.rank.component.RankTable;
 import com.pi.stepup.domain.rank.constant.RankName;
 import com.pi.stepup.domain.rank.dao.PointHistoryRepository;
-import com.pi.stepup.domain.rank.dao.RankRepository;
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
 import com.pi.stepup.domain.rank.domain.Rank;
 import com.pi.stepup.domain.rank.exception.RankNotFoundException;
 import com.pi.stepup.domain.user.constant.EmailGuideContent;
@@ -66,7 +67,7 @@ import org.springframework.util.StringUtils;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final RankRepository rankRepository;
+    private final RankTable rankTable;
     private final UserRedisService userRedisService;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
@@ -78,6 +79,7 @@ public class UserServiceImpl implements UserService {
     private final CommentRepository commentRepository;
     private final DanceRepository danceRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final LeaderboardRedisRepository leaderboardRedisRepository;
 
 
     @Override
@@ -156,7 +158,7 @@ public class UserServiceImpl implements UserService {
             passwordEncoder.encode(signUpRequestDto.getPassword()),
             userRepository.findOneCountry(signUpRequestDto.getCountryId()));
 
-        Rank bronzeRank = rankRepository.getRankByName(RankName.BRONZE)
+        Rank bronzeRank = rankTable.getRankByName(RankName.BRONZE)
             .orElseThrow(() -> new RankNotFoundException(RANK_NOT_FOUND.getMessage()));
 
         user.setRank(bronzeRank);
@@ -165,6 +167,8 @@ public class UserServiceImpl implements UserService {
         userRedisService.saveUserInfo(user);
 
         userRepository.insert(user);
+        leaderboardRedisRepository.updatePoint(user.getId(), user.getCountry() == null
+            ? LeaderboardRedisRepository.NO_COUNTRY : user.getCountry().getCountryId(), 0);
 
         TokenInfo tokenInfo = setFirstAuthentication(signUpRequestDto.getId(),
             signUpRequestDto.getPassword());
@@ -201,6 +205,7 @@ public class UserServiceImpl implements UserService {
 
         userRedisService.deleteRefreshToken(user.getId());
         userRedisService.deleteUserInfo(user);
+        leaderboardRedisRepository.delete(user.getId());
 
         musicApplyRepository.deleteAllHeartsByUserId(user.getUserId());
         musicApplyRepository.findAllByUserId(user.getUserId())
@@ -245,6 +250,9 @@ public class UserServiceImpl implements UserService {
 
         user.updateUserBasicInfo(updateUserRequestDto, country);
         userRedisService.saveUserInfo(user);
+        if (country != null) {
+            leaderboardRedisRepository.updateCountry(user.getId(), country.getCountryId());
+        }
     }
 
     @Override
@@ -12,10 +12,12 @@ public final class Constants {
         = new String[]{
         "/api/user/country",
         "/api/dance/playlist/\\d+",
-        "/api/dance\\?([^&]+)&?([^&]*)$",
+        "/api/dance\\?([^&]+)(&[^&]+)*$",
         "/api/board/[A-Za-z]+(\\?([^&]*))?$",
         "/api/board/notice/\\d+",
-        "/api/music/apply(\\?([^&]*))?$"
+        "/api/music/apply(\\?([^&]+)(&[^&]+)*)?$",
+        "/api/music/apply/trending(\\?([^&]*))?$",
+        "/api/rank/leaderboard(\\?([^&]+)(&[^&]+)*)?$"
     };
 
     //POST, PUT, DELETE
@@ -23,6 +25,9 @@ public final class Constants {
         = new String[]{
         "/api/user/statistics/country",
         "/api/music(\\/\\d+)?$",
-        "/api/board/notice(\\/\\d+)?$"
+        "/api/board/notice(\\/\\d+)?$",
+        "/api/rank/leaderboard/rebuild",
+        "/api/rank/table/reload",
+        "/api/rank/point/queue"
     };
 }
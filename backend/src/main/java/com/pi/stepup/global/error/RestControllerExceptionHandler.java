@@ -6,6 +6,7 @@ import com.pi.stepup.global.dto.ResponseDto;
 import com.pi.stepup.global.error.exception.DuplicatedException;
 import com.pi.stepup.global.error.exception.ForbiddenException;
 import com.pi.stepup.global.error.exception.NotFoundException;
+import com.pi.stepup.global.error.exception.ServiceUnavailableException;
 import com.pi.stepup.global.error.exception.TokenException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,4 +48,12 @@ public class RestControllerExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ResponseDto<String>> handleServiceUnavailableException(
+        ServiceUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+            ResponseDto.create(exception.getMessage())
+        );
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.pi.stepup.global.error.exception;
+
+public class ServiceUnavailableException extends IllegalStateException {
+
+    public ServiceUnavailableException() {
+        super("일시적으로 처리할 수 없음");
+    }
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -8,6 +8,7 @@ import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceCreateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceSearchRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceUpdateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceFindResponseDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchPageResponseDto;
 import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchResponseDto;
 import com.pi.stepup.domain.dance.service.DanceRedisService;
 import com.pi.stepup.domain.dance.service.DanceService;
@@ -279,7 +280,8 @@ public class DanceApiTest {
     @DisplayName("참여 가능한 랜덤 플레이 댄스 목록 조회 테스트")
     @WithMockUser
     public void readAllDanceApiTest() throws Exception {
-        when(danceRedisService.readAllRandomDance(any(DanceSearchRequestDto.class))).thenReturn(allDance);
+        when(danceRedisService.readAllRandomDance(any(DanceSearchRequestDto.class)))
+                .thenReturn(DanceSearchPageResponseDto.builder().content(allDance).build());
 
         makeDanceAllSearchRequestDto();
         mockMvc.perform(
@@ -292,6 +294,29 @@ public class DanceApiTest {
                 .andExpect(jsonPath("data").isArray());
     }
 
+    @Test
+    @DisplayName("참여 가능한 랜덤 플레이 댄스 목록 페이지 조회 테스트")
+    @WithMockUser
+    public void readAllDancePageApiTest() throws Exception {
+        when(danceRedisService.readAllRandomDance(any(DanceSearchRequestDto.class)))
+                .thenReturn(DanceSearchPageResponseDto.builder()
+                        .content(allDance)
+                        .nextCursor("cursor")
+                        .hasNext(true)
+                        .build());
+
+        mockMvc.perform(
+                        get(SELECT_ALL_RANDOM_DANCE_URL.getUrl() + "&size=10")
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("message")
+                        .value(SELECT_ALL_RANDOM_DANCE.getMessage()))
+                .andExpect(jsonPath("data.content").isArray())
+                .andExpect(jsonPath("data.nextCursor").value("cursor"))
+                .andExpect(jsonPath("data.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("랜덤 플레이 댄스 예약 테스트")
     @WithMockUser
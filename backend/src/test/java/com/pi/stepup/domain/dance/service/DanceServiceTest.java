@@ -1,15 +1,27 @@
 package com.pi.stepup.domain.dance.service;
 
+import com.pi.stepup.domain.dance.component.AttendWriteQueue;
+import com.pi.stepup.domain.dance.component.DancePlaylistCache;
+import com.pi.stepup.domain.dance.component.DanceScheduleIndex;
+import com.pi.stepup.domain.dance.component.PlaylistGenerator;
 import com.pi.stepup.domain.dance.constant.DanceType;
 import com.pi.stepup.domain.dance.constant.ProgressType;
+import com.pi.stepup.domain.dance.dao.DanceJdbcRepository;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
+import com.pi.stepup.domain.dance.dao.redis.AttendRedisRepository;
+import com.pi.stepup.domain.dance.dao.redis.DancePopularityRedisRepository;
+import com.pi.stepup.domain.dance.dao.redis.ReservationRedisRepository;
 import com.pi.stepup.domain.dance.domain.AttendHistory;
 import com.pi.stepup.domain.dance.domain.DanceMusic;
 import com.pi.stepup.domain.dance.domain.RandomDance;
 import com.pi.stepup.domain.dance.domain.Reservation;
+import com.pi.stepup.domain.dance.dto.DanceCursor;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceCreateRequestDto;
+import com.pi.stepup.domain.dance.dto.DanceRequestDto.DancePlaylistGenerateRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceSearchRequestDto;
 import com.pi.stepup.domain.dance.dto.DanceRequestDto.DanceUpdateRequestDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchPageResponseDto;
+import com.pi.stepup.domain.dance.dto.DanceResponseDto.DanceSearchResponseDto;
 import com.pi.stepup.domain.dance.exception.AttendDuplicatedException;
 import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
 import com.pi.stepup.domain.dance.exception.DanceForbiddenException;
@@ -18,6 +30,7 @@ import com.pi.stepup.domain.music.dao.MusicAnswerRepository;
 import com.pi.stepup.domain.music.dao.MusicRepository;
 import com.pi.stepup.domain.music.domain.Music;
 import com.pi.stepup.domain.music.domain.MusicAnswer;
+import com.pi.stepup.domain.user.component.UserNoCache;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.global.config.security.SecurityUtils;
@@ -28,21 +41,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static com.pi.stepup.domain.dance.constant.DanceExceptionMessage.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 
@@ -64,6 +85,33 @@ class DanceServiceTest {
     @Mock
     private DanceRepository danceRepository;
 
+    @Mock
+    private DanceJdbcRepository danceJdbcRepository;
+
+    @Mock
+    private DancePopularityRedisRepository dancePopularityRedisRepository;
+
+    @Mock
+    private ReservationRedisRepository reservationRedisRepository;
+
+    @Mock
+    private DanceScheduleIndex danceScheduleIndex;
+
+    @Mock
+    private AttendRedisRepository attendRedisRepository;
+
+    @Mock
+    private AttendWriteQueue attendWriteQueue;
+
+    @Mock
+    private UserNoCache userNoCache;
+
+    @Spy
+    private DancePlaylistCache dancePlaylistCache = new DancePlaylistCache();
+
+    @Mock
+    private PlaylistGenerator playlistGenerator;
+
     @Mock
     UserRepository userRepository;
 
@@ -283,6 +331,10 @@ class DanceServiceTest {
                 .build();
     }
 
+    public DanceCursor makeCursor(RandomDance randomDance, double score) {
+        return new DanceCursor(score, randomDance.getStartAt(), randomDance.getRandomDanceId());
+    }
+
     public void makeDanceAllSearchRequestDto() {
         danceSearchRequestDto
                 = DanceSearchRequestDto.builder()
@@ -323,6 +375,40 @@ class DanceServiceTest {
                 .hasMessageContaining(DANCE_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("랜덤 플레이 댄스 노래 목록 생성 테스트 - 최근 사용한 노래 전달")
+    public void generatePlaylistTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(host.getId());
+
+            List<Long> recentMusicIdList = List.of(1L, 2L);
+            when(danceRepository.findAllRecentDanceMusicId(eq(host.getId()),
+                    any(LocalDateTime.class))).thenReturn(recentMusicIdList);
+
+            danceService.generatePlaylist(DancePlaylistGenerateRequestDto.builder()
+                    .size(20).maxPlaytime(1800).build());
+
+            verify(playlistGenerator, times(1))
+                    .generate(20, 1800, 2, recentMusicIdList);
+        }
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 노래 목록 생성 예외 테스트 - 유효하지 않은 노래 개수")
+    public void generatePlaylistExceptionSizeTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(host.getId());
+
+            assertThatThrownBy(() -> danceService.generatePlaylist(
+                    DancePlaylistGenerateRequestDto.builder().size(51).build()))
+                    .isInstanceOf(DanceBadRequestException.class)
+                    .hasMessageContaining(DANCE_INVALID_MUSIC.getMessage());
+            verify(playlistGenerator, times(0)).generate(anyInt(), any(), anyInt(), any());
+        }
+    }
+
     @Test
     @DisplayName("랜덤 플레이 댄스 개최 테스트")
     public void createDanceTest() {
@@ -334,12 +420,16 @@ class DanceServiceTest {
                     .thenReturn(Optional.of(host));
 
             when(danceRepository.insert(any(RandomDance.class))).thenReturn(randomDance);
-            when(musicRepository.findOne(any(Long.class))).thenReturn(Optional.of(music));
+            when(musicRepository.findAllByIdList(any())).thenReturn(List.of(music, music2));
 
             makeDanceCreateRequestDto();
             assertThatNoException().isThrownBy(() -> danceService.create(danceCreateRequestDto));
 
             verify(danceRepository, times(1)).insert(any(RandomDance.class));
+            verify(musicRepository, times(1)).findAllByIdList(any());
+            verify(musicRepository, times(0)).findOne(any(Long.class));
+            verify(danceJdbcRepository, times(1))
+                    .batchInsertDanceMusic(any(), eq(danceMusicIdList));
         }
     }
 
@@ -430,9 +520,16 @@ class DanceServiceTest {
                     .thenReturn(Optional.of(host));
 
             when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
+            when(reservationRedisRepository.findAllReservers(pk))
+                    .thenReturn(new HashSet<>(List.of(user.getId())));
+            when(danceRepository.findAllReserverIdByRandomDanceId(pk))
+                    .thenReturn(List.of(user2.getId()));
             assertThatNoException().isThrownBy(() -> danceService.delete(pk));
 
             verify(danceRepository, times(1)).delete(pk);
+            verify(redisTemplate, times(0)).keys(any(String.class));
+            verify(reservationRedisRepository, times(1))
+                    .removeAllReservation(pk, Set.of(user.getId(), user2.getId()));
         }
     }
 
@@ -459,15 +556,16 @@ class DanceServiceTest {
     @Test
     @DisplayName("랜덤 플레이 댄스 노래 목록 테스트")
     public void readAllDanceMusicTest() {
-        when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
         when(danceRepository.findAllDanceMusic(any())).thenReturn(danceMusicList);
-        when(musicRepository.findOne(any(Long.class))).thenReturn(Optional.of(music));
-        when(musicAnswerRepository.findById(any())).thenReturn(
-                Optional.of(MusicAnswer.builder().build()));
+        when(musicAnswerRepository.findAllById(any())).thenReturn(
+                List.of(MusicAnswer.builder().build()));
 
         assertThatNoException().isThrownBy(() -> danceService.readAllDanceMusic(pk));
+        assertThatNoException().isThrownBy(() -> danceService.readAllDanceMusic(pk));
 
         verify(danceRepository, times(1)).findAllDanceMusic(pk);
+        verify(musicAnswerRepository, times(1)).findAllById(any());
+        verify(musicRepository, times(0)).findOne(any(Long.class));
     }
 
     @Test
@@ -491,13 +589,28 @@ class DanceServiceTest {
     @Test
     @DisplayName("모든 랜덤 플레이 댄스 목록 테스트 - ALL")
     public void readAllDanceTest() {
-        when(danceRepository.findAllDance(any(String.class))).thenReturn(randomDanceList);
+        List<TypedTuple<Object>> popularityList = List.of(
+                new DefaultTypedTuple<>(pk2, 2.0), new DefaultTypedTuple<>(pk, 1.0));
+
+        when(dancePopularityRedisRepository.isBuilt()).thenReturn(true);
+        when(dancePopularityRedisRepository.findAllByMaxScore(Double.POSITIVE_INFINITY, 0, 500))
+                .thenReturn(popularityList);
+        when(danceScheduleIndex.findAllDance(any(String.class), any(LocalDateTime.class),
+                eq(2.0), eq(List.of(pk2)), eq(null)))
+                .thenReturn(List.of(makeCursor(randomDance2, 2.0)));
+        when(danceScheduleIndex.findAllDance(any(String.class), any(LocalDateTime.class),
+                eq(1.0), eq(List.of(pk)), eq(null)))
+                .thenReturn(List.of(makeCursor(randomDance, 1.0)));
+        when(danceRepository.findAllByRandomDanceIdList(List.of(pk2, pk))).thenReturn(randomDanceList);
 
         makeDanceAllSearchRequestDto();
-        assertThatNoException().isThrownBy
-                (() -> danceRedisService.readAllRandomDance(danceSearchRequestDto));
+        DanceSearchPageResponseDto page
+                = danceRedisService.readAllRandomDance(danceSearchRequestDto);
 
-        verify(danceRepository, times(1)).findAllDance(danceSearchRequestDto.getKeyword());
+        assertThat(page.getContent().get(0).getRandomDanceId()).isEqualTo(pk2);
+        assertThat(page.isHasNext()).isFalse();
+        verify(dancePopularityRedisRepository, times(0)).rebuild(any());
+        verify(danceRepository, times(0)).findAllDance(danceSearchRequestDto.getKeyword());
         verify(danceRepository, times(0)).findScheduledDance(danceSearchRequestDto.getKeyword());
         verify(danceRepository, times(0)).findInProgressDance(danceSearchRequestDto.getKeyword());
     }
@@ -505,29 +618,103 @@ class DanceServiceTest {
     @Test
     @DisplayName("모든 랜덤 플레이 댄스 목록 테스트 - SCHEDULED")
     public void readScheduledDanceTest() {
-        when(danceRepository.findScheduledDance((any(String.class)))).thenReturn(randomDanceList);
+        when(danceScheduleIndex.findScheduledDance(any(String.class), any(LocalDateTime.class),
+                eq(null), eq(Integer.MAX_VALUE)))
+                .thenReturn(List.of(makeCursor(randomDance, 0), makeCursor(randomDance2, 0)));
+        when(danceRepository.findAllByRandomDanceIdList(List.of(pk, pk2))).thenReturn(randomDanceList);
 
         makeDanceScheduledSearchRequestDto();
         assertThatNoException().isThrownBy
                 (() -> danceRedisService.readAllRandomDance(danceSearchRequestDto));
 
         verify(danceRepository, times(0)).findAllDance(danceSearchRequestDto.getKeyword());
-        verify(danceRepository, times(1)).findScheduledDance(danceSearchRequestDto.getKeyword());
-        verify(danceRepository, times(0)).findInProgressDance(danceSearchRequestDto.getKeyword());
+        verify(danceRepository, times(0)).findScheduledDance(danceSearchRequestDto.getKeyword());
+        verify(danceScheduleIndex, times(0)).findInProgressDance(any(String.class),
+                any(LocalDateTime.class), any(), any(Integer.class));
     }
 
     @Test
     @DisplayName("모든 랜덤 플레이 댄스 목록 테스트 - IN_PROGRESS")
     public void readInProgressDanceTest() {
-        when(danceRepository.findInProgressDance((any(String.class)))).thenReturn(randomDanceList);
+        when(danceScheduleIndex.findInProgressDance(any(String.class), any(LocalDateTime.class),
+                eq(null), eq(Integer.MAX_VALUE)))
+                .thenReturn(List.of(makeCursor(randomDance2, 0), makeCursor(randomDance, 0)));
+        when(danceRepository.findAllByRandomDanceIdList(List.of(pk2, pk))).thenReturn(randomDanceList);
 
         makeDanceInProgressSearchRequestDto();
-        assertThatNoException().isThrownBy
-                (() -> danceRedisService.readAllRandomDance(danceSearchRequestDto));
+        DanceSearchPageResponseDto page
+                = danceRedisService.readAllRandomDance(danceSearchRequestDto);
 
+        assertThat(page.getContent().get(0).getRandomDanceId()).isEqualTo(pk2);
         verify(danceRepository, times(0)).findAllDance(danceSearchRequestDto.getKeyword());
-        verify(danceRepository, times(0)).findScheduledDance(danceSearchRequestDto.getKeyword());
-        verify(danceRepository, times(1)).findInProgressDance(danceSearchRequestDto.getKeyword());
+        verify(danceRepository, times(0)).findInProgressDance(danceSearchRequestDto.getKeyword());
+        verify(danceScheduleIndex, times(0)).findScheduledDance(any(String.class),
+                any(LocalDateTime.class), any(), any(Integer.class));
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 목록 페이지 조회 테스트 - 다음 페이지 커서")
+    public void readScheduledDancePageTest() {
+        when(danceScheduleIndex.findScheduledDance(any(String.class), any(LocalDateTime.class),
+                eq(null), eq(2)))
+                .thenReturn(List.of(makeCursor(randomDance, 0), makeCursor(randomDance2, 0)));
+        when(danceRepository.findAllByRandomDanceIdList(List.of(pk))).thenReturn(List.of(randomDance));
+
+        makeDanceScheduledSearchRequestDto();
+        danceSearchRequestDto.setSize(1);
+        DanceSearchPageResponseDto page
+                = danceRedisService.readAllRandomDance(danceSearchRequestDto);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        DanceCursor cursor = DanceCursor.decode(page.getNextCursor());
+        assertThat(cursor.getRandomDanceId()).isEqualTo(pk);
+        assertThat(cursor.getStartAt()).isEqualTo(randomDance.getStartAt());
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 목록 페이지 조회 예외 테스트 - 잘못된 커서")
+    public void readDancePageInvalidCursorExceptionTest() {
+        makeDanceScheduledSearchRequestDto();
+        danceSearchRequestDto.setCursor("invalid");
+
+        assertThatThrownBy(()
+                -> danceRedisService.readAllRandomDance(danceSearchRequestDto))
+                .isInstanceOf(DanceBadRequestException.class)
+                .hasMessageContaining(DANCE_INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("로그인 사용자 랜덤 플레이 댄스 목록 예약 여부 일괄 조회 테스트 - 레디스 미스")
+    public void readScheduledDanceWithReservationTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(user.getId());
+
+            when(this.userRepository.findById(user.getId()))
+                    .thenReturn(Optional.of(user));
+            when(danceScheduleIndex.findScheduledDance(any(String.class), any(LocalDateTime.class),
+                    eq(null), eq(Integer.MAX_VALUE)))
+                    .thenReturn(List.of(makeCursor(randomDance, 0), makeCursor(randomDance2, 0)));
+            when(danceRepository.findAllByRandomDanceIdList(List.of(pk, pk2)))
+                    .thenReturn(randomDanceList);
+
+            String id = "reservation:" + user.getId();
+            when(redisTemplate.hasKey(id)).thenReturn(false);
+            when(danceRepository.findAllReservedRandomDanceId(user.getUserId()))
+                    .thenReturn(List.of(pk, pk3));
+
+            makeDanceScheduledSearchRequestDto();
+            List<DanceSearchResponseDto> allDance
+                    = danceRedisService.readAllRandomDance(danceSearchRequestDto).getContent();
+
+            assertThat(allDance.get(0).getReserveStatus()).isEqualTo(1);
+            assertThat(allDance.get(1).getReserveStatus()).isEqualTo(0);
+            verify(danceRepository, times(1)).findAllReservedRandomDanceId(user.getUserId());
+            verify(danceRepository, times(0))
+                    .findReservationByRandomDanceIdAndUserId(any(Long.class), any(Long.class));
+            verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        }
     }
 
     @Test
@@ -542,14 +729,73 @@ class DanceServiceTest {
 
             when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
 
-            when(redisTemplate.opsForSet()).thenReturn(setOperations);
-            String id = "reservation:" + user.getId();
-            makeReservation(id);
-            when(redisTemplate.hasKey(id)).thenReturn(true);
+            when(reservationRedisRepository.existsReservers(pk)).thenReturn(true);
+            when(reservationRedisRepository.reserve(eq(user.getId()), eq(pk),
+                    eq(randomDance.getMaxUser()), any()))
+                    .thenReturn(ReservationRedisRepository.RESERVATION_SUCCESS);
 
             assertThatNoException().isThrownBy(() -> danceRedisService.createReservation(pk));
 
             verify(danceRepository, times(0)).insertReservation(any(Reservation.class));
+            verify(reservationRedisRepository, times(1)).markDirty(user.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 예약 예외 테스트 - 최대 인원 초과 - 레디스")
+    public void createReservationFullExceptionTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(user.getId());
+
+            when(this.userRepository.findById(user.getId()))
+                    .thenReturn(Optional.of(user));
+
+            when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
+
+            when(reservationRedisRepository.existsReservers(pk)).thenReturn(false);
+            when(danceRepository.findAllReserverIdByRandomDanceId(pk))
+                    .thenReturn(List.of(user2.getId()));
+            when(reservationRedisRepository.findAllUnsyncedReservers(pk))
+                    .thenReturn(List.of("unsynced"));
+            when(reservationRedisRepository.reserve(eq(user.getId()), eq(pk),
+                    eq(randomDance.getMaxUser()), any()))
+                    .thenReturn(ReservationRedisRepository.RESERVATION_FULL);
+
+            assertThatThrownBy(()
+                    -> danceRedisService.createReservation(pk))
+                    .isInstanceOf(ReservationDuplicatedException.class)
+                    .hasMessageContaining(RESERVATION_FULL.getMessage());
+
+            verify(reservationRedisRepository, times(1)).addAllReservers(eq(pk),
+                    argThat(reservers -> reservers.size() == 2
+                            && reservers.containsAll(List.of(user2.getId(), "unsynced"))),
+                    any());
+            verify(reservationRedisRepository, times(0)).markDirty(any(String.class));
+        }
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 예약 예외 테스트 - 예약 중복 - 레디스")
+    public void createReservationRedisDupExceptionTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(user.getId());
+
+            when(this.userRepository.findById(user.getId()))
+                    .thenReturn(Optional.of(user));
+
+            when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
+
+            when(reservationRedisRepository.existsReservers(pk)).thenReturn(true);
+            when(reservationRedisRepository.reserve(eq(user.getId()), eq(pk),
+                    eq(randomDance.getMaxUser()), any()))
+                    .thenReturn(ReservationRedisRepository.RESERVATION_DUPLICATED);
+
+            assertThatThrownBy(()
+                    -> danceRedisService.createReservation(pk))
+                    .isInstanceOf(ReservationDuplicatedException.class)
+                    .hasMessageContaining(RESERVATION_DUPLICATED.getMessage());
         }
     }
 
@@ -673,16 +919,16 @@ class DanceServiceTest {
             securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
                     .thenReturn(user.getId());
 
-            when(this.userRepository.findById(user.getId()))
-                    .thenReturn(Optional.of(user));
+            when(userNoCache.getUserNo(user.getId())).thenReturn(user.getUserId());
 
-            when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
-            makeAttend();
-            when(danceRepository.insertAttend(any(AttendHistory.class))).thenReturn(attend);
+            when(danceScheduleIndex.contains(pk)).thenReturn(true);
+            when(attendRedisRepository.attend(pk, user.getUserId())).thenReturn(true);
 
             assertThatNoException().isThrownBy(() -> danceService.createAttend(pk));
 
-            verify(danceRepository, times(1)).insertAttend(any(AttendHistory.class));
+            verify(danceRepository, times(0)).findOne(any(Long.class));
+            verify(attendWriteQueue, times(1)).add(any(AttendHistory.class));
+            verify(dancePopularityRedisRepository, times(1)).increaseAttend(pk);
         }
     }
 
@@ -693,22 +939,62 @@ class DanceServiceTest {
             securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
                     .thenReturn(user.getId());
 
-            when(this.userRepository.findById(user.getId()))
-                    .thenReturn(Optional.of(user));
-
-            when(danceRepository.findOne(any(Long.class))).thenReturn(Optional.of(randomDance));
+            when(userNoCache.getUserNo(user.getId())).thenReturn(user.getUserId());
 
-            makeAttend();
-            when(danceRepository.findAttendByRandomDanceIdAndUserId
-                    (any(Long.class), any(Long.class))).thenReturn(Optional.of(attend));
-            makeAttend();
+            when(danceScheduleIndex.contains(pk)).thenReturn(false);
+            when(danceRepository.findOne(pk)).thenReturn(Optional.of(randomDance));
+            when(attendRedisRepository.attend(pk, user.getUserId())).thenReturn(false);
 
             assertThatThrownBy(()
                     -> danceService.createAttend(pk))
                     .isInstanceOf(AttendDuplicatedException.class)
                     .hasMessageContaining(ATTEND_DUPLICATED.getMessage());
 
-            verify(danceRepository, times(0)).insertAttend(any(AttendHistory.class));
+            verify(attendWriteQueue, times(0)).add(any(AttendHistory.class));
+            verify(dancePopularityRedisRepository, times(0)).increaseAttend(pk);
+        }
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 참여 예외 테스트 - 접수 실패 시 중복 확인 키 삭제")
+    public void createAttendQueueFailTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(user.getId());
+
+            when(userNoCache.getUserNo(user.getId())).thenReturn(user.getUserId());
+
+            when(danceScheduleIndex.contains(pk)).thenReturn(true);
+            when(attendRedisRepository.attend(pk, user.getUserId())).thenReturn(true);
+            doThrow(new RuntimeException("db")).when(attendWriteQueue)
+                    .add(any(AttendHistory.class));
+
+            assertThatThrownBy(() -> danceService.createAttend(pk))
+                    .isInstanceOf(RuntimeException.class);
+
+            verify(attendRedisRepository, times(1)).cancel(pk, user.getUserId());
+            verify(dancePopularityRedisRepository, times(0)).increaseAttend(pk);
+        }
+    }
+
+    @Test
+    @DisplayName("랜덤 플레이 댄스 참여 예외 테스트 - 존재하지 않는 랜덤 플레이 댄스")
+    public void createAttendNotFoundExceptionTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMocked = mockStatic(SecurityUtils.class)) {
+            securityUtilsMocked.when(SecurityUtils::getLoggedInUserId)
+                    .thenReturn(user.getId());
+
+            when(userNoCache.getUserNo(user.getId())).thenReturn(user.getUserId());
+
+            when(danceScheduleIndex.contains(pk)).thenReturn(false);
+            when(danceRepository.findOne(pk)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(()
+                    -> danceService.createAttend(pk))
+                    .isInstanceOf(DanceBadRequestException.class)
+                    .hasMessageContaining(DANCE_NOT_FOUND.getMessage());
+
+            verify(attendRedisRepository, times(0)).attend(any(Long.class), any(Long.class));
         }
     }
 
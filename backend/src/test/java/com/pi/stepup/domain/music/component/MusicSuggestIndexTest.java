@@ -0,0 +1,74 @@
+package com.pi.stepup.domain.music.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pi.stepup.domain.music.domain.Music;
+import com.pi.stepup.domain.music.domain.MusicAnswer;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicFindResponseDto;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MusicSuggestIndexTest {
+
+    private MusicSuggestIndex musicSuggestIndex;
+
+    @BeforeEach
+    public void init() {
+        musicSuggestIndex = MusicSuggestIndex.of(List.of(
+            makeMusic(1L, "좋은 날", "아이유"),
+            makeMusic(2L, "Dynamite", "BTS"),
+            makeMusic(3L, "좋니", "윤종신"),
+            makeMusic(4L, "Café Latte", "아이브")
+        ));
+    }
+
+    @Test
+    @DisplayName("제목 접두어 자동완성 테스트")
+    public void suggestTitlePrefixTest() {
+        assertThat(toIdList(musicSuggestIndex.suggest("좋", 10))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("초성 및 초성/음절 혼합 자동완성 테스트")
+    public void suggestChosungTest() {
+        assertThat(toIdList(musicSuggestIndex.suggest("ㅈㅇ", 10))).containsExactly(1L);
+        assertThat(toIdList(musicSuggestIndex.suggest("아이ㅂ", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("대소문자, 악센트, 공백 무시 및 단어 시작 자동완성 테스트")
+    public void suggestNormalizedTest() {
+        assertThat(toIdList(musicSuggestIndex.suggest("cafe l", 10))).containsExactly(4L);
+        assertThat(toIdList(musicSuggestIndex.suggest("LAT", 10))).containsExactly(4L);
+        assertThat(toIdList(musicSuggestIndex.suggest("날", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("노래 수정/삭제 반영 테스트")
+    public void suggestAfterUpdateTest() {
+        MusicSuggestIndex updated = musicSuggestIndex
+            .with(makeMusic(2L, "Butter", "BTS"))
+            .without(3L);
+
+        assertThat(toIdList(updated.suggest("dy", 10))).isEmpty();
+        assertThat(toIdList(updated.suggest("butt", 10))).containsExactly(2L);
+        assertThat(toIdList(updated.suggest("좋", 10))).containsExactly(1L);
+        assertThat(toIdList(musicSuggestIndex.suggest("dy", 10))).containsExactly(2L);
+    }
+
+    private List<Long> toIdList(List<MusicFindResponseDto> musicList) {
+        return musicList.stream()
+            .map(MusicFindResponseDto::getMusicId)
+            .collect(Collectors.toList());
+    }
+
+    private MusicFindResponseDto makeMusic(Long musicId, String title, String artist) {
+        return MusicFindResponseDto.builder()
+            .music(Music.builder().musicId(musicId).title(title).artist(artist).build())
+            .musicAnswer(MusicAnswer.builder().build())
+            .build();
+    }
+}
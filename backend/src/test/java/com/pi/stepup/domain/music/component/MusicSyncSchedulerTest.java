@@ -0,0 +1,161 @@
+package com.pi.stepup.domain.music.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pi.stepup.domain.music.dao.MusicApplyJdbcRepository;
+import com.pi.stepup.domain.music.dao.MusicApplyRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartBitmapRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.HeartRedisRepository;
+import com.pi.stepup.domain.music.dao.redis.MusicApplyRankingRedisRepository;
+import com.pi.stepup.domain.music.dto.statistics.HeartPairDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyHeartCntDto;
+import com.pi.stepup.domain.user.dao.UserRepository;
+import com.pi.stepup.domain.user.domain.User;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MusicSyncSchedulerTest {
+
+    @InjectMocks
+    MusicSyncScheduler musicSyncScheduler;
+
+    @Mock
+    MusicApplyRepository musicApplyRepository;
+
+    @Mock
+    MusicApplyJdbcRepository musicApplyJdbcRepository;
+
+    @Mock
+    HeartRedisRepository heartRedisRepository;
+
+    @Mock
+    HeartBitmapRedisRepository heartBitmapRedisRepository;
+
+    @Mock
+    MusicApplyRankingRedisRepository musicApplyRankingRedisRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    private final User user = User.builder().userId(1L).id("user").build();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 동기화 테스트 - 캐시와 DB의 차이만 추가/삭제")
+    @SuppressWarnings("unchecked")
+    public void checkHeartDiffTest() {
+        when(heartRedisRepository.popDirtyUser(anyLong()))
+            .thenReturn(List.of("user"))
+            .thenReturn(List.of());
+        when(heartRedisRepository.findAllUserHeart(List.of("user")))
+            .thenReturn(Map.of("user", Set.of(2L, 3L)));
+        when(userRepository.findAllByIdList(List.of("user"))).thenReturn(List.of(user));
+        when(musicApplyRepository.findAllHeartByUserIdList(List.of(1L))).thenReturn(List.of(
+            new HeartPairDto(10L, 1L, 1L), new HeartPairDto(11L, 1L, 2L)));
+        when(musicApplyRepository.findAllHeartCntByIdList(List.of(3L)))
+            .thenReturn(List.of(new MusicApplyHeartCntDto(3L, 0)));
+
+        musicSyncScheduler.checkHeart();
+
+        ArgumentCaptor<List<HeartPairDto>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(musicApplyJdbcRepository).batchDeleteHeart(List.of(10L));
+        verify(musicApplyJdbcRepository).batchInsertHeart(insertCaptor.capture());
+        assertThat(insertCaptor.getValue()).hasSize(1);
+        assertThat(insertCaptor.getValue().get(0).getUserId()).isEqualTo(1L);
+        assertThat(insertCaptor.getValue().get(0).getMusicApplyId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 동기화 테스트 - 좋아요를 모두 취소한 사용자는 DB 좋아요 전부 삭제")
+    public void checkHeartEmptyTest() {
+        when(heartRedisRepository.popDirtyUser(anyLong()))
+            .thenReturn(List.of("user"))
+            .thenReturn(List.of());
+        when(heartRedisRepository.findAllUserHeart(List.of("user")))
+            .thenReturn(Map.of("user", Set.of()));
+        when(userRepository.findAllByIdList(List.of("user"))).thenReturn(List.of(user));
+        when(musicApplyRepository.findAllHeartByUserIdList(List.of(1L))).thenReturn(List.of(
+            new HeartPairDto(10L, 1L, 1L)));
+
+        musicSyncScheduler.checkHeart();
+
+        verify(musicApplyJdbcRepository).batchDeleteHeart(List.of(10L));
+        verify(musicApplyJdbcRepository).batchInsertHeart(List.of());
+    }
+
+    @Test
+    @DisplayName("좋아요 동기화 테스트 - 삭제된 노래 신청의 좋아요는 추가하지 않음")
+    public void checkHeartDeletedMusicApplyTest() {
+        when(heartRedisRepository.popDirtyUser(anyLong()))
+            .thenReturn(List.of("user"))
+            .thenReturn(List.of());
+        when(heartRedisRepository.findAllUserHeart(List.of("user")))
+            .thenReturn(Map.of("user", Set.of(5L)));
+        when(userRepository.findAllByIdList(List.of("user"))).thenReturn(List.of(user));
+        when(musicApplyRepository.findAllHeartByUserIdList(List.of(1L))).thenReturn(List.of());
+        when(musicApplyRepository.findAllHeartCntByIdList(List.of(5L))).thenReturn(List.of());
+
+        musicSyncScheduler.checkHeart();
+
+        verify(musicApplyJdbcRepository).batchDeleteHeart(List.of());
+        verify(musicApplyJdbcRepository).batchInsertHeart(List.of());
+    }
+
+    @Test
+    @DisplayName("좋아요 동기화 테스트 - 캐시가 만료된 사용자는 DB를 변경하지 않음")
+    public void checkHeartExpiredTest() {
+        when(heartRedisRepository.popDirtyUser(anyLong()))
+            .thenReturn(List.of("user"))
+            .thenReturn(List.of());
+        when(heartRedisRepository.findAllUserHeart(List.of("user"))).thenReturn(Map.of());
+
+        musicSyncScheduler.checkHeart();
+
+        verify(musicApplyJdbcRepository, never()).batchDeleteHeart(anyList());
+        verify(musicApplyJdbcRepository, never()).batchInsertHeart(anyList());
+    }
+
+    @Test
+    @DisplayName("좋아요 동기화 실패 시 다시 dirty 처리 테스트")
+    public void checkHeartFailTest() {
+        when(heartRedisRepository.popDirtyUser(anyLong())).thenReturn(List.of("user"));
+        when(heartRedisRepository.findAllUserHeart(List.of("user")))
+            .thenThrow(new IllegalStateException("redis down"));
+
+        musicSyncScheduler.checkHeart();
+
+        verify(heartRedisRepository).markAllDirtyUser(List.of("user"));
+        verify(musicApplyJdbcRepository, never()).batchInsertHeart(anyList());
+    }
+}
@@ -0,0 +1,45 @@
+package com.pi.stepup.domain.music.dao.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HeartBitmapRedisRepositoryTest {
+
+    @Test
+    @DisplayName("0번 사용자는 첫 byte의 최상위 bit 테스트")
+    public void toBitmapFirstBitTest() {
+        byte[] bitmap = HeartBitmapRedisRepository.toBitmap(List.of(0L));
+
+        assertThat(bitmap).containsExactly((byte) 0x80);
+    }
+
+    @Test
+    @DisplayName("9번 사용자는 두 번째 byte의 0x40 테스트")
+    public void toBitmapSecondByteTest() {
+        byte[] bitmap = HeartBitmapRedisRepository.toBitmap(List.of(9L));
+
+        assertThat(bitmap).containsExactly((byte) 0x00, (byte) 0x40);
+    }
+
+    @Test
+    @DisplayName("Redis SETBIT과 같은 순서의 bitmap을 사용자 번호로 변환 테스트")
+    public void toUserNosTest() {
+        byte[] bitmap = new byte[]{(byte) 0x81, (byte) 0x40};
+
+        assertThat(HeartBitmapRedisRepository.toUserNos(bitmap))
+            .containsExactlyInAnyOrder(0L, 7L, 9L);
+    }
+
+    @Test
+    @DisplayName("bitmap 변환 후 다시 사용자 번호로 변환하면 같은 사용자 테스트")
+    public void roundTripTest() {
+        List<Long> userNos = List.of(1L, 8L, 15L, 16L, 255L, 1024L);
+
+        assertThat(HeartBitmapRedisRepository.toUserNos(
+            HeartBitmapRedisRepository.toBitmap(userNos)))
+            .containsExactlyInAnyOrderElementsOf(userNos);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pi.stepup.domain.music.dao.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class MusicApplyRankingRedisRepositoryTest {
+
+    private static final long HALF_LIFE = 86_400_000;
+
+    @InjectMocks
+    MusicApplyRankingRedisRepository musicApplyRankingRedisRepository;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Test
+    @DisplayName("좋아요 가중치는 HALF_LIFE 마다 두 배 테스트")
+    public void getWeightTest() {
+        long epoch = 1_700_000_000_000L;
+
+        assertThat(MusicApplyRankingRedisRepository.getWeight(epoch, epoch)).isEqualTo(1.0);
+        assertThat(MusicApplyRankingRedisRepository.getWeight(epoch, epoch + HALF_LIFE))
+            .isCloseTo(2.0, within(1e-9));
+        assertThat(MusicApplyRankingRedisRepository.getWeight(epoch, epoch + HALF_LIFE * 7))
+            .isCloseTo(128.0, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("기준 시각을 옮긴 뒤에도 점수가 새 기준 시각으로 계산한 값과 같음 테스트")
+    public void getRescaleFactorTest() {
+        long epoch = 1_700_000_000_000L;
+        long heartAt = epoch + HALF_LIFE * 2;
+        long newEpoch = epoch + HALF_LIFE * 7;
+
+        double score = MusicApplyRankingRedisRepository.getWeight(epoch, heartAt);
+        double rescaled = score * MusicApplyRankingRedisRepository.getRescaleFactor(epoch, newEpoch);
+
+        assertThat(rescaled).isCloseTo(
+            MusicApplyRankingRedisRepository.getWeight(newEpoch, heartAt), within(1e-12));
+        assertThat(rescaled).isCloseTo(1.0 / 32, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("Redis의 기준 시각이 다르면 다시 읽은 기준 시각으로 재시도 테스트")
+    @SuppressWarnings("unchecked")
+    public void changeHeartEpochMismatchTest() {
+        long storedEpoch = 1_700_000_000_000L;
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(),
+            any(), any()))
+            .thenReturn(List.of(0L, storedEpoch))
+            .thenReturn(List.of(1L, 0L));
+
+        musicApplyRankingRedisRepository.changeHeart(1L, 1, 3);
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(),
+            any(), any(), any(), any());
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(1L), eq(1),
+            eq(storedEpoch), any(), eq(3));
+    }
+}
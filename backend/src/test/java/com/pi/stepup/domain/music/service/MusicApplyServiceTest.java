@@ -1,10 +1,14 @@
 package com.pi.stepup.domain.music.service;
 
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.ADD_HEART_FAIL;
+import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_INVALID_CURSOR;
 import static com.pi.stepup.domain.music.constant.MusicExceptionMessage.MUSIC_APPLY_NOT_FOUND;
 import static com.pi.stepup.domain.user.constant.UserExceptionMessage.USER_NOT_FOUND;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.only;
@@ -12,19 +16,29 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.pi.stepup.domain.music.constant.MusicApplySortType;
 import com.pi.stepup.domain.music.dao.MusicApplyRepository;
 import com.pi.stepup.domain.music.domain.Heart;
 import com.pi.stepup.domain.music.domain.MusicApply;
+import com.pi.stepup.domain.music.dto.MusicApplyCursor;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.HeartSaveRequestDto;
 import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySaveRequestDto;
+import com.pi.stepup.domain.music.dto.MusicRequestDto.MusicApplySearchRequestDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.HeartResponseDto;
 import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyFindResponseDto;
+import com.pi.stepup.domain.music.dto.MusicResponseDto.MusicApplyPageResponseDto;
+import com.pi.stepup.domain.music.dto.statistics.MusicApplyFeedDto;
+import com.pi.stepup.domain.music.exception.HeartStatusException;
+import com.pi.stepup.domain.music.exception.MusicApplyBadRequestException;
 import com.pi.stepup.domain.music.exception.MusicApplyNotFoundException;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.domain.user.exception.UserNotFoundException;
 import com.pi.stepup.global.config.security.SecurityUtils;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +61,9 @@ class MusicApplyServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    MusicApplyRedisService musicApplyRedisService;
+
     private MusicApplySaveRequestDto musicApplySaveRequestDto;
     private HeartSaveRequestDto heartSaveRequestDto;
     private MusicApply musicApply;
@@ -108,6 +125,7 @@ class MusicApplyServiceTest {
 
             doReturn(madeMusicApply)
                 .when(musicApplyRepository).findAll(keyword);
+            when(musicApplyRedisService.getAllHeart(any(), any())).thenReturn(makeHeartMap());
 
             List<MusicApplyFindResponseDto> musicApplies = musicApplyService.readAllByKeyword(
                 keyword);
@@ -128,6 +146,7 @@ class MusicApplyServiceTest {
 
             doReturn(keywordMusicApply)
                 .when(musicApplyRepository).findAll(keyword);
+            when(musicApplyRedisService.getAllHeart(any(), any())).thenReturn(makeHeartMap());
 
             List<MusicApplyFindResponseDto> musicApplies = musicApplyService.readAllByKeyword(
                 keyword);
@@ -144,6 +163,7 @@ class MusicApplyServiceTest {
 
         doReturn(madeMusicApply)
             .when(musicApplyRepository).findAll(keyword);
+        when(musicApplyRedisService.getAllHeart(any(), any())).thenReturn(makeHeartMap());
 
         List<MusicApplyFindResponseDto> musicApplies = musicApplyService.readAllByKeyword(
             keyword);
@@ -162,6 +182,7 @@ class MusicApplyServiceTest {
 
             doReturn(writerMusicApply)
                 .when(musicApplyRepository).findById(user.getId());
+            when(musicApplyRedisService.getAllHeart(any(), any())).thenReturn(makeHeartMap());
 
             List<MusicApplyFindResponseDto> musicApplies = musicApplyService.readAllById();
             assertThat(musicApplies.size()).isEqualTo(writerMusicApply.size());
@@ -169,6 +190,58 @@ class MusicApplyServiceTest {
     }
 
 
+    @Test
+    @DisplayName("내 노래 신청 목록 좋아요순 페이지 조회 테스트")
+    public void readMusicApplyPageByHeartServiceTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
+            SecurityUtils.class)) {
+            securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
+                .thenReturn(user.getId());
+            List<MusicApplyFeedDto> musicApplyFeeds = List.of(
+                makeMusicApplyFeed(3L, 10), makeMusicApplyFeed(5L, 7), makeMusicApplyFeed(4L, 7));
+
+            when(musicApplyRepository.findAllFeed(any(), eq(user.getId()),
+                eq(MusicApplySortType.HEART), any(), anyInt())).thenReturn(musicApplyFeeds);
+            Map<Long, HeartResponseDto> heartMap = new HashMap<>();
+            heartMap.put(3L, HeartResponseDto.builder()
+                .musicApplyId(3L)
+                .heartCnt(11)
+                .canHeart(0)
+                .build());
+            when(musicApplyRedisService.getAllHeart(any(), any())).thenReturn(heartMap);
+
+            MusicApplyPageResponseDto page = musicApplyService.readAllById(
+                MusicApplySearchRequestDto.builder()
+                    .sort("heart")
+                    .size(2)
+                    .build());
+
+            assertThat(page.getContent().size()).isEqualTo(2);
+            assertThat(page.getContent().get(0).getHeartCnt()).isEqualTo(11);
+            assertThat(page.getContent().get(1).getHeartCnt()).isEqualTo(7);
+            assertThat(page.isHasNext()).isTrue();
+
+            MusicApplyCursor cursor = MusicApplyCursor.decode(page.getNextCursor(),
+                MusicApplySortType.HEART);
+            assertThat(cursor.getHeartCnt()).isEqualTo(7);
+            assertThat(cursor.getMusicApplyId()).isEqualTo(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서로 노래 신청 목록 조회 테스트")
+    public void readMusicApplyPageInvalidCursorServiceTest() {
+        String cursor = new MusicApplyCursor(MusicApplySortType.HEART, 7, 5L).encode();
+
+        assertThatThrownBy(() -> musicApplyService.readAllByKeyword(
+            MusicApplySearchRequestDto.builder()
+                .sort("newest")
+                .cursor(cursor)
+                .build()))
+            .isInstanceOf(MusicApplyBadRequestException.class)
+            .hasMessageContaining(MUSIC_APPLY_INVALID_CURSOR.getMessage());
+    }
+
     @Test
     @DisplayName("노래 신청 상세 조회 테스트")
     public void readOneMusicApplyServiceTest() {
@@ -238,13 +311,29 @@ class MusicApplyServiceTest {
             SecurityUtils.class)) {
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(userRepository.findById(any(String.class))).thenReturn(Optional.ofNullable(user));
-            when(musicApplyRepository.findOne(any())).thenReturn(Optional.ofNullable(musicApply));
-//            when(musicApplyRepository.insert(any(Heart.class))).thenReturn(heart);
+            when(musicApplyRedisService.saveHeart(user.getId(), musicApply.getMusicApplyId()))
+                .thenReturn(HeartResponseDto.builder().heartCnt(1).canHeart(0).build());
+
+            HeartResponseDto result = musicApplyService.createHeart(heartSaveRequestDto);
 
-            musicApplyService.createHeart(heartSaveRequestDto);
+            assertThat(result.getHeartCnt()).isEqualTo(1);
+            assertThat(result.getCanHeart()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("노래 신청 좋아요 중복 예외 테스트")
+    public void musicApplyHeartDuplicatedServiceTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
+            SecurityUtils.class)) {
+            securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
+                .thenReturn(user.getId());
+            when(musicApplyRedisService.saveHeart(user.getId(), musicApply.getMusicApplyId()))
+                .thenThrow(new HeartStatusException(ADD_HEART_FAIL.getMessage()));
 
-            assertThat(musicApply.getHeartCnt()).isEqualTo(1);
+            assertThatThrownBy(() -> musicApplyService.createHeart(heartSaveRequestDto))
+                .isInstanceOf(HeartStatusException.class)
+                .hasMessageContaining(ADD_HEART_FAIL.getMessage());
         }
     }
 
@@ -253,15 +342,15 @@ class MusicApplyServiceTest {
     public void musicApplyHeartCancelServiceTest() {
         try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
             SecurityUtils.class)) {
-            Long heartId = heart.getHeartId();
-
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(musicApplyRepository.findHeart(any(), any())).thenReturn(Optional.of(heart));
+            when(musicApplyRedisService.deleteHeart(user.getId(), musicApply.getMusicApplyId()))
+                .thenReturn(HeartResponseDto.builder().heartCnt(0).canHeart(1).build());
 
-            musicApplyService.deleteHeart(musicApply.getMusicApplyId());
+            HeartResponseDto result = musicApplyService.deleteHeart(musicApply.getMusicApplyId());
 
-            verify(musicApplyRepository, times(1)).deleteHeart(heartId);
+            assertThat(result.getCanHeart()).isEqualTo(1);
+            verify(musicApplyRepository, times(0)).deleteHeart(any());
         }
     }
 
@@ -272,7 +361,8 @@ class MusicApplyServiceTest {
             SecurityUtils.class)) {
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(musicApplyRepository.findHeart(any(), any())).thenReturn(Optional.empty());
+            when(musicApplyRedisService.getHeartStatus(user.getId(), musicApply.getMusicApplyId()))
+                .thenReturn(1);
 
             Integer canHeart = musicApplyService.findHeartStatus(musicApply.getMusicApplyId());
 
@@ -289,7 +379,8 @@ class MusicApplyServiceTest {
             SecurityUtils.class)) {
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(musicApplyRepository.findHeart(any(), any())).thenReturn(Optional.of(heart));
+            when(musicApplyRedisService.getHeartStatus(user.getId(), musicApply.getMusicApplyId()))
+                .thenReturn(0);
 
             Integer canHeart = musicApplyService.findHeartStatus(musicApply.getMusicApplyId());
 
@@ -303,6 +394,21 @@ class MusicApplyServiceTest {
         return musicApply;
     }
 
+    private Map<Long, HeartResponseDto> makeHeartMap() {
+        Map<Long, HeartResponseDto> heartMap = new HashMap<>();
+        heartMap.put(musicApply.getMusicApplyId(), HeartResponseDto.builder()
+            .musicApplyId(musicApply.getMusicApplyId())
+            .heartCnt(0)
+            .canHeart(1)
+            .build());
+        return heartMap;
+    }
+
+    private MusicApplyFeedDto makeMusicApplyFeed(Long musicApplyId, Integer heartCnt) {
+        return new MusicApplyFeedDto(musicApplyId, "title" + musicApplyId,
+            "artist" + musicApplyId, "content", "writer", null, heartCnt);
+    }
+
     private void makeHeart() {
         heart = Heart.builder()
             .user(user)
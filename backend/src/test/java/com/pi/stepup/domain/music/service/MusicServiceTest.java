@@ -8,8 +8,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.pi.stepup.domain.music.component.MusicCatalog;
 import com.pi.stepup.domain.music.dao.MusicAnswerRepository;
 import com.pi.stepup.domain.music.dao.MusicRepository;
 import com.pi.stepup.domain.music.domain.Music;
@@ -21,6 +23,7 @@ import com.pi.stepup.domain.music.exception.MusicNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +46,9 @@ class MusicServiceTest {
     @Mock
     private MusicAnswerRepository musicAnswerRepository;
 
+    @Mock
+    private MusicCatalog musicCatalog;
+
     private MusicSaveRequestDto musicSaveRequestDto;
     private Music music;
 
@@ -79,8 +85,9 @@ class MusicServiceTest {
     @Test
     @DisplayName("노래 한 곡 조회 테스트")
     public void readOneMusicServiceTest() {
-        when(musicRepository.findOne(any())).thenReturn(Optional.of(music));
-        when(musicAnswerRepository.findById(any())).thenReturn(Optional.of(MusicAnswer.builder()
+        when(musicCatalog.findOne(any())).thenReturn(Optional.of(MusicFindResponseDto.builder()
+            .music(music)
+            .musicAnswer(MusicAnswer.builder().build())
             .build()));
 
         MusicFindResponseDto result = musicService.readOne(music.getMusicId());
@@ -91,7 +98,7 @@ class MusicServiceTest {
     @Test
     @DisplayName("없는 노래를 조회할 때 MUSIC_NOT_FOUND 예외 테스트")
     public void readOneMusicNotFoundTest() {
-        when(musicRepository.findOne(any())).thenReturn(Optional.empty());
+        when(musicCatalog.findOne(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> musicService.readOne(music.getMusicId()))
             .isInstanceOf(MusicNotFoundException.class)
@@ -104,12 +111,9 @@ class MusicServiceTest {
         List<Music> makedMusic = makeMusic();
         String keyword = "";
 
-        doReturn(makedMusic)
-            .when(musicRepository)
+        doReturn(toMusicFindResponseDto(makedMusic))
+            .when(musicCatalog)
             .findAll(keyword);
-        doReturn(Optional.of(MusicAnswer.builder().build()))
-            .when(musicAnswerRepository)
-            .findById(any());
 
         List<MusicFindResponseDto> foundMusic = musicService.readAll(keyword);
 
@@ -121,12 +125,9 @@ class MusicServiceTest {
     public void readAllByKeywordServiceTest() {
         List<Music> makedMusic = makeMusic();
         String keyword = "1";
-        doReturn(makedMusic)
-            .when(musicRepository)
+        doReturn(toMusicFindResponseDto(makedMusic))
+            .when(musicCatalog)
             .findAll(keyword);
-        doReturn(Optional.of(MusicAnswer.builder().build()))
-            .when(musicAnswerRepository)
-            .findById(any());
 
         List<MusicFindResponseDto> foundMusic = musicService.readAll(keyword);
 
@@ -143,6 +144,23 @@ class MusicServiceTest {
             .hasMessageContaining(MUSIC_DELETE_FAIL.getMessage());
     }
 
+    @Test
+    @DisplayName("노래 추가 시 노래 목록 스냅샷 반영 테스트")
+    public void createMusicPutCatalogTest() {
+        musicService.create(musicSaveRequestDto);
+
+        verify(musicCatalog).put(any(Music.class), any(MusicAnswer.class));
+    }
+
+    private List<MusicFindResponseDto> toMusicFindResponseDto(List<Music> music) {
+        return music.stream()
+            .map(m -> MusicFindResponseDto.builder()
+                .music(m)
+                .musicAnswer(MusicAnswer.builder().build())
+                .build())
+            .collect(Collectors.toList());
+    }
+
     private List<Music> makeMusic() {
         List<Music> music = new ArrayList<>();
         for (int i = 0; i < 5; i++) {
@@ -0,0 +1,182 @@
+package com.pi.stepup.domain.rank.component;
+
+import static com.pi.stepup.domain.rank.constant.RankExceptionMessage.POINT_AWARD_QUEUE_FULL;
+import static com.pi.stepup.domain.rank.constant.RankName.SILVER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pi.stepup.domain.rank.dao.PointJdbcRepository;
+import com.pi.stepup.domain.rank.domain.Rank;
+import com.pi.stepup.domain.rank.dto.statistics.PointAwardDto;
+import com.pi.stepup.domain.rank.dto.statistics.PointUpdateResultDto;
+import com.pi.stepup.domain.rank.exception.PointAwardQueueFullException;
+import com.pi.stepup.domain.rank.service.PointRedisService;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PointAwardQueueTest {
+
+    @InjectMocks
+    PointAwardQueue pointAwardQueue;
+
+    @Mock
+    PointJdbcRepository pointJdbcRepository;
+
+    @Mock
+    PointRedisService pointRedisService;
+
+    @Mock
+    RankTable rankTable;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("적립 내역 배치 저장 및 사용자별 포인트 합산 반영 테스트")
+    public void flushTest() {
+        when(pointJdbcRepository.findAllUserNo(any())).thenReturn(Map.of("user", 1L));
+        when(pointRedisService.updatePoint(anyString(), anyInt()))
+            .thenReturn(new PointUpdateResultDto(30, false));
+
+        pointAwardQueue.add(makePointAward("user", 10));
+        pointAwardQueue.add(makePointAward("user", 20));
+        pointAwardQueue.flush();
+
+        verify(pointJdbcRepository, times(1)).batchInsertPointHistory(any(), anyMap());
+        verify(pointRedisService, times(1)).updatePoint("user", 30);
+        verify(pointRedisService, never()).updateRank(any(), any());
+        assertThat(pointAwardQueue.size()).isZero();
+        assertThat(pointAwardQueue.getStatus().getProcessedCnt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("등급이 바뀐 경우에만 등급 갱신 테스트")
+    public void flushRankChangedTest() {
+        Rank silver = Rank.builder().name(SILVER).startPoint(1000).endPoint(1999).build();
+        when(pointJdbcRepository.findAllUserNo(any())).thenReturn(Map.of("user", 1L));
+        when(pointRedisService.updatePoint("user", 100))
+            .thenReturn(new PointUpdateResultDto(1050, true));
+        when(rankTable.findOneByPoint(1050)).thenReturn(Optional.of(silver));
+
+        pointAwardQueue.add(makePointAward("user", 100));
+        pointAwardQueue.flush();
+
+        verify(pointRedisService).updateRank("user", SILVER);
+    }
+
+    @Test
+    @DisplayName("없는 사용자의 적립 제외 테스트")
+    public void flushUserNotFoundTest() {
+        when(pointJdbcRepository.findAllUserNo(any())).thenReturn(Map.of("user", 1L));
+        when(pointRedisService.updatePoint(anyString(), anyInt()))
+            .thenReturn(new PointUpdateResultDto(10, false));
+
+        pointAwardQueue.add(makePointAward("user", 10));
+        pointAwardQueue.add(makePointAward("deleted", 10));
+        pointAwardQueue.flush();
+
+        verify(pointJdbcRepository).batchInsertPointHistory(
+            argThat(pointAwardList -> pointAwardList.size() == 1), anyMap());
+        verify(pointRedisService, never()).updatePoint(eq("deleted"), anyInt());
+        assertThat(pointAwardQueue.getStatus().getDroppedCnt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패한 포인트는 다음 주기에 다시 반영 테스트")
+    public void flushRetryPendingPointTest() {
+        when(pointJdbcRepository.findAllUserNo(any())).thenReturn(Map.of("user", 1L));
+        when(pointRedisService.updatePoint("user", 10))
+            .thenThrow(new RuntimeException("redis"))
+            .thenReturn(new PointUpdateResultDto(10, false));
+
+        pointAwardQueue.add(makePointAward("user", 10));
+        pointAwardQueue.flush();
+        pointAwardQueue.flush();
+
+        verify(pointJdbcRepository, times(1)).batchInsertPointHistory(any(), anyMap());
+        verify(pointRedisService, times(2)).updatePoint("user", 10);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 배치는 다음 주기에 큐의 적립보다 먼저 저장 테스트")
+    public void flushRetryBatchFirstTest() {
+        when(pointJdbcRepository.findAllUserNo(any()))
+            .thenThrow(new RuntimeException("db"))
+            .thenReturn(Map.of("first", 1L, "second", 2L))
+            .thenReturn(Map.of("third", 3L));
+        when(pointRedisService.updatePoint(anyString(), anyInt()))
+            .thenReturn(new PointUpdateResultDto(10, false));
+
+        pointAwardQueue.add(makePointAward("first", 10));
+        pointAwardQueue.add(makePointAward("second", 10));
+        pointAwardQueue.flush();
+
+        assertThat(pointAwardQueue.size()).isZero();
+
+        pointAwardQueue.add(makePointAward("third", 10));
+        pointAwardQueue.flush();
+
+        InOrder inOrder = inOrder(pointJdbcRepository);
+        inOrder.verify(pointJdbcRepository).batchInsertPointHistory(
+            argThat(pointAwardList -> pointAwardList.size() == 2
+                && pointAwardList.get(0).getId().equals("first")
+                && pointAwardList.get(1).getId().equals("second")), anyMap());
+        inOrder.verify(pointJdbcRepository).batchInsertPointHistory(
+            argThat(pointAwardList -> pointAwardList.size() == 1
+                && pointAwardList.get(0).getId().equals("third")), anyMap());
+        assertThat(pointAwardQueue.getStatus().getProcessedCnt()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 직접 저장하지 않고 적립 거절 테스트")
+    public void addQueueFullExceptionTest() {
+        for (int i = 0; i < pointAwardQueue.getStatus().getCapacity(); i++) {
+            pointAwardQueue.add(makePointAward("user", 10));
+        }
+
+        assertThatThrownBy(() -> pointAwardQueue.add(makePointAward("user", 10)))
+            .isInstanceOf(PointAwardQueueFullException.class)
+            .hasMessage(POINT_AWARD_QUEUE_FULL.getMessage());
+        verify(pointJdbcRepository, never()).batchInsertPointHistory(any(), anyMap());
+        assertThat(pointAwardQueue.getStatus().getRejectedCnt()).isEqualTo(1);
+    }
+
+    private PointAwardDto makePointAward(String id, int point) {
+        return new PointAwardDto(id, 1L, null, 1, point, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,85 @@
+package com.pi.stepup.domain.rank.component;
+
+import static com.pi.stepup.domain.rank.constant.PointType.FIRST_PRIZE;
+import static com.pi.stepup.domain.rank.constant.RankName.BRONZE;
+import static com.pi.stepup.domain.rank.constant.RankName.GOLD;
+import static com.pi.stepup.domain.rank.constant.RankName.PLATINUM;
+import static com.pi.stepup.domain.rank.constant.RankName.SILVER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.pi.stepup.domain.rank.constant.RankName;
+import com.pi.stepup.domain.rank.dao.PointPolicyRepository;
+import com.pi.stepup.domain.rank.dao.RankRepository;
+import com.pi.stepup.domain.rank.domain.PointPolicy;
+import com.pi.stepup.domain.rank.domain.Rank;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RankTableTest {
+
+    @InjectMocks
+    RankTable rankTable;
+
+    @Mock
+    RankRepository rankRepository;
+
+    @Mock
+    PointPolicyRepository pointPolicyRepository;
+
+    @BeforeEach
+    public void init() {
+        when(rankRepository.findAll()).thenReturn(List.of(
+            makeRank(BRONZE, 0, 999),
+            makeRank(SILVER, 1000, 1999),
+            makeRank(GOLD, 2000, 3499),
+            makeRank(PLATINUM, 3500, 5000)
+        ));
+        when(pointPolicyRepository.findAll()).thenReturn(List.of(
+            PointPolicy.builder().pointType(FIRST_PRIZE).point(FIRST_PRIZE.getPoint()).build()
+        ));
+    }
+
+    @Test
+    @DisplayName("포인트로 등급 조회 테스트")
+    public void findOneByPointTest() {
+        assertThat(rankTable.findOneByPoint(0).map(Rank::getName)).contains(BRONZE);
+        assertThat(rankTable.findOneByPoint(999).map(Rank::getName)).contains(BRONZE);
+        assertThat(rankTable.findOneByPoint(1000).map(Rank::getName)).contains(SILVER);
+        assertThat(rankTable.findOneByPoint(5000).map(Rank::getName)).contains(PLATINUM);
+        assertThat(rankTable.findOneByPoint(5001)).isEmpty();
+        assertThat(rankTable.findOneByPoint(-1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등급 이름 조회 및 시작 포인트 테스트")
+    public void getRankByNameTest() {
+        assertThat(rankTable.getRankByName(GOLD).map(Rank::getStartPoint)).contains(2000);
+        assertThat(rankTable.getStartPoints()).containsExactly(0, 1000, 2000, 3500);
+    }
+
+    @Test
+    @DisplayName("등급 정보 갱신 시 version 증가 테스트")
+    public void reloadTest() {
+        long version = rankTable.reload();
+
+        assertThat(rankTable.reload()).isEqualTo(version + 1);
+        assertThat(rankTable.getVersion()).isEqualTo(version + 1);
+    }
+
+    private Rank makeRank(RankName name, int startPoint, int endPoint) {
+        return Rank.builder()
+            .name(name)
+            .startPoint(startPoint)
+            .endPoint(endPoint)
+            .rankImg("url")
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.pi.stepup.domain.rank.component;
+
+import static com.pi.stepup.domain.rank.constant.RankName.SILVER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pi.stepup.domain.rank.dao.PointJdbcRepository;
+import com.pi.stepup.domain.rank.dao.redis.PointRedisRepository;
+import com.pi.stepup.domain.rank.domain.Rank;
+import com.pi.stepup.domain.rank.service.PointRedisService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SyncSchedulerTest {
+
+    @InjectMocks
+    SyncScheduler syncScheduler;
+
+    @Mock
+    PointRedisRepository pointRedisRepository;
+
+    @Mock
+    PointRedisService pointRedisService;
+
+    @Mock
+    PointJdbcRepository pointJdbcRepository;
+
+    @Mock
+    RankTable rankTable;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("변경된 사용자 포인트/등급 DB 반영 후 캐시 삭제 테스트")
+    @SuppressWarnings("unchecked")
+    public void syncTest() {
+        Rank silver = Rank.builder().name(SILVER).startPoint(1000).endPoint(1999).build();
+        Map<String, Integer> pointMap = Map.of("user", 1500);
+        when(pointRedisRepository.popDirty(anyLong()))
+            .thenReturn(List.of("user", "expired"))
+            .thenReturn(List.of());
+        when(pointRedisService.getAllCachedPoint(List.of("user", "expired")))
+            .thenReturn(pointMap);
+        when(rankTable.findOneByPoint(1500)).thenReturn(Optional.of(silver));
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        syncScheduler.syncExpiredDataToDB();
+
+        verify(pointJdbcRepository).batchUpdatePointAndRank(pointMap,
+            Collections.singletonMap("user", silver.getRankId()));
+        verify(pointRedisRepository).deleteAllSynced(pointMap);
+        verify(pointRedisRepository, never()).markAllDirty(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 캐시를 지우지 않고 다시 dirty 처리 테스트")
+    public void syncFailTest() {
+        when(pointRedisRepository.popDirty(anyLong())).thenReturn(List.of("user"));
+        when(pointRedisService.getAllCachedPoint(List.of("user")))
+            .thenReturn(Map.of("user", 1500));
+        doThrow(new DataAccessResourceFailureException("db down"))
+            .when(transactionTemplate).executeWithoutResult(any());
+
+        syncScheduler.syncExpiredDataToDB();
+
+        verify(pointRedisRepository, never()).deleteAllSynced(anyMap());
+        verify(pointRedisRepository).markAllDirty(List.of("user"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.pi.stepup.domain.rank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
+import com.pi.stepup.domain.rank.dto.RankRequestDto.LeaderboardRequestDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.LeaderboardFindResponseDto;
+import com.pi.stepup.domain.rank.dto.RankResponseDto.MyLeaderboardFindResponseDto;
+import com.pi.stepup.domain.user.dao.UserRepository;
+import com.pi.stepup.domain.user.domain.User;
+import com.pi.stepup.global.config.security.SecurityUtils;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @InjectMocks
+    LeaderboardServiceImpl leaderboardService;
+
+    @Mock
+    LeaderboardRedisRepository leaderboardRedisRepository;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Mock
+    PointRedisService pointRedisService;
+
+    @Test
+    @DisplayName("리더보드 상위 조회 테스트 - 동점자는 같은 순위")
+    public void readTopLeaderboardServiceTest() {
+        when(leaderboardRedisRepository.findAll(null, 0, 9))
+            .thenReturn(makeTuples(new String[]{"a", "b", "c", "d"},
+                new int[]{300, 200, 200, 100}));
+        when(userRepository.findAllByIdList(any()))
+            .thenReturn(makeUsers("a", "b", "c", "d"));
+
+        List<LeaderboardFindResponseDto> leaderboard = leaderboardService.readTop(
+            LeaderboardRequestDto.builder().build());
+
+        assertThat(leaderboard.stream().map(LeaderboardFindResponseDto::getRank)
+            .collect(Collectors.toList())).containsExactly(1L, 2L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("내 주변 리더보드 조회 테스트 - 첫 사용자 순위는 더 높은 포인트 사용자 수로 계산")
+    public void readAroundLeaderboardServiceTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
+            SecurityUtils.class)) {
+            securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId).thenReturn("c");
+            when(leaderboardRedisRepository.findPosition(1L, "c")).thenReturn(10L);
+            when(leaderboardRedisRepository.findAll(1L, 9, 11))
+                .thenReturn(makeTuples(new String[]{"b", "c", "d"}, new int[]{50, 50, 40}));
+            when(leaderboardRedisRepository.countHigher(1L, 50)).thenReturn(7L);
+            when(userRepository.findAllByIdList(any()))
+                .thenReturn(makeUsers("b", "c", "d"));
+
+            List<LeaderboardFindResponseDto> leaderboard = leaderboardService.readAround(
+                LeaderboardRequestDto.builder().countryId(1L).size(1).build());
+
+            assertThat(leaderboard.stream().map(LeaderboardFindResponseDto::getRank)
+                .collect(Collectors.toList())).containsExactly(8L, 8L, 12L);
+        }
+    }
+
+    @Test
+    @DisplayName("리더보드 내 순위 조회 테스트")
+    public void readMyRankServiceTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
+            SecurityUtils.class)) {
+            securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId).thenReturn("c");
+            when(leaderboardRedisRepository.findPoint(null, "c")).thenReturn(50.0);
+            when(leaderboardRedisRepository.countHigher(null, 50.0)).thenReturn(7L);
+            when(leaderboardRedisRepository.count(null)).thenReturn(20L);
+
+            MyLeaderboardFindResponseDto result = leaderboardService.readMyRank(
+                LeaderboardRequestDto.builder().build());
+
+            assertThat(result.getRank()).isEqualTo(8L);
+            assertThat(result.getPoint()).isEqualTo(50);
+            assertThat(result.getTotalCnt()).isEqualTo(20L);
+        }
+    }
+
+    private Set<TypedTuple<Object>> makeTuples(String[] ids, int[] points) {
+        Set<TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            tuples.add(new DefaultTypedTuple<>(ids[i], (double) points[i]));
+        }
+        return tuples;
+    }
+
+    private List<User> makeUsers(String... ids) {
+        return Arrays.stream(ids)
+            .map(id -> User.builder().id(id).nickname(id).build())
+            .collect(Collectors.toList());
+    }
+}
@@ -1,27 +1,29 @@
 package com.pi.stepup.domain.rank.service;
 
 import static com.pi.stepup.domain.rank.constant.PointType.FIRST_PRIZE;
-import static com.pi.stepup.domain.rank.constant.RankName.BRONZE;
-import static com.pi.stepup.domain.rank.constant.RankName.PLATINUM;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.pi.stepup.domain.dance.component.DanceScheduleIndex;
 import com.pi.stepup.domain.dance.constant.DanceType;
 import com.pi.stepup.domain.dance.dao.DanceRepository;
 import com.pi.stepup.domain.dance.domain.RandomDance;
+import com.pi.stepup.domain.dance.exception.DanceBadRequestException;
+import com.pi.stepup.domain.rank.component.PointAwardQueue;
+import com.pi.stepup.domain.rank.component.RankTable;
 import com.pi.stepup.domain.rank.dao.PointHistoryRepository;
-import com.pi.stepup.domain.rank.dao.PointPolicyRepository;
-import com.pi.stepup.domain.rank.dao.RankRepository;
 import com.pi.stepup.domain.rank.domain.PointHistory;
 import com.pi.stepup.domain.rank.domain.PointPolicy;
-import com.pi.stepup.domain.rank.domain.Rank;
 import com.pi.stepup.domain.rank.dto.RankRequestDto.PointUpdateRequestDto;
 import com.pi.stepup.domain.rank.dto.RankResponseDto.PointHistoryFindResponseDto;
-import com.pi.stepup.domain.user.dao.UserRepository;
+import com.pi.stepup.domain.rank.exception.PointPolicyNotFoundException;
 import com.pi.stepup.domain.user.domain.User;
 import com.pi.stepup.global.config.security.SecurityUtils;
 import java.util.ArrayList;
@@ -43,23 +45,25 @@ class PointHistoryServiceTest {
     PointHistoryServiceImpl pointHistoryService;
 
     @Mock
-    UserRepository userRepository;
+    PointHistoryRepository pointHistoryRepository;
 
     @Mock
-    PointPolicyRepository pointPolicyRepository;
+    RankTable rankTable;
 
     @Mock
-    PointHistoryRepository pointHistoryRepository;
+    PointRedisService pointRedisService;
 
     @Mock
-    DanceRepository danceRepository;
+    PointAwardQueue pointAwardQueue;
 
     @Mock
-    RankRepository rankRepository;
+    DanceScheduleIndex danceScheduleIndex;
+
+    @Mock
+    DanceRepository danceRepository;
 
     private PointHistory pointHistory;
     private User user;
-    private Rank rank;
     private PointPolicy pointPolicy;
     private PointUpdateRequestDto pointUpdateRequestDto;
     private RandomDance randomDance;
@@ -76,46 +80,54 @@ class PointHistoryServiceTest {
     }
 
     @Test
-    @DisplayName("포인트 적립 테스트")
+    @DisplayName("포인트 적립 테스트 - 적립 큐에 넣고 바로 응답한다.")
     public void pointUpdateServiceTest() {
         try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
             SecurityUtils.class)) {
-            makeBronzeRank();
-
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(userRepository.findById(any())).thenReturn(Optional.ofNullable(user));
-            when(danceRepository.findOne(any())).thenReturn(Optional.ofNullable(randomDance));
-            when(rankRepository.findOneByPoint(any())).thenReturn(Optional.ofNullable(rank));
-            when(pointPolicyRepository.findOne(any())).thenReturn(Optional.ofNullable(pointPolicy));
+            when(rankTable.findPointPolicy(any())).thenReturn(Optional.ofNullable(pointPolicy));
+            when(danceScheduleIndex.contains(1L)).thenReturn(true);
 
             pointHistoryService.update(pointUpdateRequestDto);
 
-            assertThat(user.getPoint()).isEqualTo(FIRST_PRIZE.getPoint() * 2);
-
-            verify(pointHistoryRepository).insert(any());
+            verify(pointAwardQueue).add(argThat(pointAward ->
+                pointAward.getId().equals(user.getId())
+                    && pointAward.getPoint() == FIRST_PRIZE.getPoint() * 2
+                    && pointAward.getCount() == 2));
+            verify(pointRedisService, never()).updatePoint(any(), any());
         }
     }
 
     @Test
-    @DisplayName("포인트 MAX 이상 적립 테스트 - MAX 값을 반환한다.")
-    public void pointUpdateMaxServiceTest() {
+    @DisplayName("없는 포인트 정책 적립 테스트 - 큐에 넣지 않는다.")
+    public void pointUpdatePolicyNotFoundServiceTest() {
         try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
             SecurityUtils.class)) {
-            user.updatePoint(5000);
-            makePlatinumRank();
-
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(userRepository.findById(any())).thenReturn(Optional.ofNullable(user));
-            when(danceRepository.findOne(any())).thenReturn(Optional.ofNullable(randomDance));
-            when(rankRepository.findOneByPoint(any())).thenReturn(Optional.ofNullable(rank));
-            when(pointPolicyRepository.findOne(any())).thenReturn(Optional.ofNullable(pointPolicy));
+            when(rankTable.findPointPolicy(any())).thenReturn(Optional.empty());
 
-            pointHistoryService.update(pointUpdateRequestDto);
+            assertThatThrownBy(() -> pointHistoryService.update(pointUpdateRequestDto))
+                .isInstanceOf(PointPolicyNotFoundException.class);
+            verify(pointAwardQueue, never()).add(any());
+        }
+    }
 
-            assertThat(user.getPoint()).isEqualTo(5000);
-            assertThat(user.getRank().getName()).isEqualTo(PLATINUM);
+    @Test
+    @DisplayName("없는 랜덤 플레이 댄스 적립 테스트 - 큐에 넣지 않는다.")
+    public void pointUpdateDanceNotFoundServiceTest() {
+        try (MockedStatic<SecurityUtils> securityUtilsMockedStatic = mockStatic(
+            SecurityUtils.class)) {
+            securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
+                .thenReturn(user.getId());
+            when(rankTable.findPointPolicy(any())).thenReturn(Optional.ofNullable(pointPolicy));
+            when(danceScheduleIndex.contains(1L)).thenReturn(false);
+            when(danceRepository.findOne(1L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> pointHistoryService.update(pointUpdateRequestDto))
+                .isInstanceOf(DanceBadRequestException.class);
+            verify(pointAwardQueue, never()).add(any());
         }
     }
 
@@ -143,7 +155,7 @@ class PointHistoryServiceTest {
             SecurityUtils.class)) {
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(userRepository.findById(any())).thenReturn(Optional.ofNullable(user));
+            when(pointRedisService.getPoint(user.getId())).thenReturn(user.getPoint());
 
             int point = pointHistoryService.readPoint();
 
@@ -199,16 +211,4 @@ class PointHistoryServiceTest {
         }
         return pointHistories;
     }
-
-    private void makePlatinumRank() {
-        rank = Rank.builder()
-            .name(PLATINUM)
-            .build();
-    }
-
-    private void makeBronzeRank() {
-        rank = Rank.builder()
-            .name(BRONZE)
-            .build();
-    }
-}
\ No newline at end of file
+}
@@ -7,8 +7,8 @@ import static org.mockito.Mockito.when;
 
 import com.pi.stepup.domain.dance.constant.DanceType;
 import com.pi.stepup.domain.dance.domain.RandomDance;
+import com.pi.stepup.domain.rank.component.RankTable;
 import com.pi.stepup.domain.rank.constant.RankName;
-import com.pi.stepup.domain.rank.dao.RankRepository;
 import com.pi.stepup.domain.rank.domain.PointHistory;
 import com.pi.stepup.domain.rank.domain.PointPolicy;
 import com.pi.stepup.domain.rank.domain.Rank;
@@ -33,7 +33,10 @@ class RankServiceTest {
     RankServiceImpl rankService;
 
     @Mock
-    RankRepository rankRepository;
+    RankTable rankTable;
+
+    @Mock
+    PointRedisService pointRedisService;
 
     @Mock
     UserRepository userRepository;
@@ -60,7 +63,8 @@ class RankServiceTest {
             SecurityUtils.class)) {
             securityUtilsMockedStatic.when(SecurityUtils::getLoggedInUserId)
                 .thenReturn(user.getId());
-            when(userRepository.findById(user.getId())).thenReturn(Optional.ofNullable(user));
+            when(pointRedisService.getRankName(user.getId())).thenReturn(RankName.BRONZE);
+            when(rankTable.getRankByName(RankName.BRONZE)).thenReturn(Optional.ofNullable(rank));
 
             UserRankFindResponseDto result = rankService.readOne();
 
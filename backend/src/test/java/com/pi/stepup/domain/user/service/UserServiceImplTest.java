@@ -15,6 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.pi.stepup.domain.rank.dao.redis.LeaderboardRedisRepository;
 import com.pi.stepup.domain.rank.domain.Rank;
 import com.pi.stepup.domain.user.dao.UserRepository;
 import com.pi.stepup.domain.user.domain.Country;
@@ -61,6 +62,9 @@ class UserServiceImplTest {
     @Mock
     private UserRedisService userRedisService;
 
+    @Mock
+    private LeaderboardRedisRepository leaderboardRedisRepository;
+
     private final String TEST_EMAIL = "test@test.com";
     private final String TEST_ID = "testId";
     private final String TEST_NICKNAME = "testNickname";
@@ -343,6 +347,8 @@ class UserServiceImplTest {
 
             // then
             assertUpdatedInfo(user, updateUserRequestDto);
+            verify(leaderboardRedisRepository, times(1))
+                .updateCountry(user.getId(), updateUserRequestDto.getCountryId());
         }
     }
 